@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.benchmarks;
+
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The class represents a utility that builds payloads and feign responses for benchmarks.
+ */
+final class BenchmarkPayloads {
+
+  static final Map<String, Collection<String>> JSON_HEADERS =
+      Map.of("Content-Type", List.of("application/json"));
+
+  private static final Request REQUEST = Request.create(Request.HttpMethod.GET,
+      "http://registry/resource/id", Map.of(), new byte[0], StandardCharsets.UTF_8,
+      new RequestTemplate());
+
+  /**
+   * Build json array of entities that is at least of the specified size
+   *
+   * @param size size of json in bytes, empty array is returned for zero size
+   * @return json bytes
+   */
+  static byte[] jsonArray(int size) {
+    if (size == 0) {
+      return new byte[0];
+    }
+    var json = new StringBuilder(size + 128).append('[');
+    for (var i = 0; json.length() < size; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"id\":\"3fa85f64-5717-4562-b3fc-").append(String.format("%012d", i))
+          .append("\",\"name\":\"entity name ").append(i)
+          .append("\",\"amount\":").append(i * 7)
+          .append(",\"active\":").append(i % 2 == 0)
+          .append(",\"tags\":[\"first\",\"second\"]}");
+    }
+    return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  static Response response(int status, byte[] body) {
+    return Response.builder()
+        .status(status)
+        .reason("reason")
+        .headers(JSON_HEADERS)
+        .request(REQUEST)
+        .body(body)
+        .build();
+  }
+
+  private BenchmarkPayloads() {
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.benchmarks;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import com.epam.digital.data.platform.datafactory.feign.util.SpinJsonUtils;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.camunda.spin.json.SpinJsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link ConnectorResponse} construction with parsed and with raw body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectorResponseBenchmark {
+
+  private byte[] rawBody;
+  private SpinJsonNode responseBody;
+
+  @Setup
+  public void setup() throws IOException {
+    rawBody = BenchmarkPayloads.jsonArray(1024);
+    responseBody = SpinJsonUtils.read(rawBody);
+  }
+
+  @Benchmark
+  public ConnectorResponse buildWithResponseBody() {
+    return ConnectorResponse.builder()
+        .statusCode(200)
+        .responseBody(responseBody)
+        .headers(BenchmarkPayloads.JSON_HEADERS)
+        .build();
+  }
+
+  @Benchmark
+  public ConnectorResponse buildWithRawBody() {
+    return ConnectorResponse.builder()
+        .statusCode(200)
+        .rawBody(rawBody)
+        .headers(BenchmarkPayloads.JSON_HEADERS)
+        .build();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryErrorDecoder;
+import com.epam.digital.data.platform.starter.localization.MessageResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.codec.ErrorDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link DataFactoryErrorDecoder#decode} for every status branch, 500 status covers
+ * fallback branch. Message resolver returns constant message, so localization cost isn't included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorDecoderBenchmark {
+
+  private static final String SYSTEM_ERROR = "{\"traceId\":\"6d4f1a2b3c\",\"code\":\"%s\","
+      + "\"message\":\"Error message\",\"details\":null}";
+  private static final String VALIDATION_ERROR = "{\"traceId\":\"6d4f1a2b3c\","
+      + "\"code\":\"VALIDATION_ERROR\",\"details\":{\"errors\":[{\"message\":\"must not be null\","
+      + "\"field\":\"name\",\"value\":\"null\"},{\"message\":\"size must be between 1 and 10\","
+      + "\"field\":\"code\",\"value\":\"value\"}]}}";
+
+  @Param({"401", "403", "404", "409", "422", "503", "500"})
+  private int status;
+
+  private byte[] body;
+  private DataFactoryErrorDecoder errorDecoder;
+
+  @Setup
+  public void setup() {
+    var messageResolver = mock(MessageResolver.class, invocation -> "Localized message");
+    errorDecoder = new DataFactoryErrorDecoder(new ObjectMapper(), messageResolver,
+        new ErrorDecoder.Default());
+    body = (status == 422 ? VALIDATION_ERROR : String.format(SYSTEM_ERROR, code()))
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public Exception decode() {
+    return errorDecoder.decode("DataFactoryFeignClient#performGet(String,String,HttpHeaders)",
+        BenchmarkPayloads.response(status, body));
+  }
+
+  private String code() {
+    switch (status) {
+      case 401:
+        return "AUTHENTICATION_FAILED";
+      case 403:
+        return "FORBIDDEN_OPERATION";
+      case 404:
+        return "NOT_FOUND";
+      case 409:
+        return "CONSTRAINT_VIOLATION";
+      default:
+        return "RUNTIME_ERROR";
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.benchmarks;
+
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryResponseDecoder;
+import com.epam.digital.data.platform.datafactory.feign.enums.ResponseDecodingMode;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link DataFactoryResponseDecoder#decode} for body sizes from empty to 50 MB in
+ * every decoding mode. {@code decodeAndReadBody} also accesses parsed body, so lazy mode is
+ * compared with eager ones for callers that read the body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ResponseDecoderBenchmark {
+
+  @Param({"0", "1024", "65536", "1048576", "10485760", "52428800"})
+  private int bodySize;
+
+  @Param({"STRING", "STREAMING", "LAZY"})
+  private ResponseDecodingMode mode;
+
+  private byte[] body;
+  private DataFactoryResponseDecoder responseDecoder;
+
+  @Setup
+  public void setup() {
+    body = BenchmarkPayloads.jsonArray(bodySize);
+    responseDecoder = new DataFactoryResponseDecoder(mode);
+  }
+
+  @Benchmark
+  public Object decode() throws IOException {
+    return responseDecoder.decode(BenchmarkPayloads.response(200, body), ConnectorResponse.class);
+  }
+
+  @Benchmark
+  public Object decodeAndReadBody() throws IOException {
+    var connectorResponse = (ConnectorResponse) responseDecoder.decode(
+        BenchmarkPayloads.response(200, body), ConnectorResponse.class);
+    return connectorResponse.getResponseBody();
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.datafactory.factory.builder.StubRequest;
+import com.epam.digital.data.platform.starter.errorhandling.exception.ValidationException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+class DataFactoryAsyncClientIT extends BaseIT {
+
+  @Autowired
+  private DataFactoryAsyncClient dataFactoryAsyncClient;
+  @Autowired
+  private PlatformGatewayAsyncClient platformGatewayAsyncClient;
+
+  @Test
+  void shouldPerformGetAsync() {
+    var resource = "testResource";
+    var id = "testAsyncId";
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+
+    mockDataFactoryFeignClient(StubRequest.builder()
+        .path(String.format("/%s/%s", resource, id))
+        .method(HttpMethod.GET)
+        .requestHeaders(headers)
+        .status(200)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .responseBody("{\"testGet\": \"dataToRead\"}")
+        .build());
+
+    var response = dataFactoryAsyncClient.performGet(resource, id, headers).join();
+
+    assertThat(response.getResponseBody().prop("testGet").value()).isEqualTo("dataToRead");
+  }
+
+  @Test
+  void shouldCompleteExceptionallyWithDecodedError() {
+    var resource = "testResource";
+    var id = "testAsyncNotFoundId";
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+
+    mockExceptionDataFactoryFeignClient(StubRequest.builder()
+        .path(String.format("/%s/%s", resource, id))
+        .method(HttpMethod.GET)
+        .status(404)
+        .responseBody("{\"code\": \"NOT_FOUND\"}")
+        .build());
+
+    var future = dataFactoryAsyncClient.performGet(resource, id, headers);
+
+    assertThatThrownBy(future::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(ValidationException.class);
+  }
+
+  @Test
+  void shouldPerformSearchAsyncInAnotherRegistry() {
+    var targetRegistry = "testTargetRegistry";
+    var resource = "testAsyncResource";
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+
+    mockPlatformGatewayFeignClient(StubRequest.builder()
+        .path(String.format("/data-factory/%s/search/%s", targetRegistry, resource))
+        .method(HttpMethod.POST)
+        .status(200)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .responseBody("[{\"testGet\": \"dataToSearch\"}]")
+        .build());
+
+    var response = platformGatewayAsyncClient
+        .performSearch(targetRegistry, resource, Map.of("id", "testId"), headers).join();
+
+    assertThat(response.getResponseBody().elements().get(0).prop("testGet").value())
+        .isEqualTo("dataToSearch");
+  }
+}
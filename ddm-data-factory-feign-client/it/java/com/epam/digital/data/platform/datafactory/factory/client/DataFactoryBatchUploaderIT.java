@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.datafactory.factory.builder.StubRequest;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+class DataFactoryBatchUploaderIT extends BaseIT {
+
+  @Autowired
+  private DataFactoryBatchUploader dataFactoryBatchUploader;
+  @Autowired
+  @Qualifier("dataFactoryFeignClientWireMock")
+  private WireMockServer dataFactoryFeignClientWireMock;
+
+  @Test
+  void shouldUploadJsonArrayByChunks() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockChunk("json-upload", "[{\"id\": 1}, {\"id\": 2}]");
+    mockChunk("json-upload", "[{\"id\": 3}, {\"id\": 4}]");
+    mockChunk("json-upload", "[{\"id\": 5}]");
+
+    var result = dataFactoryBatchUploader.upload("json-upload", "list",
+        "[{\"id\": 1}, {\"id\": 2}, {\"id\": 3}, {\"id\": 4}, {\"id\": 5}]", headers,
+        BatchUploadOptions.rows(2));
+
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getChunks()).extracting(BatchChunkResult::getIndex)
+        .containsExactly(0, 1, 2);
+    assertThat(result.getUploadedRows()).isEqualTo(5);
+    assertThat(result.getRowsPerSecond()).isPositive();
+  }
+
+  @Test
+  void shouldRepeatCsvHeaderInEachChunk() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockDataFactoryFeignClient(StubRequest.builder()
+        .path("/csv-upload/csv")
+        .method(HttpMethod.POST)
+        .requestBody(equalTo("id,name\n1,\"first\nline\"\n"))
+        .status(201)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .build());
+    mockDataFactoryFeignClient(StubRequest.builder()
+        .path("/csv-upload/csv")
+        .method(HttpMethod.POST)
+        .requestBody(equalTo("id,name\n2,second\n"))
+        .status(201)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .build());
+
+    var result = dataFactoryBatchUploader.upload("csv-upload", "csv",
+        "id,name\n1,\"first\nline\"\n2,second", headers, BatchUploadOptions.rows(1));
+
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getChunks()).hasSize(2);
+  }
+
+  @Test
+  void shouldRetryFailedChunkOnly() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockChunk("retry-upload", "[{\"id\": 1}]");
+    dataFactoryFeignClientWireMock.stubFor(post(urlPathEqualTo("/retry-upload/list"))
+        .withRequestBody(equalToJson("[{\"id\": 2}]"))
+        .inScenario("retry").whenScenarioStateIs(Scenario.STARTED)
+        .willReturn(aResponse().withStatus(500).withBody("{\"code\": \"RUNTIME_ERROR\"}"))
+        .willSetStateTo("failed"));
+    dataFactoryFeignClientWireMock.stubFor(post(urlPathEqualTo("/retry-upload/list"))
+        .withRequestBody(equalToJson("[{\"id\": 2}]"))
+        .inScenario("retry").whenScenarioStateIs("failed")
+        .willReturn(aResponse().withStatus(201)));
+
+    var result = dataFactoryBatchUploader.upload("retry-upload", "list",
+        "[{\"id\": 1}, {\"id\": 2}]", headers,
+        BatchUploadOptions.rows(1).toBuilder().retryBackoff(Duration.ofMillis(10)).build());
+
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getChunks()).extracting(BatchChunkResult::getAttempts)
+        .containsExactly(1, 2);
+    dataFactoryFeignClientWireMock.verify(1, postRequestedFor(urlPathEqualTo("/retry-upload/list"))
+        .withRequestBody(equalToJson("[{\"id\": 1}]")));
+  }
+
+  @Test
+  void shouldReportChunkThatIsNotRetried() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockExceptionDataFactoryFeignClient(StubRequest.builder()
+        .path("/invalid-upload/list")
+        .method(HttpMethod.POST)
+        .status(422)
+        .responseBody("{\"code\": \"UNPROCESSABLE_ENTITY\"}")
+        .build());
+
+    var result = dataFactoryBatchUploader.upload("invalid-upload", "list", "[{\"id\": 2}]",
+        headers, BatchUploadOptions.rows(1));
+
+    assertThat(result.isSuccessful()).isFalse();
+    assertThat(result.getFailedChunks()).singleElement()
+        .satisfies(chunk -> assertThat(chunk.getAttempts()).isEqualTo(1));
+  }
+
+  private void mockChunk(String resource, String requestBody) {
+    mockDataFactoryFeignClient(StubRequest.builder()
+        .path("/" + resource + "/list")
+        .method(HttpMethod.POST)
+        .requestBody(equalToJson(requestBody))
+        .status(201)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .build());
+  }
+}
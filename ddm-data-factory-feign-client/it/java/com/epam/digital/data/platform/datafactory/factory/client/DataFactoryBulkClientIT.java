@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.datafactory.factory.builder.StubRequest;
+import com.epam.digital.data.platform.starter.errorhandling.exception.ValidationException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+class DataFactoryBulkClientIT extends BaseIT {
+
+  @Autowired
+  private DataFactoryBulkClient dataFactoryBulkClient;
+  @Autowired
+  private PlatformGatewayBulkClient platformGatewayBulkClient;
+
+  @Test
+  void shouldGetEntitiesInOrderOfIdsWithPartialFailures() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    for (var id : List.of("1", "2", "4")) {
+      mockDataFactoryFeignClient(StubRequest.builder()
+          .path("/bulk-entity/" + id)
+          .method(HttpMethod.GET)
+          .status(200)
+          .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+          .responseBody("{\"id\": \"" + id + "\"}")
+          .build());
+    }
+    mockExceptionDataFactoryFeignClient(StubRequest.builder()
+        .path("/bulk-entity/3")
+        .method(HttpMethod.GET)
+        .status(404)
+        .responseBody("{\"code\": \"NOT_FOUND\"}")
+        .build());
+
+    var result = dataFactoryBulkClient.performBulkGet("bulk-entity", List.of("4", "3", "1", "2"),
+        headers, 2);
+
+    assertThat(result.isComplete()).isFalse();
+    assertThat(result.getItems()).extracting(BulkGetItem::getId)
+        .containsExactly("4", "3", "1", "2");
+    assertThat(result.getResponses()).containsOnlyKeys("4", "1", "2");
+    assertThat(result.getResponses().get("4").getResponseBody().prop("id").value()).isEqualTo("4");
+    assertThat(result.getFailures().get("3")).isInstanceOfSatisfying(ValidationException.class,
+        exception -> assertThat(exception.getCode()).isEqualTo("NOT_FOUND"));
+  }
+
+  @Test
+  void shouldGetEntitiesOfRegistryTarget() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    for (var id : List.of("1", "2")) {
+      mockPlatformGatewayFeignClient(StubRequest.builder()
+          .path("/data-factory/other-registry/bulk-entity/" + id)
+          .method(HttpMethod.GET)
+          .status(200)
+          .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+          .responseBody("{\"id\": \"" + id + "\"}")
+          .build());
+    }
+
+    var result = platformGatewayBulkClient.performBulkGet("other-registry", "bulk-entity",
+        List.of("2", "1", "2"), headers);
+
+    assertThat(result.isComplete()).isTrue();
+    assertThat(result.getItems()).extracting(BulkGetItem::getId).containsExactly("2", "1", "2");
+  }
+}
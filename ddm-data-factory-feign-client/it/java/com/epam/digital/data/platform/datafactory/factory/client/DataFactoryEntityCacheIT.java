@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.datafactory.factory.builder.StubRequest;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+class DataFactoryEntityCacheIT extends BaseIT {
+
+  private static final String SEARCH_RESOURCE = "cached-entity-search";
+  private static final String RESOURCE = "cached-entity";
+
+  @Autowired
+  private DataFactoryFeignClient dataFactoryFeignClient;
+
+  @Test
+  void shouldServeSearchedEntityFromCacheUntilItIsWritten() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockDataFactoryFeignClient(StubRequest.builder()
+        .path("/search/" + SEARCH_RESOURCE)
+        .method(HttpMethod.POST)
+        .status(200)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .responseBody("[{\"id\": \"cached-1\", \"name\": \"searched\"}]")
+        .build());
+
+    var searchResponse = dataFactoryFeignClient.performSearch(SEARCH_RESOURCE,
+        Map.of("name", "searched"), headers);
+    var cachedEntity = dataFactoryFeignClient.performGet(RESOURCE, "cached-1", headers);
+
+    assertThat(searchResponse.getResponseBody().elements()).hasSize(1);
+    assertThat(cachedEntity.getStatusCode()).isEqualTo(200);
+    assertThat(cachedEntity.getResponseBody().prop("name").stringValue()).isEqualTo("searched");
+
+    mockDataFactoryFeignClient(StubRequest.builder()
+        .path("/" + RESOURCE + "/cached-1")
+        .method(HttpMethod.DELETE)
+        .status(204)
+        .build());
+    mockDataFactoryFeignClient(StubRequest.builder()
+        .path("/" + RESOURCE + "/cached-1")
+        .method(HttpMethod.GET)
+        .status(200)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .responseBody("{\"id\": \"cached-1\", \"name\": \"reloaded\"}")
+        .build());
+
+    dataFactoryFeignClient.performDelete(RESOURCE, "cached-1", headers);
+    var reloadedEntity = dataFactoryFeignClient.performGet(RESOURCE, "cached-1", headers);
+
+    assertThat(reloadedEntity.getResponseBody().prop("name").stringValue())
+        .isEqualTo("reloaded");
+  }
+
+  @Test
+  void shouldNotShareCachedEntitiesBetweenAuthorizationScopes() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "first-token");
+    mockDataFactoryFeignClient(StubRequest.builder()
+        .path("/search/" + SEARCH_RESOURCE)
+        .method(HttpMethod.POST)
+        .status(200)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .responseBody("[{\"id\": \"scoped-1\", \"name\": \"first\"}]")
+        .build());
+    mockDataFactoryFeignClient(StubRequest.builder()
+        .path("/" + RESOURCE + "/scoped-1")
+        .method(HttpMethod.GET)
+        .status(200)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .responseBody("{\"id\": \"scoped-1\", \"name\": \"second\"}")
+        .build());
+
+    dataFactoryFeignClient.performSearch(SEARCH_RESOURCE, Map.of("name", "first"), headers);
+    var otherHeaders = new HttpHeaders();
+    otherHeaders.add("X-Access-Token", "second-token");
+    var response = dataFactoryFeignClient.performGet(RESOURCE, "scoped-1", otherHeaders);
+
+    assertThat(response.getResponseBody().prop("name").stringValue()).isEqualTo("second");
+  }
+}
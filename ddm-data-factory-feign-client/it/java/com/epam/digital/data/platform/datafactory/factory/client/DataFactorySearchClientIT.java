@@ -0,0 +1,145 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.datafactory.factory.builder.StubRequest;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+class DataFactorySearchClientIT extends BaseIT {
+
+  private static final String RESOURCE = "paged-search";
+
+  @Autowired
+  private DataFactorySearchClient dataFactorySearchClient;
+
+  @Test
+  void shouldStreamRowsOfAllPagesByOffset() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockPage("{\"name\": \"offset\", \"limit\": 2, \"offset\": 0}",
+        "[{\"id\": \"1\"}, {\"id\": \"2\"}]");
+    mockPage("{\"name\": \"offset\", \"limit\": 2, \"offset\": 2}", "[{\"id\": \"3\"}]");
+
+    List<Object> ids;
+    try (var rows = dataFactorySearchClient.stream(RESOURCE, Map.of("name", "offset"), headers,
+        SearchPagination.offset(2))) {
+      ids = rows.map(row -> row.prop("id").value()).collect(Collectors.toList());
+    }
+
+    assertThat(ids).containsExactly("1", "2", "3");
+  }
+
+  @Test
+  void shouldIterateRowsOfAllPagesByKeyset() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockPage("{\"name\": \"keyset\", \"limit\": 2}", "[{\"id\": \"1\"}, {\"id\": \"2\"}]");
+    mockPage("{\"name\": \"keyset\", \"limit\": 2, \"idGreaterThan\": \"2\"}",
+        "[{\"id\": \"3\"}, {\"id\": \"4\"}]");
+    mockPage("{\"name\": \"keyset\", \"limit\": 2, \"idGreaterThan\": \"4\"}", "[]");
+
+    var iterator = dataFactorySearchClient.iterator(RESOURCE, Map.of("name", "keyset"), headers,
+        SearchPagination.keyset(2, "id", "idGreaterThan"));
+    var count = 0;
+    while (iterator.hasNext()) {
+      iterator.next();
+      count++;
+    }
+
+    assertThat(count).isEqualTo(4);
+  }
+
+  @Test
+  void shouldStreamRowsOfSingleResponse() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockPage("{\"name\": \"rows\"}", "[{\"id\": \"1\"}, {\"id\": \"2\"}, {\"id\": \"3\"}]");
+
+    List<Object> ids;
+    try (var rows = dataFactorySearchClient.streamRows(RESOURCE, Map.of("name", "rows"),
+        headers)) {
+      ids = rows.map(row -> row.prop("id").value()).collect(Collectors.toList());
+    }
+
+    assertThat(ids).containsExactly("1", "2", "3");
+  }
+
+  @Test
+  void shouldPassMappedRowsToConsumer() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockPage("{\"name\": \"mapped\"}", "[{\"id\": \"1\", \"extra\": 1}, {\"id\": \"2\"}]");
+
+    List<Object> ids = new ArrayList<>();
+    dataFactorySearchClient.forEachRow(RESOURCE, Map.of("name", "mapped"), headers,
+        row -> ids.add(row.prop("id").value()));
+    List<Row> rows;
+    try (var stream = dataFactorySearchClient.streamRows(RESOURCE, Map.of("name", "mapped"),
+        headers, Row.class)) {
+      rows = stream.collect(Collectors.toList());
+    }
+
+    assertThat(ids).containsExactly("1", "2");
+    assertThat(rows).extracting(row -> row.id).containsExactly("1", "2");
+  }
+
+  @Test
+  void shouldDecodeErrorOfStreamedSearch() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockExceptionDataFactoryFeignClient(StubRequest.builder()
+        .path("/search/failed-search")
+        .method(HttpMethod.POST)
+        .status(500)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .responseBody("{\"code\": \"RUNTIME_ERROR\"}")
+        .build());
+
+    var exception = assertThrows(SystemException.class,
+        () -> dataFactorySearchClient.streamRows("failed-search", Map.of(), headers));
+
+    assertThat(exception.getCode()).isEqualTo("RUNTIME_ERROR");
+  }
+
+  private void mockPage(String requestBody, String responseBody) {
+    mockDataFactoryFeignClient(StubRequest.builder()
+        .path("/search/" + RESOURCE)
+        .method(HttpMethod.POST)
+        .requestBody(equalToJson(requestBody))
+        .status(200)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .responseBody(responseBody)
+        .build());
+  }
+
+  static class Row {
+
+    public String id;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.patch;
+import static com.github.tomakehurst.wiremock.client.WireMock.patchRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+
+class DataFactoryStreamingClientIT extends BaseIT {
+
+  @Autowired
+  private DataFactoryStreamingClient dataFactoryStreamingClient;
+  @Autowired
+  @Qualifier("dataFactoryFeignClientWireMock")
+  private WireMockServer dataFactoryFeignClientWireMock;
+
+  @Test
+  void shouldPostBytesWithContentLength() {
+    var body = "{\"name\": \"bytes\"}";
+    dataFactoryFeignClientWireMock.stubFor(post(urlPathEqualTo("/streaming-bytes"))
+        .willReturn(aResponse().withStatus(201)
+            .withHeader("Content-Type", "application/json")
+            .withBody("{\"id\": \"1\"}")));
+
+    var response = dataFactoryStreamingClient.performPost("streaming-bytes",
+        body.getBytes(StandardCharsets.UTF_8), headers());
+
+    assertThat(response.getStatusCode()).isEqualTo(201);
+    assertThat(response.getResponseBody().prop("id").value()).isEqualTo("1");
+    dataFactoryFeignClientWireMock.verify(postRequestedFor(urlPathEqualTo("/streaming-bytes"))
+        .withHeader("Content-Length", equalTo(String.valueOf(body.length())))
+        .withHeader("Transfer-Encoding", absent())
+        .withHeader("X-Access-Token", equalTo("token"))
+        .withRequestBody(equalToJson(body)));
+  }
+
+  @Test
+  void shouldPutStreamWithChunkedEncoding() {
+    var body = "{\"name\": \"stream\"}";
+    dataFactoryFeignClientWireMock.stubFor(put(urlPathEqualTo("/streaming-stream/1"))
+        .willReturn(aResponse().withStatus(204)));
+
+    var response = dataFactoryStreamingClient.performPut("streaming-stream", "1",
+        new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), headers());
+
+    assertThat(response.getStatusCode()).isEqualTo(204);
+    assertThat(response.getResponseBody()).isNull();
+    dataFactoryFeignClientWireMock.verify(putRequestedFor(urlPathEqualTo("/streaming-stream/1"))
+        .withHeader("Transfer-Encoding", equalTo("chunked"))
+        .withRequestBody(equalToJson(body)));
+  }
+
+  @Test
+  void shouldPatchBodyWrittenBySource() {
+    dataFactoryFeignClientWireMock.stubFor(patch(urlPathEqualTo("/partial/streaming-writer/1"))
+        .willReturn(aResponse().withStatus(204)));
+
+    var response = dataFactoryStreamingClient.performPatch("streaming-writer", "1",
+        out -> out.write("{\"name\": \"writer\"}".getBytes(StandardCharsets.UTF_8)), headers());
+
+    assertThat(response.getStatusCode()).isEqualTo(204);
+    dataFactoryFeignClientWireMock.verify(
+        patchRequestedFor(urlPathEqualTo("/partial/streaming-writer/1"))
+            .withHeader("Transfer-Encoding", equalTo("chunked"))
+            .withRequestBody(equalToJson("{\"name\": \"writer\"}")));
+  }
+
+  @Test
+  void shouldDecodeErrorResponse() {
+    dataFactoryFeignClientWireMock.stubFor(post(urlPathEqualTo("/streaming-error/list"))
+        .willReturn(aResponse().withStatus(500)
+            .withHeader("Content-Type", "application/json")
+            .withBody("{\"code\": \"RUNTIME_ERROR\"}")));
+
+    var exception = assertThrows(SystemException.class,
+        () -> dataFactoryStreamingClient.performPostBatch("streaming-error", "list",
+            "[]".getBytes(StandardCharsets.UTF_8), headers()));
+
+    assertThat(exception.getCode()).isEqualTo("RUNTIME_ERROR");
+  }
+
+  private HttpHeaders headers() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    return headers;
+  }
+}
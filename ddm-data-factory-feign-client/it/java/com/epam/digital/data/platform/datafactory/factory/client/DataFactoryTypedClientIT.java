@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.datafactory.factory.builder.StubRequest;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+class DataFactoryTypedClientIT extends BaseIT {
+
+  @Autowired
+  private DataFactoryTypedClient dataFactoryTypedClient;
+
+  @Test
+  void shouldMapEntityToType() {
+    mockDataFactoryFeignClient(StubRequest.builder()
+        .path("/typed-entity/1")
+        .method(HttpMethod.GET)
+        .status(200)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .responseBody("{\"id\": \"1\", \"name\": \"entity\"}")
+        .build());
+
+    var response = dataFactoryTypedClient.performGet("typed-entity", "1", headers(),
+        Entity.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(200);
+    assertThat(response.getHeaders()).containsKey("content-type");
+    assertThat(response.getBody().getId()).isEqualTo("1");
+    assertThat(response.getBody().getName()).isEqualTo("entity");
+  }
+
+  @Test
+  void shouldMapSearchRowsToType() {
+    mockDataFactoryFeignClient(StubRequest.builder()
+        .path("/search/typed-entity")
+        .method(HttpMethod.POST)
+        .status(200)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .responseBody("[{\"id\": \"1\"}, {\"id\": \"2\"}]")
+        .build());
+
+    var response = dataFactoryTypedClient.performSearch("typed-entity", Map.of(), headers(),
+        Entity.class);
+
+    assertThat(response.getBody()).extracting(Entity::getId).containsExactly("1", "2");
+  }
+
+  @Test
+  void shouldDecodeErrorResponse() {
+    mockExceptionDataFactoryFeignClient(StubRequest.builder()
+        .path("/typed-error/1")
+        .method(HttpMethod.GET)
+        .status(500)
+        .responseBody("{\"code\": \"RUNTIME_ERROR\"}")
+        .build());
+
+    var exception = assertThrows(SystemException.class,
+        () -> dataFactoryTypedClient.performGet("typed-error", "1", headers(), Entity.class));
+
+    assertThat(exception.getCode()).isEqualTo("RUNTIME_ERROR");
+  }
+
+  private HttpHeaders headers() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    return headers;
+  }
+
+  static class Entity {
+
+    private String id;
+    private String name;
+
+    public String getId() {
+      return id;
+    }
+
+    public void setId(String id) {
+      this.id = id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.cache;
+
+import com.epam.digital.data.platform.datafactory.feign.cache.CachedResponse;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The class represents normalized store of data factory entities indexed by resource and primary
+ * key, together with cache of search results.
+ * <p>
+ * Every write increments a sequence that is recorded per resource. Values are stored with the
+ * sequence that was current before the request that produced them was sent, so results of a
+ * request that raced with a write to the same resource are never stored or returned.
+ */
+public class EntityCache {
+
+  private final LinkedHashMap<String, Map<String, Entry>> entities;
+  private final LinkedHashMap<String, Entry> searchResults;
+  private final Map<String, Long> resourceWrites = new HashMap<>();
+  private final Map<String, Long> resourceBulkWrites = new HashMap<>();
+  private long sequence;
+
+  public EntityCache(int maxEntities, int maxSearchResults) {
+    this.entities = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Map<String, Entry>> eldest) {
+        return size() > maxEntities;
+      }
+    };
+    this.searchResults = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxSearchResults;
+      }
+    };
+  }
+
+  /**
+   * Get current write sequence, it has to be taken before request which result is stored
+   */
+  public synchronized long currentSequence() {
+    return sequence;
+  }
+
+  public synchronized CachedResponse getEntity(String scope, String resource, String id) {
+    var scopedEntities = entities.get(entityKey(resource, id));
+    if (Objects.isNull(scopedEntities)) {
+      return null;
+    }
+    var entry = scopedEntities.get(scope);
+    if (Objects.isNull(entry) || entry.sequence < lastWrite(resourceBulkWrites, resource)) {
+      return null;
+    }
+    return entry.response;
+  }
+
+  public synchronized void putEntities(String scope, String resource,
+      Map<String, CachedResponse> responses, long sequence) {
+    if (sequence < lastWrite(resourceWrites, resource)) {
+      return;
+    }
+    responses.forEach((id, response) -> entities
+        .computeIfAbsent(entityKey(resource, id), key -> new HashMap<>())
+        .put(scope, new Entry(response, sequence)));
+  }
+
+  public synchronized CachedResponse getSearchResult(String key, String resource) {
+    var entry = searchResults.get(key);
+    if (Objects.isNull(entry) || entry.sequence < lastWrite(resourceWrites, resource)) {
+      return null;
+    }
+    return entry.response;
+  }
+
+  public synchronized void putSearchResult(String key, String resource, CachedResponse response,
+      long sequence) {
+    if (sequence < lastWrite(resourceWrites, resource)) {
+      return;
+    }
+    searchResults.put(key, new Entry(response, sequence));
+  }
+
+  /**
+   * Invalidate cached entity and search results of resource after write
+   *
+   * @param resource written resource
+   * @param id       written entity id or null if write may affect any entity of resource
+   */
+  public synchronized void invalidate(String resource, String id) {
+    sequence++;
+    resourceWrites.put(resource, sequence);
+    if (Objects.isNull(id)) {
+      resourceBulkWrites.put(resource, sequence);
+    } else {
+      entities.remove(entityKey(resource, id));
+    }
+  }
+
+  public synchronized int getEntityCount() {
+    return entities.size();
+  }
+
+  private static long lastWrite(Map<String, Long> writes, String resource) {
+    return writes.getOrDefault(resource, 0L);
+  }
+
+  private static String entityKey(String resource, String id) {
+    return resource + '/' + id;
+  }
+
+  private static class Entry {
+
+    private final CachedResponse response;
+    private final long sequence;
+
+    private Entry(CachedResponse response, long sequence) {
+      this.response = response;
+      this.sequence = sequence;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.cache;
+
+import com.epam.digital.data.platform.datafactory.factory.config.DataFactoryEntityCacheProperties;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignClientDecorator;
+import feign.Client;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+
+/**
+ * The class represents decorator that adds {@link EntityCache} to data factory feign client.
+ */
+public class EntityCacheClientDecorator implements FeignClientDecorator {
+
+  private static final String DATA_FACTORY_CLIENT_NAME = "data-factory-client";
+
+  private final DataFactoryEntityCacheProperties properties;
+  private final EntityCache entityCache;
+  private final MeterRegistry meterRegistry;
+
+  public EntityCacheClientDecorator(DataFactoryEntityCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.entityCache = new EntityCache(properties.getMaxEntities(),
+        properties.getMaxSearchResults());
+
+    Gauge.builder("datafactory.entity.cache.entities", entityCache, EntityCache::getEntityCount)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Client decorate(String clientName, Client client) {
+    if (!DATA_FACTORY_CLIENT_NAME.equals(clientName)) {
+      return client;
+    }
+    return new EntityCachingClient(client, entityCache, properties, meterRegistry,
+        Clock.systemUTC());
+  }
+
+  @Override
+  public int getOrder() {
+    return ENTITY_CACHE_ORDER;
+  }
+
+  public EntityCache getEntityCache() {
+    return entityCache;
+  }
+}
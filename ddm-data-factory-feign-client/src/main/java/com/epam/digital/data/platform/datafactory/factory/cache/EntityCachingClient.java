@@ -0,0 +1,217 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.cache;
+
+import com.epam.digital.data.platform.datafactory.factory.config.DataFactoryEntityCacheProperties;
+import com.epam.digital.data.platform.datafactory.factory.config.DataFactoryEntityCacheProperties.SearchResource;
+import com.epam.digital.data.platform.datafactory.feign.cache.CacheKeys;
+import com.epam.digital.data.platform.datafactory.feign.cache.CachedResponse;
+import com.epam.digital.data.platform.datafactory.feign.util.SpinJsonUtils;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * The class represents http client of data factory feign client that serves entities returned by
+ * configured searches and repeated identical searches from {@link EntityCache}. Write operations
+ * invalidate cached entities and search results of written resource.
+ */
+public class EntityCachingClient implements Client {
+
+  private static final String METRIC_REQUESTS = "datafactory.entity.cache.requests";
+  private static final Map<String, Collection<String>> ENTITY_HEADERS = Map.of(
+      HttpHeaders.CONTENT_TYPE, List.of(MediaType.APPLICATION_JSON_VALUE));
+
+  private final Client delegate;
+  private final EntityCache entityCache;
+  private final DataFactoryEntityCacheProperties properties;
+  private final Clock clock;
+
+  private final Counter entityHits;
+  private final Counter entityMisses;
+  private final Counter searchHits;
+  private final Counter searchMisses;
+
+  public EntityCachingClient(Client delegate, EntityCache entityCache,
+      DataFactoryEntityCacheProperties properties, MeterRegistry meterRegistry, Clock clock) {
+    this.delegate = delegate;
+    this.entityCache = entityCache;
+    this.properties = properties;
+    this.clock = clock;
+    this.entityHits = counter(meterRegistry, "entity", "hit");
+    this.entityMisses = counter(meterRegistry, "entity", "miss");
+    this.searchHits = counter(meterRegistry, "search", "hit");
+    this.searchMisses = counter(meterRegistry, "search", "miss");
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    var operation = operation(request);
+    if (Objects.isNull(operation)) {
+      return delegate.execute(request, options);
+    }
+    var segments = pathSegments(request.url());
+    switch (operation) {
+      case "performGet":
+        return get(request, options, segment(segments, 2), segment(segments, 1));
+      case "performSearch":
+        return search(request, options, segment(segments, 1));
+      case "performPut":
+      case "performPatch":
+      case "performDelete":
+        return write(request, options, segment(segments, 2), segment(segments, 1));
+      case "performPost":
+      case "performPutNested":
+        return write(request, options, segment(segments, 1), null);
+      case "performPostBatch":
+        return write(request, options, segment(segments, 2), null);
+      default:
+        return delegate.execute(request, options);
+    }
+  }
+
+  private Response get(Request request, Request.Options options, String resource, String id)
+      throws IOException {
+    var scope = scope(request);
+    var cached = entityCache.getEntity(scope, resource, id);
+    if (Objects.nonNull(cached) && cached.getAge(clock.millis()) <= cached.getTtlMillis()) {
+      entityHits.increment();
+      return toResponse(cached, request);
+    }
+    entityMisses.increment();
+    return delegate.execute(request, options);
+  }
+
+  private Response search(Request request, Request.Options options, String searchResource)
+      throws IOException {
+    var searchConfig = properties.getSearchResources().get(searchResource);
+    if (Objects.isNull(searchConfig)) {
+      return delegate.execute(request, options);
+    }
+    var scope = scope(request);
+    var resource = Objects.requireNonNullElse(searchConfig.getResource(), searchResource);
+    var key = scope + ' ' + searchResource + ' '
+        + CacheKeys.sha256(Objects.requireNonNullElse(request.body(), new byte[0]));
+    var cached = entityCache.getSearchResult(key, resource);
+    if (Objects.nonNull(cached) && cached.getAge(clock.millis()) <= cached.getTtlMillis()) {
+      searchHits.increment();
+      return toResponse(cached, request);
+    }
+    searchMisses.increment();
+
+    var sequence = entityCache.currentSequence();
+    var response = delegate.execute(request, options);
+    if (response.status() != 200 || Objects.isNull(response.body())) {
+      return response;
+    }
+    byte[] body;
+    try (response) {
+      body = Util.toByteArray(response.body().asInputStream());
+    }
+    var now = clock.millis();
+    entityCache.putSearchResult(key, resource, new CachedResponse(response.status(),
+        response.reason(), response.headers(), body, null, null, now,
+        properties.getSearchTtl().toMillis()), sequence);
+    if (Objects.nonNull(searchConfig.getIdField())) {
+      entityCache.putEntities(scope, resource, entities(body, searchConfig, now), sequence);
+    }
+    return response.toBuilder().body(body).build();
+  }
+
+  private Response write(Request request, Request.Options options, String resource, String id)
+      throws IOException {
+    try {
+      return delegate.execute(request, options);
+    } finally {
+      entityCache.invalidate(resource, id);
+    }
+  }
+
+  private Map<String, CachedResponse> entities(byte[] body, SearchResource searchConfig,
+      long now) throws IOException {
+    var objectMapper = SpinJsonUtils.objectMapper();
+    var rows = objectMapper.readTree(body);
+    Map<String, CachedResponse> entities = new HashMap<>();
+    if (Objects.isNull(rows) || !rows.isArray()) {
+      return entities;
+    }
+    for (var row : rows) {
+      var id = row.get(searchConfig.getIdField());
+      if (Objects.nonNull(id) && !id.isNull()) {
+        entities.put(id.asText(), new CachedResponse(200, "OK", ENTITY_HEADERS,
+            objectMapper.writeValueAsBytes(row), null, null, now,
+            properties.getEntityTtl().toMillis()));
+      }
+    }
+    return entities;
+  }
+
+  private String scope(Request request) {
+    return Objects.toString(
+        CacheKeys.authorizationScope(request, properties.getAuthorizationHeaders()), "");
+  }
+
+  private static Response toResponse(CachedResponse cached, Request request) {
+    return Response.builder()
+        .status(cached.getStatus())
+        .reason(cached.getReason())
+        .headers(cached.getHeaders())
+        .body(cached.getBody())
+        .request(request)
+        .build();
+  }
+
+  private static String operation(Request request) {
+    var requestTemplate = request.requestTemplate();
+    if (Objects.isNull(requestTemplate) || Objects.isNull(requestTemplate.methodMetadata())) {
+      return null;
+    }
+    var configKey = requestTemplate.methodMetadata().configKey();
+    return configKey.substring(configKey.indexOf('#') + 1, configKey.indexOf('('));
+  }
+
+  private static String[] pathSegments(String url) {
+    return URI.create(url).getRawPath().split("/");
+  }
+
+  private static String segment(String[] segments, int positionFromEnd) {
+    var index = segments.length - positionFromEnd;
+    return index < 0 ? "" : URLDecoder.decode(segments[index], StandardCharsets.UTF_8);
+  }
+
+  private Counter counter(MeterRegistry meterRegistry, String cache, String result) {
+    return Counter.builder(METRIC_REQUESTS)
+        .tag("cache", cache)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import java.util.Objects;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The class represents result of uploading a single chunk of batch payload.
+ */
+@Getter
+@Builder
+public class BatchChunkResult {
+
+  /**
+   * Zero-based position of the chunk in the payload
+   */
+  private final int index;
+  private final int rows;
+  private final long bytes;
+  private final int attempts;
+  private final long durationMillis;
+  private final ConnectorResponse response;
+  /**
+   * Failure of the last attempt, {@code null} if the chunk is uploaded
+   */
+  private final Exception failure;
+
+  public boolean isSuccessful() {
+    return Objects.isNull(failure);
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+/**
+ * The enum represents formats of batch upload payload that can be split into chunks.
+ */
+public enum BatchPayloadFormat {
+
+  /**
+   * Json array of rows, each chunk is a json array of consecutive rows
+   */
+  JSON_ARRAY,
+  /**
+   * Csv with header line, each chunk starts with the header followed by consecutive records
+   */
+  CSV
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import com.epam.digital.data.platform.datafactory.feign.util.SpinJsonUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents a lazy splitter of batch payload into chunks. Rows are read from the
+ * reader only when the next chunk is requested, so chunks can be sent while the rest of the
+ * payload is being split.
+ */
+abstract class BatchPayloadSplitter implements Iterator<BatchPayloadSplitter.Chunk>, Closeable {
+
+  private static final int DETECT_LIMIT = 8192;
+
+  private final int maxRows;
+  private final long maxBytes;
+  private int index;
+  private String pendingRow;
+  private Chunk next;
+  private boolean finished;
+
+  BatchPayloadSplitter(int maxRows, long maxBytes) {
+    this.maxRows = Math.max(maxRows, 1);
+    this.maxBytes = Math.max(maxBytes, 1);
+  }
+
+  /**
+   * Create splitter of payload
+   *
+   * @param reader  payload reader
+   * @param format  payload format, detected if {@code null}
+   * @param options chunk limits
+   * @return splitter
+   */
+  static BatchPayloadSplitter of(Reader reader, BatchPayloadFormat format,
+      BatchUploadOptions options) {
+    var bufferedReader = reader instanceof BufferedReader ? (BufferedReader) reader
+        : new BufferedReader(reader);
+    var payloadFormat = Objects.nonNull(format) ? format : detect(bufferedReader);
+    if (payloadFormat == BatchPayloadFormat.CSV) {
+      return new Csv(bufferedReader, options.getMaxRows(), options.getMaxBytes());
+    }
+    return new JsonArray(bufferedReader, options.getMaxRows(), options.getMaxBytes());
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (Objects.isNull(next) && !finished) {
+      next = readChunk();
+      finished = Objects.isNull(next);
+    }
+    return Objects.nonNull(next);
+  }
+
+  @Override
+  public Chunk next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    var chunk = next;
+    next = null;
+    return chunk;
+  }
+
+  /**
+   * @return next row of payload or {@code null} if there are no more rows
+   */
+  protected abstract String readRow() throws IOException;
+
+  /**
+   * @return size in bytes of the header that is repeated in every chunk, it's known once the first
+   * row is read
+   */
+  protected abstract long headerBytes();
+
+  protected abstract void startChunk(StringBuilder body);
+
+  protected abstract void appendRow(StringBuilder body, String row, boolean first);
+
+  protected abstract void finishChunk(StringBuilder body);
+
+  private Chunk readChunk() {
+    try {
+      var body = new StringBuilder();
+      var rows = 0;
+      var bytes = 0L;
+      startChunk(body);
+      while (rows < maxRows) {
+        var row = Objects.nonNull(pendingRow) ? pendingRow : readRow();
+        pendingRow = null;
+        if (Objects.isNull(row)) {
+          break;
+        }
+        if (rows == 0) {
+          bytes = headerBytes();
+        }
+        var rowBytes = utf8Length(row);
+        if (rows > 0 && bytes + rowBytes > maxBytes) {
+          pendingRow = row;
+          break;
+        }
+        appendRow(body, row, rows == 0);
+        rows++;
+        bytes += rowBytes;
+      }
+      if (rows == 0) {
+        close();
+        return null;
+      }
+      finishChunk(body);
+      var chunkBody = body.toString();
+      return new Chunk(index++, chunkBody, rows,
+          chunkBody.getBytes(StandardCharsets.UTF_8).length);
+    } catch (IOException e) {
+      closeQuietly();
+      throw new UncheckedIOException("Batch payload can't be split into chunks", e);
+    }
+  }
+
+  private void closeQuietly() {
+    try {
+      close();
+    } catch (IOException ignored) {
+      // the original failure is reported
+    }
+  }
+
+  private static long utf8Length(String value) {
+    long length = 0;
+    for (int i = 0; i < value.length(); i++) {
+      var c = value.charAt(i);
+      if (c < 0x80) {
+        length++;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c)) {
+        length += 4;
+        i++;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  private static BatchPayloadFormat detect(BufferedReader reader) {
+    try {
+      reader.mark(DETECT_LIMIT);
+      int c;
+      for (int i = 0; i < DETECT_LIMIT && (c = reader.read()) != -1; i++) {
+        if (!Character.isWhitespace(c) && c != '\uFEFF') {
+          reader.reset();
+          return c == '[' ? BatchPayloadFormat.JSON_ARRAY : BatchPayloadFormat.CSV;
+        }
+      }
+      reader.reset();
+      return BatchPayloadFormat.JSON_ARRAY;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Batch payload format can't be detected", e);
+    }
+  }
+
+  /**
+   * The class represents a chunk of batch payload.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  static class Chunk {
+
+    private final int index;
+    private final String body;
+    private final int rows;
+    private final long bytes;
+  }
+
+  private static class JsonArray extends BatchPayloadSplitter {
+
+    private final JsonParser parser;
+    private boolean started;
+
+    JsonArray(Reader reader, int maxRows, long maxBytes) {
+      super(maxRows, maxBytes);
+      try {
+        this.parser = SpinJsonUtils.objectMapper().getFactory().createParser(reader);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Batch payload can't be read", e);
+      }
+    }
+
+    @Override
+    protected String readRow() throws IOException {
+      if (!started) {
+        started = true;
+        var token = parser.nextToken();
+        if (Objects.isNull(token)) {
+          return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+          throw new IllegalArgumentException("Batch payload is not a json array");
+        }
+      }
+      var token = parser.isClosed() ? null : parser.nextToken();
+      if (Objects.isNull(token) || token == JsonToken.END_ARRAY) {
+        return null;
+      }
+      var row = new StringWriter();
+      try (var generator = SpinJsonUtils.objectMapper().getFactory().createGenerator(row)) {
+        generator.copyCurrentStructure(parser);
+      }
+      return row.toString();
+    }
+
+    @Override
+    protected long headerBytes() {
+      return 0;
+    }
+
+    @Override
+    protected void startChunk(StringBuilder body) {
+      body.append('[');
+    }
+
+    @Override
+    protected void appendRow(StringBuilder body, String row, boolean first) {
+      if (!first) {
+        body.append(',');
+      }
+      body.append(row);
+    }
+
+    @Override
+    protected void finishChunk(StringBuilder body) {
+      body.append(']');
+    }
+
+    @Override
+    public void close() throws IOException {
+      parser.close();
+    }
+  }
+
+  private static class Csv extends BatchPayloadSplitter {
+
+    private final Reader reader;
+    private String header;
+    private long headerBytes;
+    private boolean endOfInput;
+
+    Csv(Reader reader, int maxRows, long maxBytes) {
+      super(maxRows, maxBytes);
+      this.reader = reader;
+    }
+
+    @Override
+    protected String readRow() throws IOException {
+      if (Objects.isNull(header)) {
+        header = readRecord();
+        if (Objects.isNull(header)) {
+          header = "";
+          return null;
+        }
+        if (!header.endsWith("\n")) {
+          header += "\n";
+        }
+        headerBytes = utf8Length(header);
+      }
+      String record;
+      do {
+        record = readRecord();
+      } while (Objects.nonNull(record) && record.isBlank());
+      return record;
+    }
+
+    /**
+     * Read record with its line terminator, line breaks inside quoted values don't end it
+     */
+    private String readRecord() throws IOException {
+      if (endOfInput) {
+        return null;
+      }
+      var record = new StringBuilder();
+      var quoted = false;
+      int c;
+      while ((c = reader.read()) != -1) {
+        record.append((char) c);
+        if (c == '"') {
+          quoted = !quoted;
+        } else if (c == '\n' && !quoted) {
+          return record.toString();
+        }
+      }
+      endOfInput = true;
+      return record.length() == 0 ? null : record.toString();
+    }
+
+    @Override
+    protected long headerBytes() {
+      return headerBytes;
+    }
+
+    @Override
+    protected void startChunk(StringBuilder body) {
+      // header is known only after the first row is read
+    }
+
+    @Override
+    protected void appendRow(StringBuilder body, String row, boolean first) {
+      if (first) {
+        body.append(header);
+      }
+      body.append(row);
+      if (!row.endsWith("\n")) {
+        body.append('\n');
+      }
+    }
+
+    @Override
+    protected void finishChunk(StringBuilder body) {
+      // csv chunk doesn't have a closing part
+    }
+
+    @Override
+    public void close() throws IOException {
+      reader.close();
+    }
+  }
+}
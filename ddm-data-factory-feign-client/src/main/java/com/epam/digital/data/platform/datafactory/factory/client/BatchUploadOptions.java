@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Getter;
+
+/**
+ * The class represents options of chunked batch upload. A chunk is closed when it reaches either
+ * max rows or max bytes, a single row bigger than max bytes is sent as its own chunk.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class BatchUploadOptions {
+
+  /**
+   * Payload format, detected by the first significant character if it isn't set
+   */
+  private final BatchPayloadFormat format;
+  @Default
+  private final int maxRows = 1000;
+  @Default
+  private final long maxBytes = 1024 * 1024;
+  /**
+   * Max number of chunks that are uploaded at the same time
+   */
+  @Default
+  private final int parallelism = 4;
+  /**
+   * Max number of attempts to upload a chunk. Only failures after which the chunk provably wasn't
+   * stored are retried: connection failures, 429 and 503 responses and client side rejections.
+   */
+  @Default
+  private final int maxAttempts = 3;
+  /**
+   * Retry also failures after which the chunk may have been stored, like read timeouts and other
+   * server errors. Retried chunk may be inserted twice, so it should be enabled only for upload
+   * types that are idempotent on the registry side.
+   */
+  @Default
+  private final boolean retryAmbiguousFailures = false;
+  /**
+   * Delay before the second attempt, it grows linearly with each next attempt
+   */
+  @Default
+  private final Duration retryBackoff = Duration.ofMillis(500);
+  /**
+   * Stop sending next chunks after a chunk has failed all attempts
+   */
+  @Default
+  private final boolean failFast = false;
+
+  /**
+   * Create options that split payload by row count
+   *
+   * @param maxRows max rows of chunk
+   * @return options
+   */
+  public static BatchUploadOptions rows(int maxRows) {
+    return BatchUploadOptions.builder().maxRows(maxRows).maxBytes(Long.MAX_VALUE).build();
+  }
+
+  /**
+   * Create options that split payload by size
+   *
+   * @param maxBytes max size of chunk body in bytes
+   * @return options
+   */
+  public static BatchUploadOptions bytes(long maxBytes) {
+    return BatchUploadOptions.builder().maxRows(Integer.MAX_VALUE).maxBytes(maxBytes).build();
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * The class represents result of chunked batch upload with per-chunk results ordered by chunk
+ * index. Chunks that weren't sent because of fail fast are absent.
+ */
+@Getter
+public class BatchUploadResult {
+
+  private final List<BatchChunkResult> chunks;
+  private final long durationMillis;
+
+  BatchUploadResult(List<BatchChunkResult> chunks, long durationMillis) {
+    this.chunks = List.copyOf(chunks);
+    this.durationMillis = durationMillis;
+  }
+
+  public boolean isSuccessful() {
+    return chunks.stream().allMatch(BatchChunkResult::isSuccessful);
+  }
+
+  public List<BatchChunkResult> getFailedChunks() {
+    return chunks.stream().filter(chunk -> !chunk.isSuccessful()).collect(Collectors.toList());
+  }
+
+  /**
+   * @return number of rows of successfully uploaded chunks
+   */
+  public long getUploadedRows() {
+    return chunks.stream().filter(BatchChunkResult::isSuccessful)
+        .mapToLong(BatchChunkResult::getRows).sum();
+  }
+
+  /**
+   * @return uploaded rows per second of the whole upload
+   */
+  public double getRowsPerSecond() {
+    return getUploadedRows() * 1000d / Math.max(durationMillis, 1);
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents result of getting a single entity of bulk get. Failure is the exception
+ * raised by {@code DataFactoryErrorDecoder} for the id, e.g. {@code ValidationException} with
+ * {@code NOT_FOUND} code.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BulkGetItem {
+
+  private final String id;
+  private final ConnectorResponse response;
+  private final Exception failure;
+
+  public boolean isSuccessful() {
+    return Objects.isNull(failure);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * The class represents result of bulk get with items in the order of requested ids. Entities that
+ * were got are returned together with failures of the other ids.
+ */
+@Getter
+public class BulkGetResult {
+
+  private final List<BulkGetItem> items;
+
+  BulkGetResult(List<BulkGetItem> items) {
+    this.items = List.copyOf(items);
+  }
+
+  public boolean isComplete() {
+    return items.stream().allMatch(BulkGetItem::isSuccessful);
+  }
+
+  /**
+   * @return responses of successfully got entities by id in the order of requested ids
+   */
+  public Map<String, ConnectorResponse> getResponses() {
+    var responses = new LinkedHashMap<String, ConnectorResponse>();
+    items.stream().filter(BulkGetItem::isSuccessful)
+        .forEach(item -> responses.putIfAbsent(item.getId(), item.getResponse()));
+    return responses;
+  }
+
+  /**
+   * @return failures by id in the order of requested ids
+   */
+  public Map<String, Exception> getFailures() {
+    var failures = new LinkedHashMap<String, Exception>();
+    items.stream().filter(item -> !item.isSuccessful())
+        .forEach(item -> failures.putIfAbsent(item.getId(), item.getFailure()));
+    return failures;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+final class BulkSupport {
+
+  /**
+   * Get entities by ids with at most concurrency gets in flight. Every distinct id is got once,
+   * gets run on the executor if it is provided, otherwise one by one on the calling thread. If the
+   * calling thread is interrupted, gets in flight are interrupted as well
+   */
+  static BulkGetResult getAll(Collection<String> ids, Function<String, ConnectorResponse> get,
+      int concurrency, Executor executor) {
+    var permits = new Semaphore(Math.max(concurrency, 1));
+    var futures = new LinkedHashMap<String, FutureTask<BulkGetItem>>();
+    try {
+      for (var id : new LinkedHashSet<>(ids)) {
+        permits.acquire();
+        futures.put(id, submit(new FutureTask<>(() -> {
+          try {
+            return get(id, get);
+          } finally {
+            permits.release();
+          }
+        }), executor));
+      }
+      var items = new HashMap<String, BulkGetItem>();
+      for (var entry : futures.entrySet()) {
+        items.put(entry.getKey(), await(entry.getValue()));
+      }
+      return new BulkGetResult(ids.stream().map(items::get).collect(Collectors.toList()));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      futures.values().forEach(future -> future.cancel(true));
+      throw new IllegalStateException("Bulk get is interrupted", e);
+    }
+  }
+
+  private static BulkGetItem get(String id, Function<String, ConnectorResponse> get) {
+    try {
+      return new BulkGetItem(id, get.apply(id), null);
+    } catch (Exception e) {
+      return new BulkGetItem(id, null, e);
+    }
+  }
+
+  private static FutureTask<BulkGetItem> submit(FutureTask<BulkGetItem> task,
+      Executor executor) {
+    if (Objects.nonNull(executor)) {
+      try {
+        executor.execute(task);
+        return task;
+      } catch (RejectedExecutionException ignored) {
+        // executor is saturated, the calling thread gets the entity itself
+      }
+    }
+    task.run();
+    return task;
+  }
+
+  private static BulkGetItem await(FutureTask<BulkGetItem> task) throws InterruptedException {
+    try {
+      return task.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private BulkSupport() {
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents a client that performs {@link DataFactoryFeignClient} operations on
+ * dedicated executor, so calling thread isn't blocked while waiting for data factory response.
+ * Responses and exceptions are the same as for {@link DataFactoryFeignClient}, exceptions are
+ * delivered through the returned future.
+ */
+@RequiredArgsConstructor
+public class DataFactoryAsyncClient {
+
+  private final DataFactoryFeignClient dataFactoryFeignClient;
+  private final Executor executor;
+
+  /**
+   * @see DataFactoryFeignClient#performGet(String, String, HttpHeaders)
+   */
+  public CompletableFuture<ConnectorResponse> performGet(String resource, String id,
+      HttpHeaders headers) {
+    return AsyncSupport.supplyAsync(
+        () -> dataFactoryFeignClient.performGet(resource, id, headers), executor);
+  }
+
+  /**
+   * @see DataFactoryFeignClient#performPost(String, String, HttpHeaders)
+   */
+  public CompletableFuture<ConnectorResponse> performPost(String resource, String body,
+      HttpHeaders headers) {
+    return AsyncSupport.supplyAsync(
+        () -> dataFactoryFeignClient.performPost(resource, body, headers), executor);
+  }
+
+  /**
+   * @see DataFactoryFeignClient#performPutNested(String, String, HttpHeaders)
+   */
+  public CompletableFuture<ConnectorResponse> performPutNested(String resource, String body,
+      HttpHeaders headers) {
+    return AsyncSupport.supplyAsync(
+        () -> dataFactoryFeignClient.performPutNested(resource, body, headers), executor);
+  }
+
+  /**
+   * @see DataFactoryFeignClient#performPut(String, String, String, HttpHeaders)
+   */
+  public CompletableFuture<ConnectorResponse> performPut(String resource, String id, String body,
+      HttpHeaders headers) {
+    return AsyncSupport.supplyAsync(
+        () -> dataFactoryFeignClient.performPut(resource, id, body, headers), executor);
+  }
+
+  /**
+   * @see DataFactoryFeignClient#performPatch(String, String, String, HttpHeaders)
+   */
+  public CompletableFuture<ConnectorResponse> performPatch(String resource, String id,
+      String body, HttpHeaders headers) {
+    return AsyncSupport.supplyAsync(
+        () -> dataFactoryFeignClient.performPatch(resource, id, body, headers), executor);
+  }
+
+  /**
+   * @see DataFactoryFeignClient#performDelete(String, String, HttpHeaders)
+   */
+  public CompletableFuture<ConnectorResponse> performDelete(String resource, String id,
+      HttpHeaders headers) {
+    return AsyncSupport.supplyAsync(
+        () -> dataFactoryFeignClient.performDelete(resource, id, headers), executor);
+  }
+
+  /**
+   * @see DataFactoryFeignClient#performSearch(String, Map, HttpHeaders)
+   */
+  public CompletableFuture<ConnectorResponse> performSearch(String resource,
+      Map<String, Object> params, HttpHeaders headers) {
+    return AsyncSupport.supplyAsync(
+        () -> dataFactoryFeignClient.performSearch(resource, params, headers), executor);
+  }
+
+  /**
+   * @see DataFactoryFeignClient#performPostBatch(String, String, String, HttpHeaders)
+   */
+  public CompletableFuture<ConnectorResponse> performPostBatch(String resource, String uploadType,
+      String body, HttpHeaders headers) {
+    return AsyncSupport.supplyAsync(
+        () -> dataFactoryFeignClient.performPostBatch(resource, uploadType, body, headers),
+        executor);
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import com.epam.digital.data.platform.datafactory.feign.enums.DataFactoryError;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import com.epam.digital.data.platform.starter.errorhandling.exception.ForbiddenOperationException;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import com.epam.digital.data.platform.starter.errorhandling.exception.UnauthorizedException;
+import feign.FeignException;
+import feign.RetryableException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The class represents an uploader that splits large payload of
+ * {@link DataFactoryFeignClient#performPostBatch} into chunks and uploads them with bounded
+ * parallelism. Next chunk is split while previous ones are being uploaded, chunks that provably
+ * weren't stored are retried individually and the result reports every chunk.
+ * <p>
+ * Chunks are uploaded on the executor if it is provided, otherwise one by one on the caller
+ * thread.
+ */
+public class DataFactoryBatchUploader {
+
+  private static final Set<Integer> NOT_PROCESSED_STATUSES = Set.of(
+      HttpStatus.TOO_MANY_REQUESTS.value(), HttpStatus.SERVICE_UNAVAILABLE.value());
+  private static final Set<String> NOT_PROCESSED_CODES = Set.of(
+      HttpStatus.TOO_MANY_REQUESTS.name(), DataFactoryError.SERVICE_UNAVAILABLE.name());
+
+  private final DataFactoryFeignClient dataFactoryFeignClient;
+  private final BatchUploadOptions defaultOptions;
+  private final Executor executor;
+
+  public DataFactoryBatchUploader(DataFactoryFeignClient dataFactoryFeignClient,
+      BatchUploadOptions defaultOptions, Executor executor) {
+    this.dataFactoryFeignClient = dataFactoryFeignClient;
+    this.defaultOptions = defaultOptions;
+    this.executor = Objects.isNull(executor) ? Runnable::run : task -> {
+      try {
+        executor.execute(task);
+      } catch (RejectedExecutionException e) {
+        task.run();
+      }
+    };
+  }
+
+  /**
+   * @see #upload(String, String, Reader, HttpHeaders, BatchUploadOptions)
+   */
+  public BatchUploadResult upload(String resource, String uploadType, String body,
+      HttpHeaders headers) {
+    return upload(resource, uploadType, new StringReader(body), headers, defaultOptions);
+  }
+
+  /**
+   * @see #upload(String, String, Reader, HttpHeaders, BatchUploadOptions)
+   */
+  public BatchUploadResult upload(String resource, String uploadType, String body,
+      HttpHeaders headers, BatchUploadOptions options) {
+    return upload(resource, uploadType, new StringReader(body), headers, options);
+  }
+
+  /**
+   * Split payload into chunks and upload them using
+   * {@link DataFactoryFeignClient#performPostBatch}. The method returns when all sent chunks are
+   * either uploaded or failed all attempts.
+   *
+   * @param resource   url resource
+   * @param uploadType data upload type
+   * @param payload    json array or csv payload, it is closed after upload
+   * @param headers    http headers
+   * @param options    chunk limits, parallelism and retry options
+   * @return per-chunk results
+   */
+  public BatchUploadResult upload(String resource, String uploadType, Reader payload,
+      HttpHeaders headers, BatchUploadOptions options) {
+    var start = System.nanoTime();
+    var permits = new Semaphore(Math.max(options.getParallelism(), 1));
+    var failed = new AtomicBoolean();
+    var futures = new ArrayList<CompletableFuture<BatchChunkResult>>();
+    try (var splitter = BatchPayloadSplitter.of(payload, options.getFormat(), options)) {
+      while (!(options.isFailFast() && failed.get()) && splitter.hasNext()) {
+        var chunk = splitter.next();
+        permits.acquire();
+        var future = new CompletableFuture<BatchChunkResult>();
+        future.thenAccept(result -> {
+          if (!result.isSuccessful()) {
+            failed.set(true);
+          }
+          permits.release();
+        });
+        futures.add(future);
+        new ChunkUpload(resource, uploadType, chunk, headers, options, future).attempt(1);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Batch upload is interrupted", e);
+    } catch (IOException e) {
+      await(futures);
+      throw new UncheckedIOException("Batch payload can't be closed", e);
+    } catch (RuntimeException e) {
+      await(futures);
+      throw e;
+    }
+    var results = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    return new BatchUploadResult(results,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  private static void await(List<CompletableFuture<BatchChunkResult>> futures) {
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+  }
+
+  /**
+   * Check whether chunk upload can be retried. {@code performPostBatch} isn't idempotent, so by
+   * default only failures after which the chunk provably wasn't stored are retried: connection
+   * failures, 429 and 503 responses and calls rejected on the client side by circuit breaker or
+   * concurrency limit. Other server errors and timeouts are retried only if ambiguous failures are
+   * retried by options.
+   */
+  static boolean isRetryable(Exception e, boolean retryAmbiguousFailures) {
+    if (e instanceof UnauthorizedException || e instanceof ForbiddenOperationException) {
+      return false;
+    }
+    if (e instanceof FeignException && ((FeignException) e).status() > 0) {
+      var status = ((FeignException) e).status();
+      return NOT_PROCESSED_STATUSES.contains(status)
+          || retryAmbiguousFailures && status >= 500;
+    }
+    if (e instanceof RetryableException) {
+      return isConnectFailure(e) || retryAmbiguousFailures;
+    }
+    if (e instanceof SystemException) {
+      return NOT_PROCESSED_CODES.contains(((SystemException) e).getCode())
+          || retryAmbiguousFailures;
+    }
+    return false;
+  }
+
+  private static boolean isConnectFailure(Throwable e) {
+    for (var cause = e.getCause(); Objects.nonNull(cause); cause = cause.getCause()) {
+      if (cause instanceof ConnectException || cause instanceof UnknownHostException
+          || cause instanceof NoRouteToHostException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private class ChunkUpload {
+
+    private final String resource;
+    private final String uploadType;
+    private final BatchPayloadSplitter.Chunk chunk;
+    private final HttpHeaders headers;
+    private final BatchUploadOptions options;
+    private final CompletableFuture<BatchChunkResult> result;
+    private final long start = System.nanoTime();
+
+    ChunkUpload(String resource, String uploadType, BatchPayloadSplitter.Chunk chunk,
+        HttpHeaders headers, BatchUploadOptions options,
+        CompletableFuture<BatchChunkResult> result) {
+      this.resource = resource;
+      this.uploadType = uploadType;
+      this.chunk = chunk;
+      this.headers = headers;
+      this.options = options;
+      this.result = result;
+    }
+
+    void attempt(int attempt) {
+      executor.execute(() -> send(attempt));
+    }
+
+    private void send(int attempt) {
+      try {
+        var response = dataFactoryFeignClient.performPostBatch(resource, uploadType,
+            chunk.getBody(), headers);
+        result.complete(chunkResult(attempt, response, null));
+      } catch (Exception e) {
+        if (attempt < options.getMaxAttempts()
+            && isRetryable(e, options.isRetryAmbiguousFailures())) {
+          var delay = options.getRetryBackoff().multipliedBy(attempt).toMillis();
+          CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor)
+              .execute(() -> send(attempt + 1));
+        } else {
+          result.complete(chunkResult(attempt, null, e));
+        }
+      }
+    }
+
+    private BatchChunkResult chunkResult(int attempts,
+        ConnectorResponse response, Exception failure) {
+      return BatchChunkResult.builder()
+          .index(chunk.getIndex())
+          .rows(chunk.getRows())
+          .bytes(chunk.getBytes())
+          .attempts(attempts)
+          .durationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+          .response(response)
+          .failure(failure)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents a client that gets many data factory entities by ids using
+ * {@link DataFactoryFeignClient#performGet} with bounded number of parallel requests. Gets run on
+ * the executor if it is provided, otherwise one by one on the calling thread.
+ */
+@RequiredArgsConstructor
+public class DataFactoryBulkClient {
+
+  private final DataFactoryFeignClient dataFactoryFeignClient;
+  private final int defaultConcurrency;
+  private final Executor executor;
+
+  /**
+   * @see #performBulkGet(String, Collection, HttpHeaders, int)
+   */
+  public BulkGetResult performBulkGet(String resource, Collection<String> ids,
+      HttpHeaders headers) {
+    return performBulkGet(resource, ids, headers, defaultConcurrency);
+  }
+
+  /**
+   * Get data factory entities by ids, failure of one id doesn't fail the others
+   *
+   * @param resource    url resource
+   * @param ids         identifiers of resource entities
+   * @param headers     http headers
+   * @param concurrency max number of parallel requests
+   * @return responses and failures in the order of ids
+   */
+  public BulkGetResult performBulkGet(String resource, Collection<String> ids,
+      HttpHeaders headers, int concurrency) {
+    return BulkSupport.getAll(ids,
+        id -> dataFactoryFeignClient.performGet(resource, id, headers), concurrency, executor);
+  }
+}
@@ -18,6 +18,7 @@ package com.epam.digital.data.platform.datafactory.factory.client;
 
 import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryFeignDecoderConfiguration;
 import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import feign.Response;
 import java.util.Map;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.HttpHeaders;
@@ -34,7 +35,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 /**
  * The interface represents a feign client and used to perform operations in data factory service.
  */
-@FeignClient(name = "data-factory-client", url = "${registry-rest-api.url}", configuration = DataFactoryFeignDecoderConfiguration.class)
+@FeignClient(name = "data-factory-client", url = "#{'${registry-rest-api.url}'.split(',')[0].trim()}", configuration = DataFactoryFeignDecoderConfiguration.class)
 public interface DataFactoryFeignClient {
 
   /**
@@ -50,6 +51,20 @@ public interface DataFactoryFeignClient {
   ConnectorResponse performGet(@PathVariable("resource") String resource,
       @PathVariable("id") String id, @RequestHeader HttpHeaders headers);
 
+  /**
+   * Perform GET operation for getting data factory entity by id without decoding the response, so
+   * its body can be mapped directly to the required type. The response has to be closed by caller.
+   *
+   * @param resource url resource
+   * @param id       identifier for resource entity
+   * @param headers  http headers
+   * @return not decoded response
+   * @see DataFactoryTypedClient#performGet(String, String, HttpHeaders, Class)
+   */
+  @GetMapping(path = "/{resource}/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+  Response performGetRaw(@PathVariable("resource") String resource,
+      @PathVariable("id") String id, @RequestHeader HttpHeaders headers);
+
   /**
    * Perform POST operation for creating data factory entity
    *
@@ -128,6 +143,20 @@ public interface DataFactoryFeignClient {
   ConnectorResponse performSearch(@PathVariable("resource") String resource,
       @RequestBody Map<String, Object> params, @RequestHeader HttpHeaders headers);
 
+  /**
+   * Perform POST operation for searching data factory entities by query params without decoding
+   * the response, so its body can be read incrementally. The response has to be closed by caller.
+   *
+   * @param resource url resource
+   * @param params   request body search params
+   * @param headers  http headers
+   * @return not decoded response
+   * @see DataFactorySearchClient#streamRows(String, Map, HttpHeaders)
+   */
+  @PostMapping(path = "/search/{resource}", produces = MediaType.APPLICATION_JSON_VALUE)
+  Response performSearchRaw(@PathVariable("resource") String resource,
+      @RequestBody Map<String, Object> params, @RequestHeader HttpHeaders headers);
+
   /**
    * Perform POST operation for creating list of data factory entities using one of predefined upload types
    *
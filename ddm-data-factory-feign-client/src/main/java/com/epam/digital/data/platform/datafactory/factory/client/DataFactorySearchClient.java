@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import com.epam.digital.data.platform.datafactory.feign.util.JsonArraySpliterator;
+import feign.Response;
+import feign.codec.ErrorDecoder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.RequiredArgsConstructor;
+import org.camunda.spin.json.SpinJsonNode;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents a client that performs {@link DataFactoryFeignClient#performSearch} page by
+ * page and exposes found rows as lazy {@link Iterator} or {@link Stream}, so whole search result
+ * isn't held in memory. Next page is prefetched on the executor if it is provided.
+ * <p>
+ * Rows of a single search response can be streamed as well, in this case the response body is
+ * parsed incrementally and each row is available as soon as it is read from the connection.
+ */
+@RequiredArgsConstructor
+public class DataFactorySearchClient {
+
+  private final DataFactoryFeignClient dataFactoryFeignClient;
+  private final SearchPagination defaultPagination;
+  private final Executor prefetchExecutor;
+  private final ErrorDecoder errorDecoder;
+
+  /**
+   * @see #iterator(String, Map, HttpHeaders, SearchPagination)
+   */
+  public CloseableIterator<SpinJsonNode> iterator(String resource, Map<String, Object> params,
+      HttpHeaders headers) {
+    return iterator(resource, params, headers, defaultPagination);
+  }
+
+  /**
+   * Create lazy iterator over search rows. The iterator has to be closed if it isn't consumed till
+   * the end, closing it cancels prefetched page.
+   *
+   * @param resource   search resource
+   * @param params     search params without pagination params
+   * @param headers    http headers
+   * @param pagination pagination of search
+   * @return iterator over rows of all pages
+   */
+  public CloseableIterator<SpinJsonNode> iterator(String resource, Map<String, Object> params,
+      HttpHeaders headers, SearchPagination pagination) {
+    return new SearchPageIterator(dataFactoryFeignClient, resource, params, headers, pagination,
+        prefetchExecutor);
+  }
+
+  /**
+   * @see #stream(String, Map, HttpHeaders, SearchPagination)
+   */
+  public Stream<SpinJsonNode> stream(String resource, Map<String, Object> params,
+      HttpHeaders headers) {
+    return stream(resource, params, headers, defaultPagination);
+  }
+
+  /**
+   * Create lazy sequential stream of search rows, closing the stream cancels prefetched page
+   *
+   * @param resource   search resource
+   * @param params     search params without pagination params
+   * @param headers    http headers
+   * @param pagination pagination of search
+   * @return stream of rows of all pages
+   */
+  public Stream<SpinJsonNode> stream(String resource, Map<String, Object> params,
+      HttpHeaders headers, SearchPagination pagination) {
+    var iterator = new SearchPageIterator(dataFactoryFeignClient, resource, params, headers,
+        pagination, prefetchExecutor);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+            Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(iterator::close);
+  }
+
+  /**
+   * Stream rows of search response as they are read from the connection. The stream has to be
+   * closed to release the connection if it isn't consumed till the end.
+   *
+   * @param resource search resource
+   * @param params   search params
+   * @param headers  http headers
+   * @return stream of rows of top-level json array of response
+   */
+  public Stream<SpinJsonNode> streamRows(String resource, Map<String, Object> params,
+      HttpHeaders headers) {
+    var response = performSearchRaw(resource, params, headers);
+    if (Objects.isNull(response.body())) {
+      return Stream.empty();
+    }
+    return JsonArraySpliterator.stream(JsonArraySpliterator.nodes(body(response)))
+        .onClose(response::close);
+  }
+
+  /**
+   * Stream rows of search response mapped to the specified type as they are read from the
+   * connection. The stream has to be closed to release the connection if it isn't consumed till
+   * the end.
+   *
+   * @param resource search resource
+   * @param params   search params
+   * @param headers  http headers
+   * @param type     row type
+   * @return stream of rows of top-level json array of response
+   */
+  public <T> Stream<T> streamRows(String resource, Map<String, Object> params,
+      HttpHeaders headers, Class<T> type) {
+    var response = performSearchRaw(resource, params, headers);
+    if (Objects.isNull(response.body())) {
+      return Stream.empty();
+    }
+    return JsonArraySpliterator.stream(JsonArraySpliterator.values(body(response), type))
+        .onClose(response::close);
+  }
+
+  /**
+   * Pass rows of search response to consumer as they are read from the connection
+   *
+   * @param resource search resource
+   * @param params   search params
+   * @param headers  http headers
+   * @param consumer row consumer
+   */
+  public void forEachRow(String resource, Map<String, Object> params, HttpHeaders headers,
+      Consumer<SpinJsonNode> consumer) {
+    try (var rows = streamRows(resource, params, headers)) {
+      rows.forEach(consumer);
+    }
+  }
+
+  private Response performSearchRaw(String resource, Map<String, Object> params,
+      HttpHeaders headers) {
+    var response = dataFactoryFeignClient.performSearchRaw(resource, params, headers);
+    if (response.status() >= 200 && response.status() < 300) {
+      return response;
+    }
+    try (response) {
+      var exception = errorDecoder.decode(
+          "DataFactoryFeignClient#performSearchRaw(String,Map,HttpHeaders)", response);
+      if (exception instanceof RuntimeException) {
+        throw (RuntimeException) exception;
+      }
+      throw new IllegalStateException(exception);
+    }
+  }
+
+  private static InputStream body(Response response) {
+    try {
+      return response.body().asInputStream();
+    } catch (IOException e) {
+      response.close();
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import com.epam.digital.data.platform.datafactory.feign.http.StreamingRequestExecutor;
+import com.epam.digital.data.platform.datafactory.feign.model.request.RequestBodySource;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import feign.Request.HttpMethod;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents a client that performs write operations of {@link DataFactoryFeignClient}
+ * with request bodies that are already serialized or are written directly to the connection, so
+ * large payloads aren't copied to a {@link String} and are sent with chunked transfer encoding if
+ * their length is unknown.
+ * <p>
+ * Requests are sent through the http client of data factory feign client with its decorators, so
+ * e.g. cached entities of the written resource are invalidated, and responses are decoded the same
+ * way.
+ */
+@RequiredArgsConstructor
+public class DataFactoryStreamingClient {
+
+  private static final String METHOD_KEY_FORMAT = "DataFactoryFeignClient#%s";
+
+  private final StreamingRequestExecutor executor;
+
+  /**
+   * @see #performPost(String, RequestBodySource, HttpHeaders)
+   */
+  public ConnectorResponse performPost(String resource, byte[] body, HttpHeaders headers) {
+    return performPost(resource, RequestBodySource.of(body), headers);
+  }
+
+  /**
+   * @see #performPost(String, RequestBodySource, HttpHeaders)
+   */
+  public ConnectorResponse performPost(String resource, InputStream body, HttpHeaders headers) {
+    return performPost(resource, RequestBodySource.of(body), headers);
+  }
+
+  /**
+   * Perform POST operation for creating data factory entity
+   *
+   * @param resource url resource
+   * @param body     request body source
+   * @param headers  http headers
+   * @return mapped response
+   * @see DataFactoryFeignClient#performPost(String, String, HttpHeaders)
+   */
+  public ConnectorResponse performPost(String resource, RequestBodySource body,
+      HttpHeaders headers) {
+    return execute(HttpMethod.POST, new String[]{resource}, body, headers,
+        "performPost(String,String,HttpHeaders)");
+  }
+
+  /**
+   * @see #performPutNested(String, RequestBodySource, HttpHeaders)
+   */
+  public ConnectorResponse performPutNested(String resource, byte[] body, HttpHeaders headers) {
+    return performPutNested(resource, RequestBodySource.of(body), headers);
+  }
+
+  /**
+   * @see #performPutNested(String, RequestBodySource, HttpHeaders)
+   */
+  public ConnectorResponse performPutNested(String resource, InputStream body,
+      HttpHeaders headers) {
+    return performPutNested(resource, RequestBodySource.of(body), headers);
+  }
+
+  /**
+   * Perform PUT operation for creating nested data factory entity
+   *
+   * @param resource url resource
+   * @param body     request body source
+   * @param headers  http headers
+   * @return mapped response
+   * @see DataFactoryFeignClient#performPutNested(String, String, HttpHeaders)
+   */
+  public ConnectorResponse performPutNested(String resource, RequestBodySource body,
+      HttpHeaders headers) {
+    return execute(HttpMethod.PUT, new String[]{"nested", resource}, body, headers,
+        "performPutNested(String,String,HttpHeaders)");
+  }
+
+  /**
+   * @see #performPut(String, String, RequestBodySource, HttpHeaders)
+   */
+  public ConnectorResponse performPut(String resource, String id, byte[] body,
+      HttpHeaders headers) {
+    return performPut(resource, id, RequestBodySource.of(body), headers);
+  }
+
+  /**
+   * @see #performPut(String, String, RequestBodySource, HttpHeaders)
+   */
+  public ConnectorResponse performPut(String resource, String id, InputStream body,
+      HttpHeaders headers) {
+    return performPut(resource, id, RequestBodySource.of(body), headers);
+  }
+
+  /**
+   * Perform PUT operation for updating data factory entity by id
+   *
+   * @param resource url resource
+   * @param id       identifier for resource entity
+   * @param body     request body source
+   * @param headers  http headers
+   * @return mapped response
+   * @see DataFactoryFeignClient#performPut(String, String, String, HttpHeaders)
+   */
+  public ConnectorResponse performPut(String resource, String id, RequestBodySource body,
+      HttpHeaders headers) {
+    return execute(HttpMethod.PUT, new String[]{resource, id}, body, headers,
+        "performPut(String,String,String,HttpHeaders)");
+  }
+
+  /**
+   * @see #performPatch(String, String, RequestBodySource, HttpHeaders)
+   */
+  public ConnectorResponse performPatch(String resource, String id, byte[] body,
+      HttpHeaders headers) {
+    return performPatch(resource, id, RequestBodySource.of(body), headers);
+  }
+
+  /**
+   * @see #performPatch(String, String, RequestBodySource, HttpHeaders)
+   */
+  public ConnectorResponse performPatch(String resource, String id, InputStream body,
+      HttpHeaders headers) {
+    return performPatch(resource, id, RequestBodySource.of(body), headers);
+  }
+
+  /**
+   * Perform PATCH operation for updating data factory entity by id
+   *
+   * @param resource url resource
+   * @param id       identifier for resource entity
+   * @param body     request body source
+   * @param headers  http headers
+   * @return mapped response
+   * @see DataFactoryFeignClient#performPatch(String, String, String, HttpHeaders)
+   */
+  public ConnectorResponse performPatch(String resource, String id, RequestBodySource body,
+      HttpHeaders headers) {
+    return execute(HttpMethod.PATCH, new String[]{"partial", resource, id}, body, headers,
+        "performPatch(String,String,String,HttpHeaders)");
+  }
+
+  /**
+   * @see #performPostBatch(String, String, RequestBodySource, HttpHeaders)
+   */
+  public ConnectorResponse performPostBatch(String resource, String uploadType, byte[] body,
+      HttpHeaders headers) {
+    return performPostBatch(resource, uploadType, RequestBodySource.of(body), headers);
+  }
+
+  /**
+   * @see #performPostBatch(String, String, RequestBodySource, HttpHeaders)
+   */
+  public ConnectorResponse performPostBatch(String resource, String uploadType, InputStream body,
+      HttpHeaders headers) {
+    return performPostBatch(resource, uploadType, RequestBodySource.of(body), headers);
+  }
+
+  /**
+   * Perform POST operation for creating list of data factory entities using one of predefined
+   * upload types
+   *
+   * @param resource   url resource
+   * @param uploadType data upload type
+   * @param body       request body source
+   * @param headers    http headers
+   * @return mapped response
+   * @see DataFactoryFeignClient#performPostBatch(String, String, String, HttpHeaders)
+   */
+  public ConnectorResponse performPostBatch(String resource, String uploadType,
+      RequestBodySource body, HttpHeaders headers) {
+    return execute(HttpMethod.POST, new String[]{resource, uploadType}, body, headers,
+        "performPostBatch(String,String,String,HttpHeaders)");
+  }
+
+  private ConnectorResponse execute(HttpMethod method, String[] path, RequestBodySource body,
+      HttpHeaders headers, String signature) {
+    try {
+      return executor.execute(method, path, body, headers,
+          String.format(METHOD_KEY_FORMAT, signature));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import com.epam.digital.data.platform.datafactory.feign.decoder.TypedResponseDecoder;
+import com.epam.digital.data.platform.datafactory.feign.model.response.TypedConnectorResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import feign.Response;
+import feign.codec.ErrorDecoder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents a client that performs read operations of {@link DataFactoryFeignClient}
+ * and maps response bodies directly from the response stream to the specified types, so services
+ * that use their own DTOs don't parse the body to {@link org.camunda.spin.json.SpinJsonNode}
+ * first.
+ */
+@RequiredArgsConstructor
+public class DataFactoryTypedClient {
+
+  private final DataFactoryFeignClient dataFactoryFeignClient;
+  private final TypedResponseDecoder responseDecoder;
+  private final ErrorDecoder errorDecoder;
+
+  /**
+   * @see #performGet(String, String, HttpHeaders, Type)
+   */
+  public <T> TypedConnectorResponse<T> performGet(String resource, String id,
+      HttpHeaders headers, Class<T> type) {
+    return performGet(resource, id, headers, (Type) type);
+  }
+
+  /**
+   * @see #performGet(String, String, HttpHeaders, Type)
+   */
+  public <T> TypedConnectorResponse<T> performGet(String resource, String id,
+      HttpHeaders headers, TypeReference<T> type) {
+    return performGet(resource, id, headers, type.getType());
+  }
+
+  /**
+   * Perform GET operation for getting data factory entity by id
+   *
+   * @param resource url resource
+   * @param id       identifier for resource entity
+   * @param headers  http headers
+   * @param type     response body type
+   * @return response with mapped body
+   * @see DataFactoryFeignClient#performGet(String, String, HttpHeaders)
+   */
+  public <T> TypedConnectorResponse<T> performGet(String resource, String id,
+      HttpHeaders headers, Type type) {
+    return decode(dataFactoryFeignClient.performGetRaw(resource, id, headers), type,
+        "DataFactoryFeignClient#performGetRaw(String,String,HttpHeaders)");
+  }
+
+  /**
+   * Perform POST operation for searching data factory entities by query params
+   *
+   * @param resource url resource
+   * @param params   request body search params
+   * @param headers  http headers
+   * @param rowType  type of found row
+   * @return response with list of mapped rows
+   * @see DataFactoryFeignClient#performSearch(String, Map, HttpHeaders)
+   */
+  public <T> TypedConnectorResponse<List<T>> performSearch(String resource,
+      Map<String, Object> params, HttpHeaders headers, Class<T> rowType) {
+    return decode(dataFactoryFeignClient.performSearchRaw(resource, params, headers),
+        TypeFactory.defaultInstance().constructCollectionType(List.class, rowType),
+        "DataFactoryFeignClient#performSearchRaw(String,Map,HttpHeaders)");
+  }
+
+  private <T> TypedConnectorResponse<T> decode(Response response, Type type, String methodKey) {
+    try (response) {
+      if (response.status() < 200 || response.status() >= 300) {
+        var exception = errorDecoder.decode(methodKey, response);
+        if (exception instanceof RuntimeException) {
+          throw (RuntimeException) exception;
+        }
+        throw new IllegalStateException(exception);
+      }
+      return responseDecoder.decodeTyped(response, type);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import com.epam.digital.data.platform.datafactory.feign.model.request.StartBpRequest;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents a client that performs {@link PlatformGatewayFeignClient} operations on
+ * dedicated executor, so calling thread isn't blocked while waiting for platform gateway response.
+ * Responses and exceptions are the same as for {@link PlatformGatewayFeignClient}, exceptions are
+ * delivered through the returned future.
+ */
+@RequiredArgsConstructor
+public class PlatformGatewayAsyncClient {
+
+  private final PlatformGatewayFeignClient platformGatewayFeignClient;
+  private final Executor executor;
+
+  /**
+   * @see PlatformGatewayFeignClient#performGet(String, String, String, HttpHeaders)
+   */
+  public CompletableFuture<ConnectorResponse> performGet(String registryTarget, String resource,
+      String id, HttpHeaders headers) {
+    return AsyncSupport.supplyAsync(
+        () -> platformGatewayFeignClient.performGet(registryTarget, resource, id, headers),
+        executor);
+  }
+
+  /**
+   * @see PlatformGatewayFeignClient#performSearch(String, String, Map, HttpHeaders)
+   */
+  public CompletableFuture<ConnectorResponse> performSearch(String registryTarget,
+      String resource, Map<String, Object> params, HttpHeaders headers) {
+    return AsyncSupport.supplyAsync(
+        () -> platformGatewayFeignClient.performSearch(registryTarget, resource, params, headers),
+        executor);
+  }
+
+  /**
+   * @see PlatformGatewayFeignClient#startBp(String, StartBpRequest, HttpHeaders)
+   */
+  public CompletableFuture<ConnectorResponse> startBp(String registryTarget,
+      StartBpRequest startBpRequest, HttpHeaders headers) {
+    return AsyncSupport.supplyAsync(
+        () -> platformGatewayFeignClient.startBp(registryTarget, startBpRequest, headers),
+        executor);
+  }
+}
@@ -33,7 +33,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
  * The interface represents a feign client and used to perform operations in platform gateway
  * service.
  */
-@FeignClient(name = "platform-gateway-client", url = "${platform-gateway.url}", configuration = DataFactoryFeignDecoderConfiguration.class)
+@FeignClient(name = "platform-gateway-client", url = "#{'${platform-gateway.url}'.split(',')[0].trim()}", configuration = DataFactoryFeignDecoderConfiguration.class)
 public interface PlatformGatewayFeignClient {
 
   /**
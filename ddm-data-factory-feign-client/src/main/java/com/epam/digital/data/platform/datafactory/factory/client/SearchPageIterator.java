@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import org.camunda.spin.json.SpinJsonNode;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents lazy iterator over rows of data factory search. Pages are requested with
+ * {@link DataFactoryFeignClient#performSearch} only when rows of previous page are consumed, or in
+ * background right after previous page is received if prefetch is enabled. Page that has less
+ * rows than page size is considered the last one.
+ */
+class SearchPageIterator implements CloseableIterator<SpinJsonNode> {
+
+  private static final String CONTENT_FIELD = "content";
+
+  private final DataFactoryFeignClient dataFactoryFeignClient;
+  private final String resource;
+  private final Map<String, Object> params;
+  private final HttpHeaders headers;
+  private final SearchPagination pagination;
+  private final Executor prefetchExecutor;
+
+  private Iterator<SpinJsonNode> rows = Collections.emptyIterator();
+  private Map<String, Object> nextPageParams;
+  private FutureTask<List<SpinJsonNode>> prefetchedPage;
+  private int nextOffset;
+
+  SearchPageIterator(DataFactoryFeignClient dataFactoryFeignClient, String resource,
+      Map<String, Object> params, HttpHeaders headers, SearchPagination pagination,
+      Executor prefetchExecutor) {
+    this.dataFactoryFeignClient = dataFactoryFeignClient;
+    this.resource = resource;
+    this.params = params;
+    this.headers = headers;
+    this.pagination = pagination;
+    this.prefetchExecutor = pagination.isPrefetch() ? prefetchExecutor : null;
+    this.nextPageParams = pageParams(null);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!rows.hasNext()) {
+      List<SpinJsonNode> page;
+      if (Objects.nonNull(prefetchedPage)) {
+        var pending = prefetchedPage;
+        prefetchedPage = null;
+        page = await(pending);
+      } else if (Objects.nonNull(nextPageParams)) {
+        page = fetch(nextPageParams);
+      } else {
+        return false;
+      }
+      rows = page.iterator();
+      nextPageParams = page.size() < pagination.getPageSize() ? null
+          : pageParams(page.get(page.size() - 1));
+      prefetch();
+    }
+    return true;
+  }
+
+  @Override
+  public SpinJsonNode next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return rows.next();
+  }
+
+  @Override
+  public void close() {
+    nextPageParams = null;
+    if (Objects.nonNull(prefetchedPage)) {
+      prefetchedPage.cancel(true);
+      prefetchedPage = null;
+    }
+  }
+
+  private void prefetch() {
+    if (Objects.isNull(prefetchExecutor) || Objects.isNull(nextPageParams)) {
+      return;
+    }
+    var pageParams = nextPageParams;
+    var page = new FutureTask<>(() -> fetch(pageParams));
+    try {
+      prefetchExecutor.execute(page);
+      prefetchedPage = page;
+      nextPageParams = null;
+    } catch (RejectedExecutionException e) {
+      // next page is requested synchronously when it's needed
+    }
+  }
+
+  private List<SpinJsonNode> fetch(Map<String, Object> pageParams) {
+    var body = dataFactoryFeignClient.performSearch(resource, pageParams, headers)
+        .getResponseBody();
+    if (Objects.nonNull(body) && body.isObject() && body.hasProp(CONTENT_FIELD)) {
+      body = body.prop(CONTENT_FIELD);
+    }
+    if (Objects.isNull(body) || !body.isArray()) {
+      return List.of();
+    }
+    return new ArrayList<>(body.elements());
+  }
+
+  private Map<String, Object> pageParams(SpinJsonNode lastRow) {
+    Map<String, Object> pageParams = new HashMap<>(params);
+    pageParams.put(pagination.getLimitParam(), pagination.getPageSize());
+    if (pagination.isKeyset()) {
+      if (Objects.nonNull(lastRow)) {
+        pageParams.put(pagination.getKeyParam(), keyValue(lastRow));
+      }
+    } else {
+      pageParams.put(pagination.getOffsetParam(), nextOffset);
+      nextOffset += pagination.getPageSize();
+    }
+    return pageParams;
+  }
+
+  private Object keyValue(SpinJsonNode row) {
+    var keyField = pagination.getKeyField();
+    if (!row.isObject() || !row.hasProp(keyField) || !row.prop(keyField).isValue()) {
+      throw new IllegalStateException(String.format(
+          "Row of %s search has no value of key field '%s' that is required for keyset "
+              + "pagination", resource, keyField));
+    }
+    return row.prop(keyField).value();
+  }
+
+  private static List<SpinJsonNode> await(FutureTask<List<SpinJsonNode>> page) {
+    try {
+      return page.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      page.cancel(true);
+      throw new IllegalStateException("Waiting for search page is interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
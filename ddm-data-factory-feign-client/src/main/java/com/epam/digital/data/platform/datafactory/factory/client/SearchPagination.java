@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import java.util.Objects;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Getter;
+
+/**
+ * The class represents pagination of search that is performed page by page. Pages are requested
+ * either by offset or by keyset, when key field value of the last row of previous page is passed
+ * as key param of next page request.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class SearchPagination {
+
+  @Default
+  private final int pageSize = 500;
+  @Default
+  private final String limitParam = "limit";
+  @Default
+  private final String offsetParam = "offset";
+  /**
+   * Row field used as keyset, offset pagination is used if it isn't set
+   */
+  private final String keyField;
+  /**
+   * Search param that receives key field value of the last row of previous page
+   */
+  private final String keyParam;
+  /**
+   * Request next page in background while rows of current page are consumed
+   */
+  @Default
+  private final boolean prefetch = true;
+
+  public boolean isKeyset() {
+    return Objects.nonNull(keyField) && Objects.nonNull(keyParam);
+  }
+
+  /**
+   * Create offset pagination
+   *
+   * @param pageSize page size
+   * @return pagination
+   */
+  public static SearchPagination offset(int pageSize) {
+    return SearchPagination.builder().pageSize(pageSize).build();
+  }
+
+  /**
+   * Create keyset pagination
+   *
+   * @param pageSize page size
+   * @param keyField row field that search results are ordered by
+   * @param keyParam search param that receives key field value of the last row of previous page
+   * @return pagination
+   */
+  public static SearchPagination keyset(int pageSize, String keyField, String keyParam) {
+    return SearchPagination.builder().pageSize(pageSize).keyField(keyField).keyParam(keyParam)
+        .build();
+  }
+}
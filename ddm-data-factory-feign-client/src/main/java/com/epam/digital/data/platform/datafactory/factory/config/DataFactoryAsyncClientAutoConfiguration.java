@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.config;
+
+import com.epam.digital.data.platform.datafactory.factory.client.DataFactoryAsyncClient;
+import com.epam.digital.data.platform.datafactory.factory.client.DataFactoryFeignClient;
+import com.epam.digital.data.platform.datafactory.factory.client.PlatformGatewayAsyncClient;
+import com.epam.digital.data.platform.datafactory.factory.client.PlatformGatewayFeignClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The class represents an auto configuration of asynchronous data factory clients that is enabled
+ * by data-factory.async.enabled property.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "data-factory.async", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataFactoryAsyncProperties.class)
+public class DataFactoryAsyncClientAutoConfiguration {
+
+  @Bean
+  public DataFactoryAsyncExecutor dataFactoryAsyncExecutor(DataFactoryAsyncProperties properties) {
+    return new DataFactoryAsyncExecutor(properties);
+  }
+
+  @Bean
+  @ConditionalOnBean(DataFactoryFeignClient.class)
+  public DataFactoryAsyncClient dataFactoryAsyncClient(
+      DataFactoryFeignClient dataFactoryFeignClient,
+      DataFactoryAsyncExecutor dataFactoryAsyncExecutor) {
+    return new DataFactoryAsyncClient(dataFactoryFeignClient,
+        dataFactoryAsyncExecutor.getExecutor());
+  }
+
+  @Bean
+  @ConditionalOnBean(PlatformGatewayFeignClient.class)
+  public PlatformGatewayAsyncClient platformGatewayAsyncClient(
+      PlatformGatewayFeignClient platformGatewayFeignClient,
+      DataFactoryAsyncExecutor dataFactoryAsyncExecutor) {
+    return new PlatformGatewayAsyncClient(platformGatewayFeignClient,
+        dataFactoryAsyncExecutor.getExecutor());
+  }
+}
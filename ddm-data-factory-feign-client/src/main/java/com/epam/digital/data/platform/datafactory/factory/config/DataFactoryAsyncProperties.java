@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of executor that runs asynchronous data factory operations.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.async")
+public class DataFactoryAsyncProperties {
+
+  private boolean enabled;
+  private int corePoolSize = 8;
+  private int maxPoolSize = 32;
+  private int queueCapacity = 1000;
+  private String threadNamePrefix = "data-factory-async-";
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of default options of {@code DataFactoryBatchUploader}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.batch-upload")
+public class DataFactoryBatchUploadProperties {
+
+  private int maxRows = 1000;
+  private long maxBytes = 1024 * 1024;
+  private int parallelism = 4;
+  private int maxAttempts = 3;
+  private boolean retryAmbiguousFailures;
+  private Duration retryBackoff = Duration.ofMillis(500);
+  private boolean failFast;
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.config;
+
+import com.epam.digital.data.platform.datafactory.factory.client.BatchUploadOptions;
+import com.epam.digital.data.platform.datafactory.factory.client.DataFactoryBatchUploader;
+import com.epam.digital.data.platform.datafactory.factory.client.DataFactoryFeignClient;
+import java.util.Objects;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The class represents an auto configuration of chunked batch uploader. Chunks are uploaded in
+ * parallel on executor of asynchronous clients if they are enabled.
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(DataFactoryAsyncClientAutoConfiguration.class)
+@EnableConfigurationProperties(DataFactoryBatchUploadProperties.class)
+public class DataFactoryBatchUploaderAutoConfiguration {
+
+  @Bean
+  @ConditionalOnBean(DataFactoryFeignClient.class)
+  public DataFactoryBatchUploader dataFactoryBatchUploader(
+      DataFactoryFeignClient dataFactoryFeignClient, DataFactoryBatchUploadProperties properties,
+      ObjectProvider<DataFactoryAsyncExecutor> dataFactoryAsyncExecutor) {
+    var options = BatchUploadOptions.builder()
+        .maxRows(properties.getMaxRows())
+        .maxBytes(properties.getMaxBytes())
+        .parallelism(properties.getParallelism())
+        .maxAttempts(properties.getMaxAttempts())
+        .retryAmbiguousFailures(properties.isRetryAmbiguousFailures())
+        .retryBackoff(properties.getRetryBackoff())
+        .failFast(properties.isFailFast())
+        .build();
+    var asyncExecutor = dataFactoryAsyncExecutor.getIfAvailable();
+    return new DataFactoryBatchUploader(dataFactoryFeignClient, options,
+        Objects.isNull(asyncExecutor) ? null : asyncExecutor.getExecutor());
+  }
+}
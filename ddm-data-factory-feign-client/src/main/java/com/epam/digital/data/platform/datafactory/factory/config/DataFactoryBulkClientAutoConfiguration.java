@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.config;
+
+import com.epam.digital.data.platform.datafactory.factory.client.DataFactoryBulkClient;
+import com.epam.digital.data.platform.datafactory.factory.client.DataFactoryFeignClient;
+import com.epam.digital.data.platform.datafactory.factory.client.PlatformGatewayBulkClient;
+import com.epam.digital.data.platform.datafactory.factory.client.PlatformGatewayFeignClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The class represents an auto configuration of bulk get clients. Entities are got in parallel on
+ * executor that is shared by bulk clients only.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(DataFactoryBulkProperties.class)
+public class DataFactoryBulkClientAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public DataFactoryBulkExecutor dataFactoryBulkExecutor(DataFactoryBulkProperties properties) {
+    return new DataFactoryBulkExecutor(properties);
+  }
+
+  @Bean
+  @ConditionalOnBean(DataFactoryFeignClient.class)
+  public DataFactoryBulkClient dataFactoryBulkClient(
+      DataFactoryFeignClient dataFactoryFeignClient, DataFactoryBulkProperties properties,
+      DataFactoryBulkExecutor dataFactoryBulkExecutor) {
+    return new DataFactoryBulkClient(dataFactoryFeignClient, properties.getConcurrency(),
+        dataFactoryBulkExecutor.getExecutor());
+  }
+
+  @Bean
+  @ConditionalOnBean(PlatformGatewayFeignClient.class)
+  public PlatformGatewayBulkClient platformGatewayBulkClient(
+      PlatformGatewayFeignClient platformGatewayFeignClient, DataFactoryBulkProperties properties,
+      DataFactoryBulkExecutor dataFactoryBulkExecutor) {
+    return new PlatformGatewayBulkClient(platformGatewayFeignClient, properties.getConcurrency(),
+        dataFactoryBulkExecutor.getExecutor());
+  }
+}
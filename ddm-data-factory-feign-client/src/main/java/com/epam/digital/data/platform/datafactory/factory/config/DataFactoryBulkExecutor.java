@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.config;
+
+import java.util.concurrent.Executor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * The class represents a holder of bounded executor that runs gets of bulk clients, so bulk gets
+ * are parallel without asynchronous clients and don't take threads of their executor. The
+ * executor isn't registered as a bean itself to not replace application task executor.
+ */
+public class DataFactoryBulkExecutor implements AutoCloseable {
+
+  private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+  public DataFactoryBulkExecutor(DataFactoryBulkProperties properties) {
+    executor.setCorePoolSize(properties.getPoolSize());
+    executor.setMaxPoolSize(properties.getPoolSize());
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setQueueCapacity(properties.getQueueCapacity());
+    executor.setThreadNamePrefix(properties.getThreadNamePrefix());
+    executor.initialize();
+  }
+
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of bulk get clients.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.bulk")
+public class DataFactoryBulkProperties {
+
+  /**
+   * Default max number of parallel requests of a single bulk get
+   */
+  private int concurrency = 16;
+  /**
+   * Number of threads that run gets of all bulk clients
+   */
+  private int poolSize = 32;
+  /**
+   * Max number of gets waiting for a thread, gets over it run on the calling thread
+   */
+  private int queueCapacity = 1000;
+  private String threadNamePrefix = "data-factory-bulk-";
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of data factory entity cache that is fed by search results.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.entity-cache")
+public class DataFactoryEntityCacheProperties {
+
+  private boolean enabled;
+  private Duration entityTtl = Duration.ofSeconds(30);
+  private Duration searchTtl = Duration.ofSeconds(10);
+  private int maxEntities = 10000;
+  private int maxSearchResults = 1000;
+  /**
+   * Cached search resources by search resource name
+   */
+  private Map<String, SearchResource> searchResources = new HashMap<>();
+  /**
+   * Headers that define authorization scope of cached entities
+   */
+  private List<String> authorizationHeaders = List.of("X-Access-Token", "Authorization");
+
+  @Getter
+  @Setter
+  public static class SearchResource {
+
+    /**
+     * Entity resource that is returned by search, writes to it invalidate search results
+     */
+    private String resource;
+    /**
+     * Primary key field of returned rows, rows are stored as entities if it's set
+     */
+    private String idField;
+  }
+}
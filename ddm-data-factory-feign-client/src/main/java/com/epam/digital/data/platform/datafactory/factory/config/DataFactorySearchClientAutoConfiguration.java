@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.config;
+
+import com.epam.digital.data.platform.datafactory.factory.client.DataFactoryFeignClient;
+import com.epam.digital.data.platform.datafactory.factory.client.DataFactorySearchClient;
+import com.epam.digital.data.platform.datafactory.factory.client.SearchPagination;
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryResponseDecoderProperties;
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryErrorDecoder;
+import com.epam.digital.data.platform.starter.localization.MessageResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.codec.ErrorDecoder;
+import java.util.Objects;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The class represents an auto configuration of paging data factory search client. Next pages are
+ * prefetched on executor of asynchronous clients if they are enabled.
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(DataFactoryAsyncClientAutoConfiguration.class)
+@EnableConfigurationProperties(DataFactorySearchProperties.class)
+public class DataFactorySearchClientAutoConfiguration {
+
+  @Bean
+  @ConditionalOnBean(DataFactoryFeignClient.class)
+  public DataFactorySearchClient dataFactorySearchClient(
+      DataFactoryFeignClient dataFactoryFeignClient, DataFactorySearchProperties properties,
+      ObjectProvider<DataFactoryAsyncExecutor> dataFactoryAsyncExecutor, ObjectMapper objectMapper,
+      MessageResolver messageResolver, DataFactoryResponseDecoderProperties decoderProperties) {
+    var pagination = SearchPagination.builder()
+        .pageSize(properties.getPageSize())
+        .limitParam(properties.getLimitParam())
+        .offsetParam(properties.getOffsetParam())
+        .prefetch(properties.isPrefetch())
+        .build();
+    var asyncExecutor = dataFactoryAsyncExecutor.getIfAvailable();
+    return new DataFactorySearchClient(dataFactoryFeignClient, pagination,
+        Objects.isNull(asyncExecutor) ? null : asyncExecutor.getExecutor(),
+        new DataFactoryErrorDecoder(objectMapper, messageResolver, new ErrorDecoder.Default(),
+            Math.toIntExact(decoderProperties.getMaxErrorBodySize().toBytes()),
+            Math.toIntExact(decoderProperties.getMaxValidationErrorBodySize().toBytes())));
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of default pagination of {@code DataFactorySearchClient}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.search")
+public class DataFactorySearchProperties {
+
+  private int pageSize = 500;
+  private String limitParam = "limit";
+  private String offsetParam = "offset";
+  private boolean prefetch = true;
+}
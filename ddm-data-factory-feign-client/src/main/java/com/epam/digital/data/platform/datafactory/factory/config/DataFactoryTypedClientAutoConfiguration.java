@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.config;
+
+import com.epam.digital.data.platform.datafactory.factory.client.DataFactoryFeignClient;
+import com.epam.digital.data.platform.datafactory.factory.client.DataFactoryTypedClient;
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryResponseDecoderProperties;
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryErrorDecoder;
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryResponseDecoder;
+import com.epam.digital.data.platform.datafactory.feign.decoder.TypedResponseDecoder;
+import com.epam.digital.data.platform.starter.localization.MessageResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.codec.ErrorDecoder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The class represents an auto configuration of data factory client that maps response bodies
+ * directly to the specified types with the application object mapper.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataFactoryTypedClientAutoConfiguration {
+
+  @Bean
+  @ConditionalOnBean(DataFactoryFeignClient.class)
+  public DataFactoryTypedClient dataFactoryTypedClient(
+      DataFactoryFeignClient dataFactoryFeignClient, ObjectMapper objectMapper,
+      MessageResolver messageResolver, DataFactoryResponseDecoderProperties properties) {
+    var responseDecoder = new TypedResponseDecoder(objectMapper, new DataFactoryResponseDecoder(
+        properties.getMode(), Math.toIntExact(properties.getMaxBufferedBodySize().toBytes())));
+    return new DataFactoryTypedClient(dataFactoryFeignClient, responseDecoder,
+        new DataFactoryErrorDecoder(objectMapper, messageResolver, new ErrorDecoder.Default(),
+            Math.toIntExact(properties.getMaxErrorBodySize().toBytes()),
+            Math.toIntExact(properties.getMaxValidationErrorBodySize().toBytes())));
+  }
+}
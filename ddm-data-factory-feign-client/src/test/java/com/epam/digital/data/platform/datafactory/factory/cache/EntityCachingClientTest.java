@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.datafactory.factory.config.DataFactoryEntityCacheProperties;
+import com.epam.digital.data.platform.datafactory.factory.config.DataFactoryEntityCacheProperties.SearchResource;
+import feign.Client;
+import feign.Contract;
+import feign.Param;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.RequestLine;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Util;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EntityCachingClientTest {
+
+  private static final String URL = "http://registry";
+  private static final Request.Options OPTIONS =
+      new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+  private static final String ROWS =
+      "[{\"id\":\"1\",\"name\":\"a\"},{\"id\":\"2\",\"name\":\"b\"}]";
+
+  private Client delegate;
+  private Clock clock;
+  private SimpleMeterRegistry meterRegistry;
+  private EntityCachingClient client;
+
+  @BeforeEach
+  void beforeEach() {
+    delegate = mock(Client.class);
+    clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(0L);
+    meterRegistry = new SimpleMeterRegistry();
+    var searchResource = new SearchResource();
+    searchResource.setResource("consent");
+    searchResource.setIdField("id");
+    var properties = new DataFactoryEntityCacheProperties();
+    properties.setSearchResources(Map.of("consent-search", searchResource));
+    client = new EntityCachingClient(delegate, new EntityCache(100, 100), properties,
+        meterRegistry, clock);
+  }
+
+  @Test
+  void expectRowsOfSearchAreServedAsEntities() throws IOException {
+    when(delegate.execute(any(), any())).thenReturn(response(ROWS));
+
+    client.execute(search("token"), OPTIONS).close();
+    var entity = client.execute(get("1", "token"), OPTIONS);
+
+    assertThat(body(entity)).isEqualTo("{\"id\":\"1\",\"name\":\"a\"}");
+    verify(delegate, times(1)).execute(any(), any());
+    assertThat(counter("entity", "hit")).isEqualTo(1);
+  }
+
+  @Test
+  void expectRepeatedSearchIsServedFromCache() throws IOException {
+    when(delegate.execute(any(), any())).thenReturn(response(ROWS));
+
+    client.execute(search("token"), OPTIONS).close();
+    var repeated = client.execute(search("token"), OPTIONS);
+
+    assertThat(body(repeated)).isEqualTo(ROWS);
+    verify(delegate, times(1)).execute(any(), any());
+    assertThat(counter("search", "hit")).isEqualTo(1);
+  }
+
+  @Test
+  void expectEntitiesAreNotSharedBetweenAuthorizationScopes() throws IOException {
+    when(delegate.execute(any(), any())).thenReturn(response(ROWS),
+        response("{\"id\":\"1\"}"));
+
+    client.execute(search("first-token"), OPTIONS).close();
+    client.execute(get("1", "second-token"), OPTIONS).close();
+
+    verify(delegate, times(2)).execute(any(), any());
+    assertThat(counter("entity", "miss")).isEqualTo(1);
+  }
+
+  @Test
+  void expectWriteInvalidatesEntityAndSearchResults() throws IOException {
+    when(delegate.execute(any(), any())).thenReturn(response(ROWS), response("{}"),
+        response("{\"id\":\"1\",\"name\":\"c\"}"), response(ROWS));
+
+    client.execute(search("token"), OPTIONS).close();
+    client.execute(put("1", "token"), OPTIONS).close();
+    var entity = client.execute(get("1", "token"), OPTIONS);
+    client.execute(search("token"), OPTIONS).close();
+
+    assertThat(body(entity)).isEqualTo("{\"id\":\"1\",\"name\":\"c\"}");
+    verify(delegate, times(4)).execute(any(), any());
+    assertThat(counter("search", "miss")).isEqualTo(2);
+  }
+
+  private double counter(String cache, String result) {
+    return meterRegistry.get("datafactory.entity.cache.requests").tag("cache", cache)
+        .tag("result", result).counter().count();
+  }
+
+  private static Request search(String token) {
+    return request(HttpMethod.POST, "performSearch", URL + "/search/consent-search", token,
+        "{\"name\":\"a\"}".getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Request get(String id, String token) {
+    return request(HttpMethod.GET, "performGet", URL + "/consent/" + id, token, null);
+  }
+
+  private static Request put(String id, String token) {
+    return request(HttpMethod.PUT, "performPut", URL + "/consent/" + id, token,
+        "{}".getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Request request(HttpMethod httpMethod, String method, String url, String token,
+      byte[] body) {
+    var template = new RequestTemplate();
+    new Contract.Default().parseAndValidateMetadata(TestClient.class).stream()
+        .filter(metadata -> metadata.configKey().startsWith("TestClient#" + method + "("))
+        .findFirst()
+        .ifPresent(template::methodMetadata);
+    Map<String, Collection<String>> headers = Map.of("X-Access-Token", List.of(token));
+    return Request.create(httpMethod, url, headers, body, StandardCharsets.UTF_8, template);
+  }
+
+  private static Response response(String body) {
+    return Response.builder()
+        .status(200)
+        .reason("OK")
+        .headers(Map.of())
+        .request(Request.create(HttpMethod.GET, URL, Map.of(), null, StandardCharsets.UTF_8,
+            null))
+        .body(body, StandardCharsets.UTF_8)
+        .build();
+  }
+
+  private static String body(Response response) throws IOException {
+    return Util.toString(response.body().asReader(StandardCharsets.UTF_8));
+  }
+
+  interface TestClient {
+
+    @RequestLine("GET /{resource}/{id}")
+    String performGet(@Param("resource") String resource, @Param("id") String id);
+
+    @RequestLine("POST /search/{resource}")
+    String performSearch(@Param("resource") String resource, String body);
+
+    @RequestLine("PUT /{resource}/{id}")
+    String performPut(@Param("resource") String resource, @Param("id") String id, String body);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.datafactory.factory.client.BatchPayloadSplitter.Chunk;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BatchPayloadSplitterTest {
+
+  @Test
+  void expectCsvHeaderIsRepeatedInEveryChunk() {
+    var chunks = split("id,name\n1,a\n2,b\n3,c\n", BatchPayloadFormat.CSV,
+        BatchUploadOptions.rows(2));
+
+    assertThat(chunks).extracting(Chunk::getBody)
+        .containsExactly("id,name\n1,a\n2,b\n", "id,name\n3,c\n");
+    assertThat(chunks).extracting(Chunk::getRows).containsExactly(2, 1);
+    assertThat(chunks).extracting(Chunk::getIndex).containsExactly(0, 1);
+  }
+
+  @Test
+  void expectLineBreakInsideQuotedCsvValueDoesNotEndRecord() {
+    var chunks = split("id,note\n1,\"first\nline, \"\"quoted\"\"\"\n2,plain",
+        BatchPayloadFormat.CSV, BatchUploadOptions.rows(1));
+
+    assertThat(chunks).extracting(Chunk::getBody).containsExactly(
+        "id,note\n1,\"first\nline, \"\"quoted\"\"\"\n", "id,note\n2,plain\n");
+  }
+
+  @Test
+  void expectBlankCsvLinesAreSkipped() {
+    var chunks = split("id\n1\n\n2\n", BatchPayloadFormat.CSV, BatchUploadOptions.rows(10));
+
+    assertThat(chunks).extracting(Chunk::getBody).containsExactly("id\n1\n2\n");
+  }
+
+  @Test
+  void expectCsvIsSplitByUtf8Size() {
+    var chunks = split("id\nєє\nєє\nєє\n", BatchPayloadFormat.CSV,
+        BatchUploadOptions.bytes(13));
+
+    assertThat(chunks).extracting(Chunk::getBody)
+        .containsExactly("id\nєє\nєє\n", "id\nєє\n");
+    assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.getBytes())
+        .isEqualTo(chunk.getBody().getBytes(StandardCharsets.UTF_8).length));
+  }
+
+  @Test
+  void expectCsvHeaderIsCountedAgainstMaxBytes() {
+    var chunks = split("name\na\nb\nc\n", BatchPayloadFormat.CSV, BatchUploadOptions.bytes(8));
+
+    assertThat(chunks).extracting(Chunk::getBody)
+        .containsExactly("name\na\n", "name\nb\n", "name\nc\n");
+    assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.getBytes()).isLessThanOrEqualTo(8));
+  }
+
+  @Test
+  void expectJsonArrayIsSplitByRows() {
+    var chunks = split("[{\"id\":1},{\"id\":2},{\"id\":3}]", BatchPayloadFormat.JSON_ARRAY,
+        BatchUploadOptions.rows(2));
+
+    assertThat(chunks).extracting(Chunk::getBody)
+        .containsExactly("[{\"id\":1},{\"id\":2}]", "[{\"id\":3}]");
+  }
+
+  @Test
+  void expectJsonArrayIsSplitBySize() {
+    var chunks = split("[{\"id\":1},{\"id\":2},{\"id\":3}]", BatchPayloadFormat.JSON_ARRAY,
+        BatchUploadOptions.bytes(16));
+
+    assertThat(chunks).extracting(Chunk::getBody)
+        .containsExactly("[{\"id\":1},{\"id\":2}]", "[{\"id\":3}]");
+  }
+
+  @Test
+  void expectRowLargerThanMaxBytesIsSentAlone() {
+    var chunks = split("[{\"id\":1},{\"name\":\"long value\"},{\"id\":3}]",
+        BatchPayloadFormat.JSON_ARRAY, BatchUploadOptions.bytes(10));
+
+    assertThat(chunks).extracting(Chunk::getBody).containsExactly("[{\"id\":1}]",
+        "[{\"name\":\"long value\"}]", "[{\"id\":3}]");
+  }
+
+  @Test
+  void expectFormatIsDetected() {
+    var json = split("  [{\"id\":1}]", null, BatchUploadOptions.rows(10));
+    var csv = split("id\n1\n", null, BatchUploadOptions.rows(10));
+
+    assertThat(json).extracting(Chunk::getBody).containsExactly("[{\"id\":1}]");
+    assertThat(csv).extracting(Chunk::getBody).containsExactly("id\n1\n");
+  }
+
+  @Test
+  void expectNoChunksForEmptyPayload() {
+    assertThat(split("[]", BatchPayloadFormat.JSON_ARRAY, BatchUploadOptions.rows(10))).isEmpty();
+    assertThat(split("id\n", BatchPayloadFormat.CSV, BatchUploadOptions.rows(10))).isEmpty();
+  }
+
+  private static List<Chunk> split(String payload, BatchPayloadFormat format,
+      BatchUploadOptions options) {
+    var chunks = new ArrayList<Chunk>();
+    BatchPayloadSplitter.of(new StringReader(payload), format, options)
+        .forEachRemaining(chunks::add);
+    return chunks;
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class DataFactoryAsyncClientTest {
+
+  private DataFactoryFeignClient dataFactoryFeignClient;
+  private PlatformGatewayFeignClient platformGatewayFeignClient;
+  private List<Runnable> tasks;
+  private HttpHeaders headers;
+
+  @BeforeEach
+  void beforeEach() {
+    dataFactoryFeignClient = mock(DataFactoryFeignClient.class);
+    platformGatewayFeignClient = mock(PlatformGatewayFeignClient.class);
+    tasks = new ArrayList<>();
+    headers = new HttpHeaders();
+  }
+
+  @Test
+  void expectCallRunsOnExecutor() {
+    var response = ConnectorResponse.builder().statusCode(200).build();
+    when(dataFactoryFeignClient.performGet("resource", "id", headers)).thenReturn(response);
+    var client = new DataFactoryAsyncClient(dataFactoryFeignClient, tasks::add);
+
+    var future = client.performGet("resource", "id", headers);
+
+    assertThat(future).isNotDone();
+    verifyNoInteractions(dataFactoryFeignClient);
+    tasks.forEach(Runnable::run);
+    assertThat(future.join()).isSameAs(response);
+  }
+
+  @Test
+  void expectDecodedErrorCompletesFutureExceptionally() {
+    var notFound = new SystemException(SystemErrorDto.builder().code("NOT_FOUND").build());
+    when(dataFactoryFeignClient.performGet("resource", "id", headers)).thenThrow(notFound);
+    var client = new DataFactoryAsyncClient(dataFactoryFeignClient, Runnable::run);
+
+    var future = client.performGet("resource", "id", headers);
+
+    assertThatThrownBy(future::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCause(notFound);
+  }
+
+  @Test
+  void expectRejectionByExecutorCompletesFutureExceptionally() {
+    Executor saturated = task -> {
+      throw new RejectedExecutionException("saturated");
+    };
+    var client = new PlatformGatewayAsyncClient(platformGatewayFeignClient, saturated);
+
+    var future = client.performSearch("registry", "resource", Map.of(), headers);
+
+    assertThatThrownBy(future::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(RejectedExecutionException.class);
+    verifyNoInteractions(platformGatewayFeignClient);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.RetryableException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class DataFactoryBatchUploaderTest {
+
+  private static final Request REQUEST = Request.create(HttpMethod.POST,
+      "http://localhost/consent/batch", Map.of(), null, StandardCharsets.UTF_8, null);
+
+  @Test
+  void expectFailuresBeforeReachingServerAreRetried() {
+    assertThat(DataFactoryBatchUploader.isRetryable(ioFailure(new ConnectException()), false))
+        .isTrue();
+    assertThat(DataFactoryBatchUploader.isRetryable(systemException("SERVICE_UNAVAILABLE"),
+        false)).isTrue();
+    assertThat(DataFactoryBatchUploader.isRetryable(systemException("TOO_MANY_REQUESTS"),
+        false)).isTrue();
+    assertThat(DataFactoryBatchUploader.isRetryable(
+        new RetryableException(503, "unavailable", HttpMethod.POST, null, REQUEST), false))
+        .isTrue();
+  }
+
+  @Test
+  void expectAmbiguousFailuresAreNotRetriedByDefault() {
+    assertThat(DataFactoryBatchUploader.isRetryable(
+        ioFailure(new SocketTimeoutException("Read timed out")), false)).isFalse();
+    assertThat(DataFactoryBatchUploader.isRetryable(systemException("RUNTIME_ERROR"), false))
+        .isFalse();
+    assertThat(DataFactoryBatchUploader.isRetryable(
+        new RetryableException(500, "error", HttpMethod.POST, null, REQUEST), false)).isFalse();
+  }
+
+  @Test
+  void expectAmbiguousFailuresAreRetriedWhenEnabled() {
+    assertThat(DataFactoryBatchUploader.isRetryable(
+        ioFailure(new SocketTimeoutException("Read timed out")), true)).isTrue();
+    assertThat(DataFactoryBatchUploader.isRetryable(systemException("RUNTIME_ERROR"), true))
+        .isTrue();
+  }
+
+  private static RetryableException ioFailure(Exception cause) {
+    return new RetryableException(-1, cause.getMessage(), HttpMethod.POST, cause, null, REQUEST);
+  }
+
+  private static SystemException systemException(String code) {
+    var errorDto = new SystemErrorDto();
+    errorDto.setCode(code);
+    return new SystemException(errorDto);
+  }
+}
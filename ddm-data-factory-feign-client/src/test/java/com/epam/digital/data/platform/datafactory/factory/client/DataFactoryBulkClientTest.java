@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class DataFactoryBulkClientTest {
+
+  private static final String RESOURCE = "bulk-entity";
+
+  private DataFactoryFeignClient dataFactoryFeignClient;
+  private ExecutorService executor;
+  private HttpHeaders headers;
+
+  @BeforeEach
+  void beforeEach() {
+    dataFactoryFeignClient = mock(DataFactoryFeignClient.class);
+    executor = Executors.newFixedThreadPool(4);
+    headers = new HttpHeaders();
+  }
+
+  @AfterEach
+  void afterEach() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void expectEntitiesAreReturnedInOrderOfIdsWithPartialFailures() {
+    var notFound = new SystemException(SystemErrorDto.builder().code("NOT_FOUND").build());
+    when(dataFactoryFeignClient.performGet(eq(RESOURCE), anyString(), any())).thenAnswer(
+        invocation -> {
+          String id = invocation.getArgument(1);
+          if ("3".equals(id)) {
+            throw notFound;
+          }
+          return response(id);
+        });
+    var client = new DataFactoryBulkClient(dataFactoryFeignClient, 16, executor);
+
+    var result = client.performBulkGet(RESOURCE, List.of("4", "3", "1", "2", "4"), headers, 2);
+
+    assertThat(result.isComplete()).isFalse();
+    assertThat(result.getItems()).extracting(BulkGetItem::getId)
+        .containsExactly("4", "3", "1", "2", "4");
+    assertThat(result.getResponses()).containsOnlyKeys("4", "1", "2");
+    assertThat(result.getFailures()).containsEntry("3", notFound);
+    verify(dataFactoryFeignClient, times(1)).performGet(RESOURCE, "4", headers);
+  }
+
+  @Test
+  void expectGetsInFlightAreBoundedByConcurrency() {
+    var inFlight = new AtomicInteger();
+    var maxInFlight = new AtomicInteger();
+    when(dataFactoryFeignClient.performGet(eq(RESOURCE), anyString(), any())).thenAnswer(
+        invocation -> {
+          maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+          Thread.sleep(20);
+          inFlight.decrementAndGet();
+          return response(invocation.getArgument(1));
+        });
+    var client = new DataFactoryBulkClient(dataFactoryFeignClient, 2, executor);
+
+    var result = client.performBulkGet(RESOURCE, List.of("1", "2", "3", "4", "5", "6"), headers);
+
+    assertThat(result.isComplete()).isTrue();
+    assertThat(maxInFlight.get()).isEqualTo(2);
+  }
+
+  @Test
+  void expectEntitiesAreGotOnCallingThreadWithoutExecutor() {
+    var callingThread = Thread.currentThread();
+    when(dataFactoryFeignClient.performGet(eq(RESOURCE), anyString(), any())).thenAnswer(
+        invocation -> {
+          assertThat(Thread.currentThread()).isSameAs(callingThread);
+          return response(invocation.getArgument(1));
+        });
+    var client = new DataFactoryBulkClient(dataFactoryFeignClient, 2, null);
+
+    var result = client.performBulkGet(RESOURCE, List.of("1", "2"), headers);
+
+    assertThat(result.isComplete()).isTrue();
+  }
+
+  @Test
+  void expectGetsInFlightAreInterruptedWhenBulkGetIsInterrupted() throws InterruptedException {
+    var getStarted = new CountDownLatch(1);
+    var getInterrupted = new CountDownLatch(1);
+    when(dataFactoryFeignClient.performGet(eq(RESOURCE), anyString(), any())).thenAnswer(
+        invocation -> {
+          getStarted.countDown();
+          try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+          } catch (InterruptedException e) {
+            getInterrupted.countDown();
+            throw e;
+          }
+          return response(invocation.getArgument(1));
+        });
+    var client = new DataFactoryBulkClient(dataFactoryFeignClient, 2, executor);
+    var failure = new AtomicReference<Throwable>();
+    var bulkGet = new Thread(() -> {
+      try {
+        client.performBulkGet(RESOURCE, List.of("1"), headers);
+      } catch (IllegalStateException e) {
+        failure.set(e);
+      }
+    });
+
+    bulkGet.start();
+    assertThat(getStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    bulkGet.interrupt();
+    bulkGet.join(TimeUnit.SECONDS.toMillis(5));
+
+    assertThat(getInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThatThrownBy(() -> {
+      throw failure.get();
+    }).isInstanceOf(IllegalStateException.class).hasMessage("Bulk get is interrupted");
+  }
+
+  private static ConnectorResponse response(String id) {
+    return ConnectorResponse.builder()
+        .statusCode(200)
+        .rawBody(("{\"id\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8))
+        .build();
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.factory.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.camunda.spin.json.SpinJsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+
+class SearchPageIteratorTest {
+
+  private static final String RESOURCE = "consent-search";
+
+  private DataFactoryFeignClient dataFactoryFeignClient;
+  private HttpHeaders headers;
+
+  @BeforeEach
+  void beforeEach() {
+    dataFactoryFeignClient = mock(DataFactoryFeignClient.class);
+    headers = new HttpHeaders();
+  }
+
+  @Test
+  void expectOffsetIsAdvancedUntilShortPage() {
+    when(dataFactoryFeignClient.performSearch(eq(RESOURCE), any(), any())).thenReturn(
+        response("[{\"id\":1},{\"id\":2}]"), response("[{\"id\":3},{\"id\":4}]"),
+        response("[{\"id\":5}]"));
+
+    var ids = ids(iterator(SearchPagination.builder().pageSize(2).prefetch(false).build(),
+        null));
+
+    assertThat(ids).containsExactly("1", "2", "3", "4", "5");
+    assertThat(requestedParams(3)).extracting(params -> params.get("offset"))
+        .containsExactly(0, 2, 4);
+    assertThat(requestedParams(3)).allSatisfy(params -> {
+      assertThat(params).containsEntry("limit", 2).containsEntry("name", "consent");
+    });
+  }
+
+  @Test
+  void expectIterationStopsOnEmptyPageAfterFullPage() {
+    when(dataFactoryFeignClient.performSearch(eq(RESOURCE), any(), any())).thenReturn(
+        response("{\"content\":[{\"id\":1},{\"id\":2}]}"), response("{\"content\":[]}"));
+
+    var ids = ids(iterator(SearchPagination.builder().pageSize(2).prefetch(false).build(),
+        null));
+
+    assertThat(ids).containsExactly("1", "2");
+    verify(dataFactoryFeignClient, times(2)).performSearch(eq(RESOURCE), any(), any());
+  }
+
+  @Test
+  void expectKeyOfLastRowIsPassedToNextPage() {
+    when(dataFactoryFeignClient.performSearch(eq(RESOURCE), any(), any())).thenReturn(
+        response("[{\"id\":\"a\"},{\"id\":\"b\"}]"), response("[{\"id\":\"c\"}]"));
+
+    var ids = ids(iterator(SearchPagination.keyset(2, "id", "idGreaterThan").toBuilder()
+        .prefetch(false).build(), null));
+
+    assertThat(ids).containsExactly("a", "b", "c");
+    var params = requestedParams(2);
+    assertThat(params.get(0)).doesNotContainKeys("idGreaterThan", "offset");
+    assertThat(params.get(1)).containsEntry("idGreaterThan", "b").doesNotContainKey("offset");
+  }
+
+  @Test
+  void expectClearErrorIfKeyFieldIsMissing() {
+    when(dataFactoryFeignClient.performSearch(eq(RESOURCE), any(), any())).thenReturn(
+        response("[{\"id\":\"a\"},{\"name\":\"b\"}]"));
+    var iterator = iterator(SearchPagination.keyset(2, "id", "idGreaterThan").toBuilder()
+        .prefetch(false).build(), null);
+
+    assertThatThrownBy(iterator::hasNext)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining(RESOURCE)
+        .hasMessageContaining("'id'");
+  }
+
+  @Test
+  void expectClosingIteratorCancelsPrefetchedPage() {
+    List<Runnable> tasks = new ArrayList<>();
+    Executor executor = tasks::add;
+    when(dataFactoryFeignClient.performSearch(eq(RESOURCE), any(), any())).thenReturn(
+        response("[{\"id\":1},{\"id\":2}]"));
+
+    try (var iterator = iterator(SearchPagination.offset(2), executor)) {
+      assertThat(iterator.next().prop("id").numberValue()).isEqualTo(1);
+      assertThat(tasks).hasSize(1);
+    }
+    tasks.forEach(Runnable::run);
+
+    verify(dataFactoryFeignClient, times(1)).performSearch(eq(RESOURCE), any(), any());
+  }
+
+  @Test
+  void expectClosingIteratorInterruptsPageFetchInProgress() throws InterruptedException {
+    var fetchStarted = new CountDownLatch(1);
+    var fetchInterrupted = new CountDownLatch(1);
+    when(dataFactoryFeignClient.performSearch(eq(RESOURCE), any(), any())).thenReturn(
+        response("[{\"id\":1},{\"id\":2}]")).thenAnswer(invocation -> {
+          fetchStarted.countDown();
+          try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+          } catch (InterruptedException e) {
+            fetchInterrupted.countDown();
+          }
+          return response("[]");
+        });
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      try (var iterator = iterator(SearchPagination.offset(2), executor)) {
+        iterator.next();
+        assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      }
+
+      assertThat(fetchInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void expectPrefetchedPageIsReturnedAfterCurrentOne() {
+    List<Runnable> tasks = new ArrayList<>();
+    Executor executor = tasks::add;
+    when(dataFactoryFeignClient.performSearch(eq(RESOURCE), any(), any())).thenReturn(
+        response("[{\"id\":1},{\"id\":2}]"), response("[{\"id\":3}]"));
+    var iterator = iterator(SearchPagination.offset(2), executor);
+
+    iterator.next();
+    iterator.next();
+    tasks.remove(0).run();
+
+    assertThat(iterator.next().prop("id").numberValue()).isEqualTo(3);
+    assertThat(iterator.hasNext()).isFalse();
+    assertThat(tasks).isEmpty();
+  }
+
+  private SearchPageIterator iterator(SearchPagination pagination, Executor executor) {
+    return new SearchPageIterator(dataFactoryFeignClient, RESOURCE, Map.of("name", "consent"),
+        headers, pagination, executor);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Map<String, Object>> requestedParams(int calls) {
+    ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+    verify(dataFactoryFeignClient, times(calls)).performSearch(eq(RESOURCE), captor.capture(),
+        any());
+    return captor.getAllValues();
+  }
+
+  private static List<String> ids(SearchPageIterator iterator) {
+    List<String> ids = new ArrayList<>();
+    iterator.forEachRemaining(row -> ids.add(id(row)));
+    return ids;
+  }
+
+  private static String id(SpinJsonNode row) {
+    return String.valueOf(row.prop("id").value());
+  }
+
+  private static ConnectorResponse response(String body) {
+    return ConnectorResponse.builder()
+        .statusCode(200)
+        .rawBody(body.getBytes(StandardCharsets.UTF_8))
+        .build();
+  }
+}
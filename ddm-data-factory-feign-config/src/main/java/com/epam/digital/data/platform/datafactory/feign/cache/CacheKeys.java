@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.cache;
+
+import feign.Request;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The class represents a utility for building keys of client side caches.
+ */
+public final class CacheKeys {
+
+  /**
+   * Get authorization scope of request, so cached responses aren't shared between users
+   *
+   * @param request              feign request
+   * @param authorizationHeaders names of headers that define authorization scope
+   * @return hash of authorization header values or null if request has no such headers
+   */
+  public static String authorizationScope(Request request, List<String> authorizationHeaders) {
+    var scope = new StringBuilder();
+    for (var name : authorizationHeaders) {
+      var value = header(request.headers(), name);
+      if (Objects.nonNull(value)) {
+        scope.append(name).append('=').append(value).append('\n');
+      }
+    }
+    return scope.length() == 0 ? null : sha256(scope.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Get first value of header ignoring case of header name
+   *
+   * @param headers headers of request or response
+   * @param name    header name
+   * @return header value or null if there is no such header
+   */
+  public static String header(Map<String, Collection<String>> headers, String name) {
+    for (var entry : headers.entrySet()) {
+      if (name.equalsIgnoreCase(entry.getKey()) && !entry.getValue().isEmpty()) {
+        return entry.getValue().iterator().next();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Get base64 encoded SHA-256 hash of bytes
+   */
+  public static String sha256(byte[] value) {
+    try {
+      return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(value));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private CacheKeys() {
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * The class represents response stored in {@link ResponseCache} together with its validators.
+ */
+@Getter
+public class CachedResponse {
+
+  private final int status;
+  private final String reason;
+  private final Map<String, Collection<String>> headers;
+  private final byte[] body;
+  private final String etag;
+  private final String lastModified;
+  private final long storedAt;
+  private final long ttlMillis;
+  private final long size;
+  @Getter(AccessLevel.NONE)
+  private final AtomicBoolean revalidating = new AtomicBoolean();
+
+  public CachedResponse(int status, String reason, Map<String, Collection<String>> headers,
+      byte[] body, String etag, String lastModified, long storedAt, long ttlMillis) {
+    this.status = status;
+    this.reason = reason;
+    this.headers = Map.copyOf(headers);
+    this.body = body;
+    this.etag = etag;
+    this.lastModified = lastModified;
+    this.storedAt = storedAt;
+    this.ttlMillis = ttlMillis;
+    this.size = body.length + headers.entrySet().stream()
+        .mapToLong(e -> e.getKey().length() + e.getValue().stream().mapToLong(String::length).sum())
+        .sum();
+  }
+
+  /**
+   * Create copy of the response that is considered fresh starting from the specified time
+   */
+  public CachedResponse refresh(long storedAt, String etag, String lastModified) {
+    return new CachedResponse(status, reason, headers, body,
+        etag == null ? this.etag : etag,
+        lastModified == null ? this.lastModified : lastModified,
+        storedAt, ttlMillis);
+  }
+
+  public long getAge(long now) {
+    return now - storedAt;
+  }
+
+  public boolean hasValidators() {
+    return etag != null || lastModified != null;
+  }
+
+  boolean startRevalidation() {
+    return revalidating.compareAndSet(false, true);
+  }
+
+  void finishRevalidation() {
+    revalidating.set(false);
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.cache;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryResponseCacheProperties;
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The class represents http client that caches successful GET responses per url and authorization
+ * scope. Expired responses are revalidated with If-None-Match/If-Modified-Since requests, and in
+ * stale-while-revalidate period stale response is returned while it is revalidated in background.
+ * Cached response is kept if revalidation fails with an I/O error or a server error.
+ */
+@Slf4j
+public class CachingClient implements Client {
+
+  private static final String METRIC_REQUESTS = "datafactory.response.cache.requests";
+  private static final String METRIC_REVALIDATIONS = "datafactory.response.cache.revalidations";
+
+  private final String clientName;
+  private final Client delegate;
+  private final ResponseCache responseCache;
+  private final DataFactoryResponseCacheProperties properties;
+  private final Executor revalidationExecutor;
+  private final Clock clock;
+
+  private final Counter hits;
+  private final Counter staleHits;
+  private final Counter misses;
+  private final Counter notModified;
+  private final Counter modified;
+  private final Counter failed;
+
+  public CachingClient(String clientName, Client delegate, ResponseCache responseCache,
+      DataFactoryResponseCacheProperties properties, Executor revalidationExecutor,
+      MeterRegistry meterRegistry, Clock clock) {
+    this.clientName = clientName;
+    this.delegate = delegate;
+    this.responseCache = responseCache;
+    this.properties = properties;
+    this.revalidationExecutor = revalidationExecutor;
+    this.clock = clock;
+    this.hits = requestCounter(meterRegistry, "hit");
+    this.staleHits = requestCounter(meterRegistry, "stale-hit");
+    this.misses = requestCounter(meterRegistry, "miss");
+    this.notModified = revalidationCounter(meterRegistry, "not-modified");
+    this.modified = revalidationCounter(meterRegistry, "modified");
+    this.failed = revalidationCounter(meterRegistry, "failed");
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    if (request.httpMethod() != HttpMethod.GET) {
+      return delegate.execute(request, options);
+    }
+    var key = cacheKey(request);
+    var cached = responseCache.get(key);
+    if (Objects.isNull(cached)) {
+      misses.increment();
+      return fetch(key, request, options, null);
+    }
+    var age = cached.getAge(clock.millis());
+    if (age <= cached.getTtlMillis()) {
+      hits.increment();
+      return toResponse(cached, request);
+    }
+    if (age <= cached.getTtlMillis() + properties.getStaleWhileRevalidate().toMillis()) {
+      staleHits.increment();
+      revalidateInBackground(key, cached, request, options);
+      return toResponse(cached, request);
+    }
+    return fetch(key, request, options, cached);
+  }
+
+  private Response fetch(String key, Request request, Request.Options options,
+      CachedResponse cached) throws IOException {
+    var response = delegate.execute(conditionalRequest(request, cached), options);
+    if (Objects.nonNull(cached) && response.status() == 304) {
+      response.close();
+      notModified.increment();
+      var refreshed = cached.refresh(clock.millis(),
+          CacheKeys.header(response.headers(), "ETag"),
+          CacheKeys.header(response.headers(), "Last-Modified"));
+      responseCache.put(key, refreshed);
+      return toResponse(refreshed, request);
+    }
+    if (Objects.nonNull(cached)) {
+      if (!replacesCachedResponse(response.status())) {
+        failed.increment();
+        return response;
+      }
+      modified.increment();
+    }
+    if (!isCacheable(response)) {
+      responseCache.remove(key);
+      return response;
+    }
+    var maxEntrySize = properties.getMaxEntrySize().toBytes();
+    var inputStream = response.body().asInputStream();
+    byte[] body;
+    try {
+      body = inputStream.readNBytes((int) Math.min(maxEntrySize + 1, Integer.MAX_VALUE - 8L));
+    } catch (IOException | RuntimeException e) {
+      response.close();
+      throw e;
+    }
+    if (body.length > maxEntrySize) {
+      responseCache.remove(key);
+      return response.toBuilder()
+          .body(new SequenceInputStream(new ByteArrayInputStream(body), inputStream), null)
+          .build();
+    }
+    response.close();
+    var etag = CacheKeys.header(response.headers(), "ETag");
+    var lastModified = CacheKeys.header(response.headers(), "Last-Modified");
+    responseCache.put(key, new CachedResponse(response.status(), response.reason(),
+        response.headers(), body, etag, lastModified, clock.millis(), ttlMillis(request)));
+    return response.toBuilder().body(body).build();
+  }
+
+  private void revalidateInBackground(String key, CachedResponse cached, Request request,
+      Request.Options options) {
+    if (!cached.startRevalidation()) {
+      return;
+    }
+    try {
+      revalidationExecutor.execute(() -> {
+        try {
+          fetch(key, request, options, cached).close();
+        } catch (Exception e) {
+          failed.increment();
+          log.warn("Background revalidation of {} failed", request.url(), e);
+        } finally {
+          cached.finishRevalidation();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      cached.finishRevalidation();
+    }
+  }
+
+  /**
+   * Only a successful response or a response telling that the resource is gone replaces the
+   * cached one, the stale response is kept on server errors and other failures of revalidation
+   */
+  private static boolean replacesCachedResponse(int status) {
+    return status / 100 == 2 || status == 404 || status == 410;
+  }
+
+  private boolean isCacheable(Response response) {
+    if (response.status() != 200 || Objects.isNull(response.body())) {
+      return false;
+    }
+    var length = response.body().length();
+    if (Objects.nonNull(length) && length > properties.getMaxEntrySize().toBytes()) {
+      return false;
+    }
+    var cacheControl = CacheKeys.header(response.headers(), "Cache-Control");
+    return Objects.isNull(cacheControl) || !cacheControl.contains("no-store");
+  }
+
+  private Request conditionalRequest(Request request, CachedResponse cached) {
+    if (Objects.isNull(cached) || !cached.hasValidators()) {
+      return request;
+    }
+    Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+    if (Objects.nonNull(cached.getEtag())) {
+      headers.put("If-None-Match", List.of(cached.getEtag()));
+    }
+    if (Objects.nonNull(cached.getLastModified())) {
+      headers.put("If-Modified-Since", List.of(cached.getLastModified()));
+    }
+    return Request.create(request.httpMethod(), request.url(), headers, request.body(),
+        request.charset(), request.requestTemplate());
+  }
+
+  private Response toResponse(CachedResponse cached, Request request) {
+    return Response.builder()
+        .status(cached.getStatus())
+        .reason(cached.getReason())
+        .headers(cached.getHeaders())
+        .body(cached.getBody())
+        .request(request)
+        .build();
+  }
+
+  private String cacheKey(Request request) {
+    var key = clientName + ' ' + request.url();
+    var scope = CacheKeys.authorizationScope(request, properties.getAuthorizationHeaders());
+    return Objects.isNull(scope) ? key : key + ' ' + scope;
+  }
+
+  private long ttlMillis(Request request) {
+    var resource = resource(request.url());
+    return properties.getResourceTtl().getOrDefault(resource, properties.getTtl()).toMillis();
+  }
+
+  static String resource(String url) {
+    var path = URI.create(url).getPath();
+    if (Objects.isNull(path)) {
+      return "";
+    }
+    var segments = path.split("/");
+    return segments.length < 2 ? path : segments[segments.length - 2];
+  }
+
+  private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder(METRIC_REQUESTS)
+        .tag("client", clientName)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private Counter revalidationCounter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder(METRIC_REVALIDATIONS)
+        .tag("client", clientName)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.cache;
+
+import java.util.LinkedHashMap;
+
+/**
+ * The class represents LRU cache of responses that is bounded by total size of stored responses.
+ */
+public class ResponseCache {
+
+  private final long maxSizeInBytes;
+  private final LinkedHashMap<String, CachedResponse> entries =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeInBytes;
+
+  public ResponseCache(long maxSizeInBytes) {
+    this.maxSizeInBytes = maxSizeInBytes;
+  }
+
+  public synchronized CachedResponse get(String key) {
+    return entries.get(key);
+  }
+
+  public synchronized void put(String key, CachedResponse response) {
+    if (response.getSize() > maxSizeInBytes) {
+      remove(key);
+      return;
+    }
+    var previous = entries.put(key, response);
+    if (previous != null) {
+      sizeInBytes -= previous.getSize();
+    }
+    sizeInBytes += response.getSize();
+    var iterator = entries.values().iterator();
+    while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+      sizeInBytes -= iterator.next().getSize();
+      iterator.remove();
+    }
+  }
+
+  public synchronized void remove(String key) {
+    var previous = entries.remove(key);
+    if (previous != null) {
+      sizeInBytes -= previous.getSize();
+    }
+  }
+
+  public synchronized long getSizeInBytes() {
+    return sizeInBytes;
+  }
+
+  public synchronized int getCount() {
+    return entries.size();
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.cache;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryResponseCacheProperties;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignClientDecorator;
+import feign.Client;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The class represents decorator that adds conditional GET response cache to configured feign
+ * clients. Cache and background revalidation threads are shared between all decorated clients.
+ */
+public class ResponseCacheClientDecorator implements FeignClientDecorator, AutoCloseable {
+
+  private final DataFactoryResponseCacheProperties properties;
+  private final ResponseCache responseCache;
+  private final MeterRegistry meterRegistry;
+  private final ThreadPoolExecutor revalidationExecutor;
+
+  public ResponseCacheClientDecorator(DataFactoryResponseCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.responseCache = new ResponseCache(properties.getMaxSize().toBytes());
+    var threadNumber = new AtomicInteger();
+    this.revalidationExecutor = new ThreadPoolExecutor(properties.getRevalidationThreads(),
+        properties.getRevalidationThreads(), 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(1000), runnable -> {
+          var thread = new Thread(runnable,
+              "data-factory-cache-revalidation-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder("datafactory.response.cache.size", responseCache, ResponseCache::getSizeInBytes)
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("datafactory.response.cache.entries", responseCache, ResponseCache::getCount)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Client decorate(String clientName, Client client) {
+    if (!properties.getClients().contains(clientName)) {
+      return client;
+    }
+    return new CachingClient(clientName, client, responseCache, properties, revalidationExecutor,
+        meterRegistry, Clock.systemUTC());
+  }
+
+  @Override
+  public int getOrder() {
+    return RESPONSE_CACHE_ORDER;
+  }
+
+  public ResponseCache getResponseCache() {
+    return responseCache;
+  }
+
+  @Override
+  public void close() {
+    revalidationExecutor.shutdownNow();
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.coalescing;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import feign.InvocationHandlerFactory.MethodHandler;
+import io.micrometer.core.instrument.Counter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents method handler that lets concurrent identical calls share one in-flight
+ * call. Calls are identical if they have equal arguments including all headers except the ignored
+ * ones, the shared call is sent with headers of the first caller. Each caller of coalesced call
+ * receives own copy of {@link ConnectorResponse}, results of other types are shared, all callers
+ * receive the same exception. The first caller gets the original response, it's copied only if
+ * other callers have joined the call.
+ */
+public class CoalescingMethodHandler implements MethodHandler {
+
+  private final MethodHandler delegate;
+  private final Set<String> ignoredHeaders;
+  private final Counter executed;
+  private final Counter deduplicated;
+  private final Map<List<Object>, InFlightCall> inFlightCalls = new ConcurrentHashMap<>();
+
+  /**
+   * @param delegate       method handler of the shared call
+   * @param ignoredHeaders names of headers that may differ between coalesced calls
+   * @param executed       counter of executed calls
+   * @param deduplicated   counter of calls that were coalesced with in-flight call
+   */
+  public CoalescingMethodHandler(MethodHandler delegate, Collection<String> ignoredHeaders,
+      Counter executed, Counter deduplicated) {
+    this.delegate = delegate;
+    this.ignoredHeaders = ignoredHeaders.stream()
+        .map(name -> name.toLowerCase(Locale.ROOT))
+        .collect(Collectors.toUnmodifiableSet());
+    this.executed = executed;
+    this.deduplicated = deduplicated;
+  }
+
+  @Override
+  public Object invoke(Object[] argv) throws Throwable {
+    var key = key(argv);
+    var call = new InFlightCall();
+    var inFlightCall = inFlightCalls.putIfAbsent(key, call);
+    while (Objects.nonNull(inFlightCall)) {
+      if (inFlightCall.join()) {
+        deduplicated.increment();
+        return copy(await(inFlightCall.result));
+      }
+      // the call has finished and has been removed, so the caller sends its own call
+      inFlightCall = inFlightCalls.putIfAbsent(key, call);
+    }
+    executed.increment();
+    Object result;
+    try {
+      result = delegate.invoke(argv);
+    } catch (Throwable e) {
+      inFlightCalls.remove(key, call);
+      call.finish();
+      call.result.completeExceptionally(e);
+      throw e;
+    }
+    inFlightCalls.remove(key, call);
+    if (call.finish()) {
+      call.result.complete(copy(result));
+    }
+    return result;
+  }
+
+  private List<Object> key(Object[] argv) {
+    List<Object> key = new ArrayList<>(argv.length);
+    for (var arg : argv) {
+      if (arg instanceof HttpHeaders) {
+        Map<String, List<String>> headers = new TreeMap<>();
+        ((HttpHeaders) arg).forEach((name, values) -> {
+          var normalizedName = name.toLowerCase(Locale.ROOT);
+          if (!ignoredHeaders.contains(normalizedName)) {
+            headers.computeIfAbsent(normalizedName, n -> new ArrayList<>()).addAll(values);
+          }
+        });
+        key.add(headers);
+      } else {
+        key.add(arg);
+      }
+    }
+    return key;
+  }
+
+  private static Object copy(Object result) {
+    return result instanceof ConnectorResponse ? ((ConnectorResponse) result).copy() : result;
+  }
+
+  private static Object await(CompletableFuture<Object> call) throws Throwable {
+    try {
+      return call.get();
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static class InFlightCall {
+
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+    private int followers;
+    private boolean finished;
+
+    /**
+     * @return whether the caller has joined the call and is going to receive its result
+     */
+    private synchronized boolean join() {
+      if (!finished) {
+        followers++;
+      }
+      return !finished;
+    }
+
+    /**
+     * @return whether other callers have joined the call
+     */
+    private synchronized boolean finish() {
+      finished = true;
+      return followers > 0;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.coalescing;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryCoalescingProperties;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignMethodHandlerDecorator;
+import feign.InvocationHandlerFactory.MethodHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents decorator that adds coalescing of identical concurrent calls to configured
+ * idempotent methods of feign clients.
+ */
+@RequiredArgsConstructor
+public class CoalescingMethodHandlerDecorator implements FeignMethodHandlerDecorator {
+
+  private static final String METRIC_CALLS = "datafactory.coalescing.calls";
+
+  private final DataFactoryCoalescingProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  public MethodHandler decorate(String clientName, Method method, MethodHandler handler) {
+    if (!properties.getClients().contains(clientName)
+        || !properties.getMethods().contains(method.getName())) {
+      return handler;
+    }
+    return new CoalescingMethodHandler(handler, properties.getIgnoredHeaders(),
+        counter(clientName, method, "executed"), counter(clientName, method, "deduplicated"));
+  }
+
+  @Override
+  public int getOrder() {
+    return COALESCING_ORDER;
+  }
+
+  private Counter counter(String clientName, Method method, String result) {
+    return Counter.builder(METRIC_CALLS)
+        .tag("client", clientName)
+        .tag("method", method.getName())
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
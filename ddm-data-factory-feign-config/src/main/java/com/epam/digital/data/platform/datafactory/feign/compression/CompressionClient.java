@@ -0,0 +1,261 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.compression;
+
+import com.epam.digital.data.platform.datafactory.feign.cache.CacheKeys;
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryCompressionProperties;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The class represents http client that compresses request bodies bigger than the configured size
+ * and decompresses compressed response bodies. Responses are decompressed while the body is read,
+ * so streaming decoders get decompressed bytes without buffering the whole body.
+ * <p>
+ * Sizes of original and encoded bodies are counted, so the difference shows how much traffic is
+ * saved by compression.
+ */
+class CompressionClient implements Client {
+
+  static final String METRIC_ORIGINAL_BYTES = "datafactory.compression.original.bytes";
+  static final String METRIC_ENCODED_BYTES = "datafactory.compression.encoded.bytes";
+
+  private static final String CONTENT_ENCODING = "Content-Encoding";
+  private static final String CONTENT_LENGTH = "Content-Length";
+  private static final String ACCEPT_ENCODING = "Accept-Encoding";
+  private static final String ACCEPTED_ENCODINGS = Stream.of(ContentEncoding.values())
+      .map(ContentEncoding::getToken).collect(Collectors.joining(", "));
+
+  private final String clientName;
+  private final Client delegate;
+  private final DataFactoryCompressionProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  CompressionClient(String clientName, Client delegate,
+      DataFactoryCompressionProperties properties, MeterRegistry meterRegistry) {
+    this.clientName = clientName;
+    this.delegate = delegate;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    var response = delegate.execute(encode(request), options);
+    return properties.getResponse().isEnabled() ? decode(response) : response;
+  }
+
+  private Request encode(Request request) {
+    var compress = shouldCompress(request);
+    var acceptEncoding = properties.getResponse().isEnabled()
+        && Objects.isNull(CacheKeys.header(request.headers(), ACCEPT_ENCODING));
+    if (!compress && !acceptEncoding) {
+      return request;
+    }
+    Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(request.headers());
+    if (acceptEncoding) {
+      headers.put(ACCEPT_ENCODING, List.of(ACCEPTED_ENCODINGS));
+    }
+    var body = request.body();
+    if (compress) {
+      var encoding = properties.getRequest().getEncoding();
+      var compressed = encoding.compress(body);
+      if (compressed.length < body.length) {
+        record("request", encoding, body.length, compressed.length);
+        headers.put(CONTENT_ENCODING, List.of(encoding.getToken()));
+        if (headers.containsKey(CONTENT_LENGTH)) {
+          headers.put(CONTENT_LENGTH, List.of(String.valueOf(compressed.length)));
+        }
+        body = compressed;
+      }
+    }
+    return Request.create(request.httpMethod(), request.url(), headers, body, request.charset(),
+        request.requestTemplate());
+  }
+
+  private boolean shouldCompress(Request request) {
+    return properties.getRequest().isEnabled()
+        && Objects.nonNull(request.body())
+        && request.body().length >= properties.getRequest().getMinSize().toBytes()
+        && Objects.isNull(CacheKeys.header(request.headers(), CONTENT_ENCODING));
+  }
+
+  private Response decode(Response response) {
+    if (Objects.isNull(response.body())) {
+      return response;
+    }
+    var encoding = ContentEncoding.fromToken(
+        CacheKeys.header(response.headers(), CONTENT_ENCODING));
+    if (Objects.isNull(encoding)) {
+      return response;
+    }
+    Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(response.headers());
+    headers.remove(CONTENT_ENCODING);
+    headers.remove(CONTENT_LENGTH);
+    var builder = response.toBuilder().headers(headers);
+    if (Objects.equals(response.body().length(), 0)) {
+      return builder.body(new byte[0]).build();
+    }
+    return builder.body(new DecompressingInputStream(response.body(), encoding,
+        (original, encoded) -> record("response", encoding, original, encoded)), null).build();
+  }
+
+  private void record(String direction, ContentEncoding encoding, long original, long encoded) {
+    counter(METRIC_ORIGINAL_BYTES, direction, encoding).increment(original);
+    counter(METRIC_ENCODED_BYTES, direction, encoding).increment(encoded);
+  }
+
+  private Counter counter(String name, String direction, ContentEncoding encoding) {
+    return Counter.builder(name)
+        .baseUnit("bytes")
+        .tag("client", clientName)
+        .tag("direction", direction)
+        .tag("encoding", encoding.getToken())
+        .register(meterRegistry);
+  }
+
+  /**
+   * The class represents a stream of decompressed response body. Decompression starts on the
+   * first read, sizes are reported once when the body is read till the end or closed.
+   */
+  private static class DecompressingInputStream extends InputStream {
+
+    private final Response.Body body;
+    private final ContentEncoding encoding;
+    private final SizeListener listener;
+    private CountingInputStream encoded;
+    private InputStream decoded;
+    private long decodedCount;
+    private boolean completed;
+
+    private DecompressingInputStream(Response.Body body, ContentEncoding encoding,
+        SizeListener listener) {
+      this.body = body;
+      this.encoding = encoding;
+      this.listener = listener;
+    }
+
+    @Override
+    public int read() throws IOException {
+      var value = decoded().read();
+      if (value < 0) {
+        complete();
+      } else {
+        decodedCount++;
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      var read = decoded().read(b, off, len);
+      if (read < 0) {
+        complete();
+      } else {
+        decodedCount += read;
+      }
+      return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+      return Objects.isNull(decoded) ? 0 : decoded.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        if (Objects.nonNull(decoded)) {
+          decoded.close();
+        }
+      } finally {
+        body.close();
+        complete();
+      }
+    }
+
+    private InputStream decoded() throws IOException {
+      if (Objects.isNull(decoded)) {
+        encoded = new CountingInputStream(body.asInputStream());
+        decoded = encoding.decompressing(encoded);
+      }
+      return decoded;
+    }
+
+    private void complete() {
+      if (!completed && Objects.nonNull(encoded)) {
+        completed = true;
+        listener.onComplete(decodedCount, encoded.count);
+      }
+    }
+  }
+
+  private static class CountingInputStream extends FilterInputStream {
+
+    private long count;
+
+    private CountingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      var value = super.read();
+      if (value >= 0) {
+        count++;
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      var read = super.read(b, off, len);
+      if (read > 0) {
+        count += read;
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      var skipped = super.skip(n);
+      count += skipped;
+      return skipped;
+    }
+  }
+
+  @FunctionalInterface
+  private interface SizeListener {
+
+    void onComplete(long original, long encoded);
+  }
+}
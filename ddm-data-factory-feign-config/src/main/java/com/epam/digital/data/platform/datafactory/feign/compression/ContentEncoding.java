@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The enum represents http content codings that are supported for request and response bodies.
+ */
+public enum ContentEncoding {
+
+  GZIP("gzip") {
+    @Override
+    OutputStream compressing(OutputStream out) throws IOException {
+      return new GZIPOutputStream(out);
+    }
+
+    @Override
+    InputStream decompressing(InputStream in) throws IOException {
+      return new GZIPInputStream(in);
+    }
+  },
+  DEFLATE("deflate") {
+    @Override
+    OutputStream compressing(OutputStream out) {
+      return new DeflaterOutputStream(out);
+    }
+
+    @Override
+    InputStream decompressing(InputStream in) {
+      return new InflaterInputStream(in);
+    }
+  };
+
+  private final String token;
+
+  ContentEncoding(String token) {
+    this.token = token;
+  }
+
+  public String getToken() {
+    return token;
+  }
+
+  abstract OutputStream compressing(OutputStream out) throws IOException;
+
+  abstract InputStream decompressing(InputStream in) throws IOException;
+
+  byte[] compress(byte[] body) {
+    var out = new ByteArrayOutputStream(Math.max(body.length / 4, 64));
+    try (var compressing = compressing(out)) {
+      compressing.write(body);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * @param token value of Content-Encoding header
+   * @return encoding or {@code null} if the value isn't a supported single coding
+   */
+  static ContentEncoding fromToken(String token) {
+    if (Objects.isNull(token)) {
+      return null;
+    }
+    var value = token.trim().toLowerCase(Locale.ROOT);
+    for (var encoding : values()) {
+      if (encoding.token.equals(value)) {
+        return encoding;
+      }
+    }
+    return null;
+  }
+}
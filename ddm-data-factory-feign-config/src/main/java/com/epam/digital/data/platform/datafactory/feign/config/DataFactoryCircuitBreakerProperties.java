@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import java.time.Duration;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of circuit breakers and bulkheads of feign clients. Each client
+ * has its own circuit breaker and bulkhead configured with these properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.circuit-breaker")
+public class DataFactoryCircuitBreakerProperties {
+
+  private boolean enabled;
+  private Set<String> clients = Set.of("data-factory-client", "platform-gateway-client",
+      "excerpt-client", "user-settings-client");
+  /**
+   * Number of last calls which failure and slow call rates are calculated of
+   */
+  private int slidingWindowSize = 50;
+  /**
+   * Number of calls that have to be recorded before rates are calculated
+   */
+  private int minimumCalls = 20;
+  /**
+   * Failure rate in percents that opens the circuit breaker
+   */
+  private float failureRateThreshold = 50;
+  /**
+   * Slow call rate in percents that opens the circuit breaker
+   */
+  private float slowCallRateThreshold = 100;
+  private Duration slowCallDuration = Duration.ofSeconds(10);
+  private Duration waitInOpenState = Duration.ofSeconds(30);
+  private int permittedCallsInHalfOpenState = 5;
+  /**
+   * Response statuses that are failures for the circuit breaker
+   */
+  private Set<Integer> failureStatuses = Set.of(500, 502, 503, 504);
+  private Bulkhead bulkhead = new Bulkhead();
+
+  @Getter
+  @Setter
+  public static class Bulkhead {
+
+    private int maxConcurrentCalls = 100;
+    /**
+     * Time to wait for a free slot before the call is rejected
+     */
+    private Duration maxWait = Duration.ZERO;
+  }
+}
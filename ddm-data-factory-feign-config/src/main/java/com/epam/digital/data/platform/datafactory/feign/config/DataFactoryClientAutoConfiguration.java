@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import com.epam.digital.data.platform.datafactory.feign.cache.ResponseCacheClientDecorator;
+import com.epam.digital.data.platform.datafactory.feign.coalescing.CoalescingMethodHandlerDecorator;
+import com.epam.digital.data.platform.datafactory.feign.compression.CompressionClientDecorator;
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryErrorDecoder;
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryResponseDecoder;
+import com.epam.digital.data.platform.datafactory.feign.hedging.HedgingClientDecorator;
+import com.epam.digital.data.platform.datafactory.feign.http.DataFactoryHttpClientMetrics;
+import com.epam.digital.data.platform.datafactory.feign.http.DataFactoryHttpClientProvider;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignClientDecorator;
+import com.epam.digital.data.platform.datafactory.feign.http.StreamingRequestExecutorFactory;
+import com.epam.digital.data.platform.datafactory.feign.loadbalancer.LoadBalancerClientDecorator;
+import com.epam.digital.data.platform.datafactory.feign.metrics.MetricsClientDecorator;
+import com.epam.digital.data.platform.datafactory.feign.metrics.MetricsMethodHandlerDecorator;
+import com.epam.digital.data.platform.datafactory.feign.resilience.ConcurrencyLimitClientDecorator;
+import com.epam.digital.data.platform.datafactory.feign.resilience.ResilienceClientDecorator;
+import com.epam.digital.data.platform.starter.localization.MessageResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import okhttp3.EventListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.openfeign.FeignContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+/**
+ * The class represents an auto configuration of beans that are shared between feign clients
+ * configured with {@link DataFactoryFeignDecoderConfiguration}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties({DataFactoryHttpClientProperties.class,
+    DataFactoryResponseDecoderProperties.class, DataFactoryResponseCacheProperties.class,
+    DataFactoryCoalescingProperties.class, DataFactoryClientMetricsProperties.class,
+    DataFactoryCompressionProperties.class, DataFactoryCircuitBreakerProperties.class,
+    DataFactoryHedgingProperties.class, DataFactoryConcurrencyLimitProperties.class,
+    DataFactoryLoadBalancerProperties.class})
+public class DataFactoryClientAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public DataFactoryHttpClientProvider dataFactoryHttpClientProvider(
+      DataFactoryHttpClientProperties properties,
+      ObjectProvider<EventListener.Factory> eventListenerFactory) {
+    return new DataFactoryHttpClientProvider(properties,
+        eventListenerFactory.getIfAvailable());
+  }
+
+  @Bean
+  public DataFactoryHttpClientMetrics dataFactoryHttpClientMetrics(
+      DataFactoryHttpClientProvider dataFactoryHttpClientProvider) {
+    return new DataFactoryHttpClientMetrics(dataFactoryHttpClientProvider);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public StreamingRequestExecutorFactory streamingRequestExecutorFactory(
+      DataFactoryHttpClientProvider dataFactoryHttpClientProvider,
+      DataFactoryResponseDecoderProperties properties, ObjectProvider<ObjectMapper> objectMapper,
+      ObjectProvider<MessageResolver> messageResolver, ObjectProvider<FeignContext> feignContext,
+      ObjectProvider<FeignClientDecorator> feignClientDecorators) {
+    var decoder = new DataFactoryResponseDecoder(properties.getMode(),
+        Math.toIntExact(properties.getMaxBufferedBodySize().toBytes()));
+    var errorDecoder = new DataFactoryErrorDecoder(objectMapper.getIfAvailable(ObjectMapper::new),
+        messageResolver.getIfAvailable(), new ErrorDecoder.Default(),
+        Math.toIntExact(properties.getMaxErrorBodySize().toBytes()),
+        Math.toIntExact(properties.getMaxValidationErrorBodySize().toBytes()));
+    return new StreamingRequestExecutorFactory(dataFactoryHttpClientProvider, decoder,
+        errorDecoder, feignClientDecorators.orderedStream().collect(Collectors.toList()),
+        feignContext.getIfAvailable());
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "data-factory.response-cache", name = "enabled",
+      havingValue = "true")
+  public ResponseCacheClientDecorator responseCacheClientDecorator(
+      DataFactoryResponseCacheProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    return new ResponseCacheClientDecorator(properties,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "data-factory.coalescing", name = "enabled",
+      havingValue = "true")
+  public CoalescingMethodHandlerDecorator coalescingMethodHandlerDecorator(
+      DataFactoryCoalescingProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    return new CoalescingMethodHandlerDecorator(properties,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "data-factory.compression", name = "enabled",
+      havingValue = "true")
+  public CompressionClientDecorator compressionClientDecorator(
+      DataFactoryCompressionProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    return new CompressionClientDecorator(properties,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "data-factory.load-balancer", name = "enabled",
+      havingValue = "true")
+  public LoadBalancerClientDecorator loadBalancerClientDecorator(
+      DataFactoryLoadBalancerProperties properties, Environment environment,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var urls = new HashMap<String, List<String>>();
+    properties.getUrlProperties().forEach((clientName, property) -> {
+      var value = environment.getProperty(property);
+      if (Objects.nonNull(value)) {
+        urls.put(clientName, Arrays.stream(StringUtils.commaDelimitedListToStringArray(value))
+            .map(String::trim)
+            .filter(StringUtils::hasText)
+            .map(url -> url.contains("://") ? url : "http://" + url)
+            .map(url -> StringUtils.trimTrailingCharacter(url, '/'))
+            .collect(Collectors.toList()));
+      }
+    });
+    return new LoadBalancerClientDecorator(properties, urls,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "data-factory.hedging", name = "enabled", havingValue = "true")
+  public HedgingClientDecorator hedgingClientDecorator(DataFactoryHedgingProperties properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new HedgingClientDecorator(properties,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "data-factory.concurrency-limit", name = "enabled",
+      havingValue = "true")
+  public ConcurrencyLimitClientDecorator concurrencyLimitClientDecorator(
+      DataFactoryConcurrencyLimitProperties properties,
+      ObjectProvider<MessageResolver> messageResolver,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new ConcurrencyLimitClientDecorator(properties, messageResolver.getIfAvailable(),
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "data-factory.circuit-breaker", name = "enabled",
+      havingValue = "true")
+  public ResilienceClientDecorator resilienceClientDecorator(
+      DataFactoryCircuitBreakerProperties properties,
+      ObjectProvider<MessageResolver> messageResolver,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new ResilienceClientDecorator(properties, messageResolver.getIfAvailable(),
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "data-factory.metrics", name = "enabled", havingValue = "true",
+      matchIfMissing = true)
+  public MetricsClientDecorator metricsClientDecorator(
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new MetricsClientDecorator(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "data-factory.metrics", name = "enabled", havingValue = "true",
+      matchIfMissing = true)
+  public MetricsMethodHandlerDecorator metricsMethodHandlerDecorator(
+      DataFactoryClientMetricsProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    return new MetricsMethodHandlerDecorator(properties,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of micrometer instrumentation of feign clients.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.metrics")
+public class DataFactoryClientMetricsProperties {
+
+  private boolean enabled = true;
+  /**
+   * Publish percentile histograms of request timers
+   */
+  private boolean percentileHistogram = false;
+  /**
+   * Tag request timers with value of resource path variable
+   */
+  private boolean resourceTag = false;
+}
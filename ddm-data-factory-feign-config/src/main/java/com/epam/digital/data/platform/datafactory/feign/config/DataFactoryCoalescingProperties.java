@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of coalescing of identical concurrent feign client calls.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.coalescing")
+public class DataFactoryCoalescingProperties {
+
+  private boolean enabled;
+  private Set<String> clients = Set.of("data-factory-client", "platform-gateway-client");
+  /**
+   * Idempotent feign client methods which concurrent identical calls are coalesced
+   */
+  private Set<String> methods = Set.of("performGet", "performSearch");
+  /**
+   * Headers that may differ between coalesced calls, all other headers must be equal. The shared
+   * call is sent with headers of the first caller, so authorization headers must not be ignored.
+   */
+  private Set<String> ignoredHeaders = new HashSet<>();
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import com.epam.digital.data.platform.datafactory.feign.compression.ContentEncoding;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * The class represents properties of compression of request and response bodies of feign
+ * clients.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.compression")
+public class DataFactoryCompressionProperties {
+
+  private boolean enabled;
+  private Set<String> clients = Set.of("data-factory-client", "platform-gateway-client",
+      "user-settings-client");
+  private RequestCompression request = new RequestCompression();
+  private ResponseCompression response = new ResponseCompression();
+
+  @Getter
+  @Setter
+  public static class RequestCompression {
+
+    /**
+     * Compress request bodies, the server has to accept compressed bodies
+     */
+    private boolean enabled = true;
+    /**
+     * Bodies smaller than the size are sent as is
+     */
+    private DataSize minSize = DataSize.ofKilobytes(2);
+    private ContentEncoding encoding = ContentEncoding.GZIP;
+  }
+
+  @Getter
+  @Setter
+  public static class ResponseCompression {
+
+    /**
+     * Ask for compressed response bodies and decompress them
+     */
+    private boolean enabled = true;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import java.time.Duration;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of adaptive concurrency limits of feign clients. Each client
+ * has its own limit configured with these properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.concurrency-limit")
+public class DataFactoryConcurrencyLimitProperties {
+
+  private boolean enabled;
+  private Set<String> clients = Set.of("data-factory-client", "platform-gateway-client");
+  private int initialLimit = 20;
+  private int minLimit = 5;
+  private int maxLimit = 500;
+  /**
+   * Time to wait for a free slot before the call is rejected
+   */
+  private Duration maxWait = Duration.ZERO;
+  /**
+   * Number of calls after which the latency without load is measured anew
+   */
+  private int probeEvery = 1000;
+  /**
+   * Factor the limit is multiplied by when a call is dropped
+   */
+  private double dropFactor = 0.9;
+  /**
+   * Response statuses that mean the call is dropped by the overloaded service
+   */
+  private Set<Integer> dropStatuses = Set.of(429, 503, 504);
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import com.epam.digital.data.platform.datafactory.feign.http.DataFactoryHttpClientProvider;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignClientDecorator;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignDecoderDecorator;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignDecoratorCapability;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignMethodHandlerDecorator;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.okhttp.OkHttpClient;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * The class represents a configuration of http client and decorators of feign clients. It's
+ * imported by feign client configurations, so all platform clients share one http client and
+ * the same decorators.
+ */
+public class DataFactoryFeignClientConfiguration {
+
+  @Bean
+  public Client client(DataFactoryHttpClientProvider dataFactoryHttpClientProvider,
+      ObjectProvider<FeignClientDecorator> feignClientDecorators,
+      @Value("${feign.client.name:}") String clientName) {
+    Client client = new OkHttpClient(dataFactoryHttpClientProvider.getHttpClient(clientName));
+    for (var decorator : feignClientDecorators.orderedStream().collect(Collectors.toList())) {
+      client = decorator.decorate(clientName, client);
+    }
+    return client;
+  }
+
+  @Bean
+  public Capability dataFactoryDecoratorCapability(
+      ObjectProvider<FeignMethodHandlerDecorator> feignMethodHandlerDecorators,
+      ObjectProvider<FeignDecoderDecorator> feignDecoderDecorators,
+      @Value("${feign.client.name:}") String clientName) {
+    return new FeignDecoratorCapability(clientName,
+        feignMethodHandlerDecorators.orderedStream().collect(Collectors.toList()),
+        feignDecoderDecorators.orderedStream().collect(Collectors.toList()));
+  }
+
+  @Bean
+  public Request.Options options(DataFactoryHttpClientProvider dataFactoryHttpClientProvider) {
+    var properties = dataFactoryHttpClientProvider.getProperties();
+    return new Request.Options(properties.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+        properties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS, true);
+  }
+}
@@ -18,30 +18,44 @@ package com.epam.digital.data.platform.datafactory.feign.config;
 
 import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryErrorDecoder;
 import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryResponseDecoder;
+import com.epam.digital.data.platform.datafactory.feign.decoder.TypedResponseDecoder;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
 import com.epam.digital.data.platform.starter.localization.MessageResolver;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.codec.ErrorDecoder;
-import feign.okhttp.OkHttpClient;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
 
 /**
  * The class represents a configuration for feign clients that is used for response decoding.
  */
+@Import(DataFactoryFeignClientConfiguration.class)
 public class DataFactoryFeignDecoderConfiguration {
 
   @Bean
   public DataFactoryErrorDecoder dataFactoryErrorDecoder(ObjectMapper objectMapper,
-      MessageResolver messageResolver) {
-    return new DataFactoryErrorDecoder(objectMapper, messageResolver, new ErrorDecoder.Default());
+      MessageResolver messageResolver, DataFactoryResponseDecoderProperties properties) {
+    return new DataFactoryErrorDecoder(objectMapper, messageResolver, new ErrorDecoder.Default(),
+        Math.toIntExact(properties.getMaxErrorBodySize().toBytes()),
+        Math.toIntExact(properties.getMaxValidationErrorBodySize().toBytes()));
   }
 
   @Bean
-  public DataFactoryResponseDecoder dataFactoryResponseDecoder() {
-    return new DataFactoryResponseDecoder();
+  public DataFactoryResponseDecoder dataFactoryResponseDecoder(
+      DataFactoryResponseDecoderProperties properties) {
+    return new DataFactoryResponseDecoder(properties.getMode(),
+        Math.toIntExact(properties.getMaxBufferedBodySize().toBytes()));
   }
 
+  /**
+   * Decoder of feign clients: {@link ConnectorResponse} is decoded with
+   * {@link #dataFactoryResponseDecoder}, other return types are bound directly from the body.
+   */
   @Bean
-  public OkHttpClient client() {
-    return new OkHttpClient();
+  @Primary
+  public TypedResponseDecoder dataFactoryTypedResponseDecoder(ObjectMapper objectMapper,
+      DataFactoryResponseDecoder dataFactoryResponseDecoder) {
+    return new TypedResponseDecoder(objectMapper, dataFactoryResponseDecoder);
   }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import java.time.Duration;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of hedging of idempotent calls of feign clients.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.hedging")
+public class DataFactoryHedgingProperties {
+
+  private boolean enabled;
+  private Set<String> clients = Set.of("data-factory-client", "platform-gateway-client");
+  /**
+   * Names of idempotent methods of feign clients that are hedged
+   */
+  private Set<String> methods = Set.of("performGet", "performSearch");
+  /**
+   * Percentile of recent latencies after which a second attempt is sent
+   */
+  private double percentile = 0.95;
+  private Duration minDelay = Duration.ofMillis(20);
+  /**
+   * Number of recent latencies the percentile is calculated of
+   */
+  private int windowSize = 1000;
+  /**
+   * Calls aren't hedged till this number of latencies is recorded
+   */
+  private int minSamples = 100;
+  private int threads = 32;
+  private Budget budget = new Budget();
+
+  @Getter
+  @Setter
+  public static class Budget {
+
+    /**
+     * Share of calls that may be hedged
+     */
+    private double ratio = 0.1;
+    /**
+     * Number of hedged attempts that may be sent in a burst
+     */
+    private double maxTokens = 10;
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of http client that is shared between data factory feign
+ * clients.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.http-client")
+public class DataFactoryHttpClientProperties {
+
+  private int maxIdleConnections = 20;
+  private Duration keepAlive = Duration.ofMinutes(5);
+  /**
+   * Limits of concurrent requests in total and per host, a request holds its permit until the
+   * response body is closed and waits for a permit no longer than the read timeout
+   */
+  private int maxRequests = 256;
+  private int maxRequestsPerHost = 64;
+  private Duration connectTimeout = Duration.ofSeconds(10);
+  private Duration readTimeout = Duration.ofSeconds(60);
+  private Duration writeTimeout = Duration.ofSeconds(60);
+  /**
+   * Names of feign clients that use HTTP/2 without upgrade (prior knowledge), e.g.
+   * data-factory-client
+   */
+  private Set<String> http2PriorKnowledgeClients = new HashSet<>();
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import com.epam.digital.data.platform.datafactory.feign.loadbalancer.LoadBalancerStrategy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of client side load balancing of feign clients with several
+ * endpoints.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.load-balancer")
+public class DataFactoryLoadBalancerProperties {
+
+  private boolean enabled;
+  /**
+   * Names of url properties with comma separated endpoints by feign client name
+   */
+  private Map<String, String> urlProperties = Map.of(
+      "data-factory-client", "registry-rest-api.url",
+      "platform-gateway-client", "platform-gateway.url",
+      "excerpt-client", "excerpt-service-api.url");
+  private LoadBalancerStrategy strategy = LoadBalancerStrategy.PEAK_EWMA;
+  /**
+   * Time during which weight of previous latencies decays
+   */
+  private Duration decay = Duration.ofSeconds(10);
+  /**
+   * Time a failed endpoint isn't chosen while there are other endpoints
+   */
+  private Duration cooldown = Duration.ofSeconds(30);
+  /**
+   * Response statuses that mark the endpoint as failed
+   */
+  private Set<Integer> failureStatuses = Set.of(502, 503, 504);
+}
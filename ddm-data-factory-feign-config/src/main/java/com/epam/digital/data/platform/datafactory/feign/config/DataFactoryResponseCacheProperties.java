@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * The class represents properties of client side cache of GET responses that are revalidated with
+ * conditional requests.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.response-cache")
+public class DataFactoryResponseCacheProperties {
+
+  private boolean enabled;
+  private Set<String> clients = Set.of("data-factory-client", "platform-gateway-client");
+  private Duration ttl = Duration.ofSeconds(30);
+  /**
+   * Ttl per resource, resource is the path segment that precedes entity id
+   */
+  private Map<String, Duration> resourceTtl = new HashMap<>();
+  /**
+   * Period after ttl when stale response is returned while it is revalidated in background
+   */
+  private Duration staleWhileRevalidate = Duration.ZERO;
+  private DataSize maxSize = DataSize.ofMegabytes(64);
+  private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+  /**
+   * Headers that define authorization scope of cached response
+   */
+  private List<String> authorizationHeaders = List.of("X-Access-Token", "Authorization");
+  private int revalidationThreads = 2;
+}
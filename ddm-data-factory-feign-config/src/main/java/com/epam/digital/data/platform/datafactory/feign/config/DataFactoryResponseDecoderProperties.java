@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import com.epam.digital.data.platform.datafactory.feign.enums.ResponseDecodingMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * The class represents properties of data factory response decoder.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.response-decoder")
+public class DataFactoryResponseDecoderProperties {
+
+  private ResponseDecodingMode mode = ResponseDecodingMode.STRING;
+  /**
+   * Max size of response body that is kept as raw bytes in {@link ResponseDecodingMode#LAZY} mode
+   */
+  private DataSize maxBufferedBodySize = DataSize.ofMegabytes(1);
+  /**
+   * Max size of error response body that is read by error decoder, the rest is discarded
+   */
+  private DataSize maxErrorBodySize = DataSize.ofKilobytes(64);
+  /**
+   * Max size of json body of client error that is read by error decoder, so field errors of big
+   * validation errors aren't lost. A bigger body is decoded like a body that isn't json.
+   */
+  private DataSize maxValidationErrorBodySize = DataSize.ofMegabytes(1);
+}
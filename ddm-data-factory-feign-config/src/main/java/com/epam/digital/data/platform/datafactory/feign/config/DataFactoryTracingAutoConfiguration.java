@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.config;
+
+import com.epam.digital.data.platform.datafactory.feign.tracing.TracingClientDecorator;
+import com.epam.digital.data.platform.datafactory.feign.tracing.TracingEventListener;
+import com.epam.digital.data.platform.datafactory.feign.tracing.TracingMethodHandlerDecorator;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import okhttp3.EventListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The class represents an auto configuration of OpenTelemetry tracing of feign clients configured
+ * with {@link DataFactoryFeignDecoderConfiguration}. It's enabled by data-factory.tracing.enabled
+ * property and uses {@link OpenTelemetry} bean or the global one.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(OpenTelemetry.class)
+@ConditionalOnProperty(prefix = "data-factory.tracing", name = "enabled", havingValue = "true")
+public class DataFactoryTracingAutoConfiguration {
+
+  private static final String INSTRUMENTATION_NAME = "ddm-data-factory-client";
+
+  @Bean
+  public TracingMethodHandlerDecorator tracingMethodHandlerDecorator(
+      ObjectProvider<OpenTelemetry> openTelemetry) {
+    return new TracingMethodHandlerDecorator(
+        openTelemetry.getIfAvailable(GlobalOpenTelemetry::get).getTracer(INSTRUMENTATION_NAME));
+  }
+
+  @Bean
+  public TracingClientDecorator tracingClientDecorator(
+      ObjectProvider<OpenTelemetry> openTelemetry) {
+    var otel = openTelemetry.getIfAvailable(GlobalOpenTelemetry::get);
+    return new TracingClientDecorator(otel.getTracer(INSTRUMENTATION_NAME),
+        otel.getPropagators().getTextMapPropagator());
+  }
+
+  @Bean
+  public EventListener.Factory dataFactoryHttpEventListenerFactory() {
+    return TracingEventListener.factory();
+  }
+}
@@ -28,105 +28,124 @@ import com.epam.digital.data.platform.starter.errorhandling.exception.Unauthoriz
 import com.epam.digital.data.platform.starter.errorhandling.exception.ValidationException;
 import com.epam.digital.data.platform.starter.localization.MessageResolver;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import feign.Response;
 import feign.codec.ErrorDecoder;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
-import org.springframework.http.HttpStatus;
-
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 
 /**
  * The class represents an implementation of {@link ErrorDecoder} error decoder that raises
  * corresponding exception based on status.
+ * <p>
+ * Error body is read once and only up to the max size, so big error pages don't consume memory
+ * and the rest of the body is discarded when the response is closed. Json bodies of client errors
+ * have a separate larger max size, so field errors of big validation errors aren't lost. A json
+ * body over it is decoded like a body that isn't json. Localized titles of errors are resolved
+ * once per locale for a bounded number of locales, errors aren't localized without message
+ * resolver.
  */
-@RequiredArgsConstructor
 public class DataFactoryErrorDecoder implements ErrorDecoder {
 
-  private final ObjectMapper objectMapper;
+  public static final int DEFAULT_MAX_BODY_SIZE = 64 * 1024;
+  public static final int DEFAULT_MAX_VALIDATION_BODY_SIZE = 1024 * 1024;
+
+  private static final int MAX_CACHED_LOCALES = 16;
+
   private final MessageResolver messageResolver;
   private final ErrorDecoder errorDecoderChain;
+  private final ObjectReader systemErrorReader;
+  private final ObjectReader validationErrorReader;
+  private final int maxBodySize;
+  private final int maxValidationBodySize;
+  private final Map<Locale, Map<DataFactoryError, String>> titles = new ConcurrentHashMap<>();
+
+  public DataFactoryErrorDecoder(ObjectMapper objectMapper, MessageResolver messageResolver,
+      ErrorDecoder errorDecoderChain) {
+    this(objectMapper, messageResolver, errorDecoderChain, DEFAULT_MAX_BODY_SIZE);
+  }
+
+  public DataFactoryErrorDecoder(ObjectMapper objectMapper, MessageResolver messageResolver,
+      ErrorDecoder errorDecoderChain, int maxBodySize) {
+    this(objectMapper, messageResolver, errorDecoderChain, maxBodySize,
+        Math.max(maxBodySize, DEFAULT_MAX_VALIDATION_BODY_SIZE));
+  }
+
+  /**
+   * @param objectMapper          object mapper of error bodies
+   * @param messageResolver       resolver of localized titles, errors aren't localized if it's
+   *                              {@code null}
+   * @param errorDecoderChain     decoder of responses without body
+   * @param maxBodySize           max size of error body that is read
+   * @param maxValidationBodySize max size of json body of client error that is read
+   */
+  public DataFactoryErrorDecoder(ObjectMapper objectMapper, MessageResolver messageResolver,
+      ErrorDecoder errorDecoderChain, int maxBodySize, int maxValidationBodySize) {
+    this.messageResolver = messageResolver;
+    this.errorDecoderChain = errorDecoderChain;
+    this.systemErrorReader = objectMapper.readerFor(SystemErrorDto.class);
+    this.validationErrorReader = objectMapper.readerFor(ValidationErrorDto.class);
+    this.maxBodySize = maxBodySize;
+    this.maxValidationBodySize = Math.max(maxBodySize, maxValidationBodySize);
+  }
 
   @Override
   public Exception decode(String methodKey, Response response) {
     if (Objects.isNull(response) || Objects.isNull(response.body())) {
       return errorDecoderChain.decode(methodKey, response);
     }
+    if (response.status() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+      return serviceUnavailable(response);
+    }
+    var body = readBody(response);
     if (response.status() == HttpStatus.UNPROCESSABLE_ENTITY.value()
         || response.status() == HttpStatus.NOT_FOUND.value()) {
-      return validationException(response);
-    }
-    if (response.status() == HttpStatus.SERVICE_UNAVAILABLE.value()){
-      return serviceUnavailable(response);
+      return validationException(response, body);
     }
     if (response.status() == HttpStatus.FORBIDDEN.value()) {
-      return forbiddenException(response);
+      return new ForbiddenOperationException(localizedSystemErrorDto(response, body));
     }
     if (response.status() == HttpStatus.CONFLICT.value()) {
-      return constraintViolationException(response);
+      return new ConstraintViolationException(localizedSystemErrorDto(response, body));
     }
     if (response.status() == HttpStatus.UNAUTHORIZED.value()) {
-      return unauthorizedException(response);
+      return new UnauthorizedException(localizedSystemErrorDto(response, body));
     } else {
-      return systemException(response);
+      return new SystemException(localizedSystemErrorDto(response, body));
     }
   }
 
-  @SneakyThrows
-  private SystemException systemException(Response response) {
-    return new SystemException(convertResponseToSystemErrorDto(response));
-  }
-
-  @SneakyThrows
-  private ForbiddenOperationException forbiddenException(Response response) {
-    var systemErrorDto = objectMapper
-            .readValue(response.body().asInputStream(), SystemErrorDto.class);
-
-    var dataFactoryError = DataFactoryError.fromNameOrDefaultRuntimeError(systemErrorDto.getCode());
-    var localizedMessage = messageResolver.getMessage(dataFactoryError.getTitleKey());
-
-    systemErrorDto.setLocalizedMessage(localizedMessage);
-    return new ForbiddenOperationException(systemErrorDto);
-  }
-
-  @SneakyThrows
-  private ConstraintViolationException constraintViolationException(Response response) {
-    var systemErrorDto = objectMapper
-        .readValue(response.body().asInputStream(), SystemErrorDto.class);
-
-    var dataFactoryError = DataFactoryError.fromNameOrDefaultRuntimeError(systemErrorDto.getCode());
-    var localizedMessage = messageResolver.getMessage(dataFactoryError.getTitleKey());
-
-    systemErrorDto.setLocalizedMessage(localizedMessage);
-    return new ConstraintViolationException(systemErrorDto);
-  }
-
   private SystemException serviceUnavailable(Response response) {
     SystemErrorDto errorDto = new SystemErrorDto();
     errorDto.setCode(HttpStatus.resolve(response.status()).name());
-
-    var dataFactoryError = DataFactoryError.fromNameOrDefaultRuntimeError(errorDto.getCode());
-    var localizedMessage = messageResolver.getMessage(dataFactoryError.getTitleKey());
-
-    errorDto.setLocalizedMessage(localizedMessage);
+    errorDto.setLocalizedMessage(title(DataFactoryError.SERVICE_UNAVAILABLE));
     return new SystemException(errorDto);
   }
 
-  @SneakyThrows
-  private ValidationException validationException(Response response) {
-    var validationErrorDto = objectMapper
-        .readValue(response.body().asInputStream(), ValidationErrorDto.class);
+  private ValidationException validationException(Response response, byte[] body) {
+    ValidationErrorDto validationErrorDto;
+    try {
+      validationErrorDto = validationErrorReader.readValue(body);
+    } catch (IOException ex) {
+      validationErrorDto = ValidationErrorDto.builder().code(statusName(response)).build();
+    }
 
     if (Objects.nonNull(validationErrorDto.getDetails())) {
-      var localizedMessage = messageResolver
-          .getMessage(DataFactoryError.VALIDATION_ERROR.getTitleKey());
+      var localizedMessage = title(DataFactoryError.VALIDATION_ERROR);
       validationErrorDto.getDetails().getErrors()
           .forEach(errorDetailDto -> errorDetailDto.setMessage(localizedMessage));
     } else if (HttpStatus.NOT_FOUND.value() == response.status()) {
-      var localizedMessage = messageResolver.getMessage(DataFactoryError.NOT_FOUND.getTitleKey());
+      var localizedMessage = title(DataFactoryError.NOT_FOUND);
       validationErrorDto.setDetails(new ErrorsListDto(Collections.singletonList(
           new ErrorDetailDto(localizedMessage, null, null))));
     }
@@ -134,21 +153,14 @@ public class DataFactoryErrorDecoder implements ErrorDecoder {
     return new ValidationException(validationErrorDto);
   }
 
-  @SneakyThrows
-  private UnauthorizedException unauthorizedException(Response response) {
-    return new UnauthorizedException(convertResponseToSystemErrorDto(response));
-  }
-
-  private SystemErrorDto convertResponseToSystemErrorDto(Response response) throws IOException {
-    var bodyBytes = response.body().asInputStream().readAllBytes();
+  private SystemErrorDto localizedSystemErrorDto(Response response, byte[] body) {
     try {
-      SystemErrorDto systemErrorDto = objectMapper.readValue(bodyBytes, SystemErrorDto.class);
-      var dataFactoryError = DataFactoryError.fromNameOrDefaultRuntimeError(systemErrorDto.getCode());
-      var localizedMessage = messageResolver.getMessage(dataFactoryError.getTitleKey());
-      systemErrorDto.setLocalizedMessage(localizedMessage);
+      SystemErrorDto systemErrorDto = systemErrorReader.readValue(body);
+      systemErrorDto.setLocalizedMessage(
+          title(DataFactoryError.fromNameOrDefaultRuntimeError(systemErrorDto.getCode())));
       return systemErrorDto;
     } catch (IOException ex) {
-      return convertResponseWithStringBody(bodyBytes, HttpStatus.resolve(response.status()).name());
+      return convertResponseWithStringBody(body, statusName(response));
     }
   }
 
@@ -158,4 +170,52 @@ public class DataFactoryErrorDecoder implements ErrorDecoder {
         .localizedMessage(new String(bodyBytes, StandardCharsets.UTF_8))
         .build();
   }
-}
\ No newline at end of file
+
+  /**
+   * Read body up to max size, the rest of the body is discarded when response is closed. Json body
+   * of client error over its max size is cut to max size of other bodies, so it isn't parsed.
+   */
+  private byte[] readBody(Response response) {
+    var length = response.body().length();
+    try (InputStream body = response.body().asInputStream()) {
+      if (!isJsonClientError(response)) {
+        return body.readNBytes(Objects.isNull(length) ? maxBodySize
+            : Math.min(length, maxBodySize));
+      }
+      var bytes = body.readNBytes(maxValidationBodySize + 1);
+      return bytes.length > maxValidationBodySize ? Arrays.copyOf(bytes, maxBodySize) : bytes;
+    } catch (IOException ex) {
+      return new byte[0];
+    }
+  }
+
+  private static boolean isJsonClientError(Response response) {
+    if (HttpStatus.Series.resolve(response.status()) != HttpStatus.Series.CLIENT_ERROR) {
+      return false;
+    }
+    var contentTypes = response.headers().get(HttpHeaders.CONTENT_TYPE);
+    return Objects.nonNull(contentTypes) && contentTypes.stream()
+        .anyMatch(contentType -> contentType.toLowerCase(Locale.ROOT).contains("json"));
+  }
+
+  private String title(DataFactoryError dataFactoryError) {
+    if (Objects.isNull(messageResolver)) {
+      return null;
+    }
+    var locale = LocaleContextHolder.getLocale();
+    var localeTitles = titles.get(locale);
+    if (Objects.isNull(localeTitles)) {
+      if (titles.size() >= MAX_CACHED_LOCALES) {
+        return messageResolver.getMessage(dataFactoryError.getTitleKey());
+      }
+      localeTitles = titles.computeIfAbsent(locale, l -> new ConcurrentHashMap<>());
+    }
+    return localeTitles.computeIfAbsent(dataFactoryError,
+        error -> messageResolver.getMessage(error.getTitleKey()));
+  }
+
+  private static String statusName(Response response) {
+    var status = HttpStatus.resolve(response.status());
+    return Objects.isNull(status) ? String.valueOf(response.status()) : status.name();
+  }
+}
@@ -16,12 +16,18 @@
 
 package com.epam.digital.data.platform.datafactory.feign.decoder;
 
+import com.epam.digital.data.platform.datafactory.feign.enums.ResponseDecodingMode;
 import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse.ConnectorResponseBuilder;
+import com.epam.digital.data.platform.datafactory.feign.util.SpinJsonUtils;
 import feign.Response;
 import feign.codec.Decoder;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.SequenceInputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -31,21 +37,85 @@ import org.camunda.spin.json.SpinJsonNode;
 /**
  * The class represents an implementation of {@link Decoder} decoder that is used to decode {@link
  * Response} response to {@link ConnectorResponse} type.
+ * <p>
+ * In {@link ResponseDecodingMode#STREAMING} mode the body is parsed directly from the response
+ * stream into the jackson tree that backs {@link SpinJsonNode}, so the body is never materialized
+ * as a {@link String}. In {@link ResponseDecodingMode#LAZY} mode bodies up to the max buffered
+ * body size are kept as raw bytes and parsed on first access.
  */
 public class DataFactoryResponseDecoder implements Decoder {
 
+  public static final int DEFAULT_MAX_BUFFERED_BODY_SIZE = 1024 * 1024;
+
+  private final ResponseDecodingMode mode;
+  private final int maxBufferedBodySize;
+
+  public DataFactoryResponseDecoder() {
+    this(ResponseDecodingMode.STRING);
+  }
+
+  public DataFactoryResponseDecoder(ResponseDecodingMode mode) {
+    this(mode, DEFAULT_MAX_BUFFERED_BODY_SIZE);
+  }
+
+  public DataFactoryResponseDecoder(ResponseDecodingMode mode, int maxBufferedBodySize) {
+    this.mode = mode;
+    this.maxBufferedBodySize = maxBufferedBodySize;
+  }
+
   @Override
   public Object decode(Response response, Type type) throws IOException {
-    SpinJsonNode spin = null;
+    var connectorResponse = ConnectorResponse.builder()
+        .statusCode(response.status())
+        .headers(response.headers());
     if (Objects.nonNull(response.body())) {
-      var body = IOUtils.toString(response.body().asInputStream(), StandardCharsets.UTF_8.name());
-      spin = StringUtils.isBlank(body) ? null : Spin.JSON(body);
+      switch (mode) {
+        case STREAMING:
+          connectorResponse.responseBody(readStreaming(response.body()));
+          break;
+        case LAZY:
+          readLazy(response.body(), connectorResponse);
+          break;
+        default:
+          connectorResponse.responseBody(readString(response.body()));
+      }
     }
+    return connectorResponse.build();
+  }
 
-    return ConnectorResponse.builder()
-        .statusCode(response.status())
-        .responseBody(spin)
-        .headers(response.headers())
-        .build();
+  private SpinJsonNode readString(Response.Body body) throws IOException {
+    var bodyStr = IOUtils.toString(body.asInputStream(), StandardCharsets.UTF_8.name());
+    return StringUtils.isBlank(bodyStr) ? null : Spin.JSON(bodyStr);
+  }
+
+  private SpinJsonNode readStreaming(Response.Body body) throws IOException {
+    if (Objects.equals(body.length(), 0)) {
+      return null;
+    }
+    return SpinJsonUtils.read(body.asInputStream());
+  }
+
+  private void readLazy(Response.Body body, ConnectorResponseBuilder connectorResponse)
+      throws IOException {
+    var length = body.length();
+    if (Objects.nonNull(length) && length > maxBufferedBodySize) {
+      connectorResponse.responseBody(readStreaming(body));
+      return;
+    }
+    var inputStream = body.asInputStream();
+    if (Objects.nonNull(length)) {
+      var rawBody = new byte[length];
+      var read = inputStream.readNBytes(rawBody, 0, length);
+      connectorResponse.rawBody(read == length ? rawBody : Arrays.copyOf(rawBody, read));
+      return;
+    }
+    var bufferedBody = inputStream.readNBytes(
+        (int) Math.min(maxBufferedBodySize + 1L, Integer.MAX_VALUE - 8L));
+    if (bufferedBody.length <= maxBufferedBodySize) {
+      connectorResponse.rawBody(bufferedBody);
+    } else {
+      connectorResponse.responseBody(SpinJsonUtils.read(
+          new SequenceInputStream(new ByteArrayInputStream(bufferedBody), inputStream)));
+    }
   }
 }
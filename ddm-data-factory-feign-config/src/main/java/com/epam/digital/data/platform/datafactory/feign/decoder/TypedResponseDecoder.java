@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.decoder;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import com.epam.digital.data.platform.datafactory.feign.model.response.TypedConnectorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import feign.Response;
+import feign.codec.Decoder;
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The class represents an implementation of {@link Decoder} that maps response body directly from
+ * the response stream to the return type of feign client method, so the body isn't parsed to
+ * {@link org.camunda.spin.json.SpinJsonNode} first. {@link TypedConnectorResponse} return type
+ * keeps status code and headers of the response. {@link ConnectorResponse} return type is decoded
+ * with the delegate decoder.
+ * <p>
+ * An {@link ObjectReader} is created once per type and reused for all responses.
+ */
+public class TypedResponseDecoder implements Decoder {
+
+  private final ObjectMapper objectMapper;
+  private final Decoder delegate;
+  private final Map<Type, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+
+  /**
+   * @param objectMapper object mapper that is used to create readers of response types
+   * @param delegate     decoder of {@link ConnectorResponse}
+   */
+  public TypedResponseDecoder(ObjectMapper objectMapper, Decoder delegate) {
+    this.objectMapper = objectMapper;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Object decode(Response response, Type type) throws IOException {
+    if (ConnectorResponse.class.equals(type)) {
+      return delegate.decode(response, type);
+    }
+    if (type instanceof ParameterizedType
+        && TypedConnectorResponse.class.equals(((ParameterizedType) type).getRawType())) {
+      return decodeTyped(response, ((ParameterizedType) type).getActualTypeArguments()[0]);
+    }
+    return readBody(response, type);
+  }
+
+  /**
+   * Decode response to {@link TypedConnectorResponse}
+   *
+   * @param response response to decode
+   * @param bodyType response body type
+   * @return response with mapped body or with null body if the response body is blank
+   * @throws IOException if the body can't be read or mapped
+   */
+  public <T> TypedConnectorResponse<T> decodeTyped(Response response, Type bodyType)
+      throws IOException {
+    return TypedConnectorResponse.<T>builder()
+        .statusCode(response.status())
+        .headers(response.headers())
+        .body(readBody(response, bodyType))
+        .build();
+  }
+
+  private <T> T readBody(Response response, Type type) throws IOException {
+    var body = response.body();
+    if (Objects.isNull(body) || Objects.equals(body.length(), 0)) {
+      return null;
+    }
+    var inputStream = new PushbackInputStream(body.asInputStream());
+    var firstByte = inputStream.read();
+    while (Character.isWhitespace(firstByte)) {
+      firstByte = inputStream.read();
+    }
+    if (firstByte == -1) {
+      return null;
+    }
+    inputStream.unread(firstByte);
+    return objectReaders.computeIfAbsent(type,
+        key -> objectMapper.readerFor(objectMapper.constructType(key))).readValue(inputStream);
+  }
+}
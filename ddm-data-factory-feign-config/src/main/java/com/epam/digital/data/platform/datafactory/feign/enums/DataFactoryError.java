@@ -17,11 +17,14 @@
 package com.epam.digital.data.platform.datafactory.feign.enums;
 
 import com.epam.digital.data.platform.starter.localization.MessageTitle;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Arrays;
-
 /**
  * Enumeration of data factory errors.
  */
@@ -49,6 +52,9 @@ public enum DataFactoryError implements MessageTitle {
   RUNTIME_ERROR("data-factory.error.runtime-error"),
   SERVICE_UNAVAILABLE("data-factory.error.service-unavailable");
 
+  private static final Map<String, DataFactoryError> BY_NAME = Stream.of(values())
+      .collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+
   private final String titleKey;
 
   /**
@@ -58,9 +64,6 @@ public enum DataFactoryError implements MessageTitle {
    * @return {@link DataFactoryError} object
    */
   public static DataFactoryError fromNameOrDefaultRuntimeError(String name) {
-
-    return Arrays.stream(values())
-        .filter(dataFactoryError -> dataFactoryError.name().equals(name))
-        .findFirst().orElse(RUNTIME_ERROR);
+    return Objects.isNull(name) ? RUNTIME_ERROR : BY_NAME.getOrDefault(name, RUNTIME_ERROR);
   }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.enums;
+
+/**
+ * Enumeration of modes that are used by data factory response decoder to read response body.
+ */
+public enum ResponseDecodingMode {
+
+  /**
+   * Response body is read to a string that is parsed afterwards.
+   */
+  STRING,
+  /**
+   * Response body is parsed directly from response stream without intermediate string.
+   */
+  STREAMING,
+  /**
+   * Response body up to configured size is kept as raw bytes and parsed only on first access,
+   * bigger bodies are parsed in {@link #STREAMING} mode.
+   */
+  LAZY
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.hedging;
+
+/**
+ * The class represents budget of hedged attempts of a feign client. Each hedgeable call earns a
+ * fraction of a token and each hedged attempt spends a whole one, so hedged attempts never exceed
+ * the configured share of calls apart from a small burst.
+ */
+class HedgingBudget {
+
+  private final double ratio;
+  private final double maxTokens;
+  private double tokens;
+
+  HedgingBudget(double ratio, double maxTokens) {
+    this.ratio = ratio;
+    this.maxTokens = maxTokens;
+    this.tokens = maxTokens;
+  }
+
+  synchronized void deposit() {
+    tokens = Math.min(maxTokens, tokens + ratio);
+  }
+
+  synchronized boolean tryWithdraw() {
+    if (tokens < 1) {
+      return false;
+    }
+    tokens--;
+    return true;
+  }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.hedging;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The class represents http client that hedges calls of idempotent methods. When the first attempt
+ * hasn't answered within a percentile of recent latencies, a second attempt is sent if the budget
+ * allows it. The first response wins, the other attempt is cancelled and its response is closed.
+ */
+class HedgingClient implements Client {
+
+  private final Client delegate;
+  private final Set<String> methods;
+  private final LatencyWindow latencies;
+  private final HedgingBudget budget;
+  private final long minDelayNanos;
+  private final Executor executor;
+  private final Counter hedged;
+  private final Counter won;
+  private final Counter budgetExhausted;
+
+  HedgingClient(Client delegate, Set<String> methods, LatencyWindow latencies,
+      HedgingBudget budget, long minDelayNanos, Executor executor, Counter hedged, Counter won,
+      Counter budgetExhausted) {
+    this.delegate = delegate;
+    this.methods = methods;
+    this.latencies = latencies;
+    this.budget = budget;
+    this.minDelayNanos = minDelayNanos;
+    this.executor = executor;
+    this.hedged = hedged;
+    this.won = won;
+    this.budgetExhausted = budgetExhausted;
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    if (!methods.contains(methodName(request))) {
+      return delegate.execute(request, options);
+    }
+    budget.deposit();
+    var delay = latencies.getPercentile();
+    var race = new Race(request, options);
+    if (delay < 0 || !race.start(false)) {
+      return timed(request, options);
+    }
+    try {
+      try {
+        return race.result.get(Math.max(delay, minDelayNanos), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        if (!budget.tryWithdraw()) {
+          budgetExhausted.increment();
+        } else if (race.start(true)) {
+          hedged.increment();
+        }
+      }
+      return race.result.get();
+    } catch (InterruptedException e) {
+      race.cancel(null);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for response");
+    } catch (ExecutionException e) {
+      throw rethrow(e.getCause());
+    }
+  }
+
+  private Response timed(Request request, Request.Options options) throws IOException {
+    var start = System.nanoTime();
+    var response = delegate.execute(request, options);
+    latencies.record(System.nanoTime() - start);
+    return response;
+  }
+
+  private static IOException rethrow(Throwable cause) {
+    if (cause instanceof IOException) {
+      return (IOException) cause;
+    }
+    if (cause instanceof RuntimeException) {
+      throw (RuntimeException) cause;
+    }
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return new IOException(cause);
+  }
+
+  private static String methodName(Request request) {
+    if (Objects.isNull(request.requestTemplate())
+        || Objects.isNull(request.requestTemplate().methodMetadata())) {
+      return null;
+    }
+    var configKey = request.requestTemplate().methodMetadata().configKey();
+    var start = configKey.indexOf('#');
+    var end = configKey.indexOf('(');
+    return start < 0 || end < start ? configKey : configKey.substring(start + 1, end);
+  }
+
+  private static void closeQuietly(Response response) {
+    try {
+      response.close();
+    } catch (RuntimeException e) {
+      // the response of a lost attempt isn't used
+    }
+  }
+
+  private class Race {
+
+    private final Request request;
+    private final Request.Options options;
+    private final CompletableFuture<Response> result = new CompletableFuture<>();
+    private final List<Attempt> attempts = new ArrayList<>(2);
+    private int running;
+    private Throwable failure;
+
+    private Race(Request request, Request.Options options) {
+      this.request = request;
+      this.options = options;
+    }
+
+    private boolean start(boolean hedge) {
+      Attempt attempt;
+      synchronized (this) {
+        if (result.isDone()) {
+          return false;
+        }
+        attempt = new Attempt(this, hedge);
+        attempts.add(attempt);
+        running++;
+      }
+      try {
+        executor.execute(attempt);
+        return true;
+      } catch (RejectedExecutionException e) {
+        synchronized (this) {
+          attempts.remove(attempt);
+          running--;
+        }
+        return false;
+      }
+    }
+
+    private void onDone(Attempt attempt) {
+      Response response = null;
+      Throwable error = null;
+      try {
+        response = attempt.get();
+      } catch (CancellationException e) {
+        error = e;
+      } catch (ExecutionException e) {
+        error = e.getCause();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        error = e;
+      }
+      synchronized (this) {
+        running--;
+        if (Objects.nonNull(response)) {
+          if (!result.complete(response)) {
+            closeQuietly(response);
+            return;
+          }
+          if (attempt.hedge) {
+            won.increment();
+          }
+          cancel(attempt);
+          return;
+        }
+        if (Objects.isNull(failure) && !(error instanceof CancellationException)) {
+          failure = error;
+        }
+        if (running == 0) {
+          result.completeExceptionally(Objects.isNull(failure) ? error : failure);
+        }
+      }
+    }
+
+    private synchronized void cancel(Attempt winner) {
+      attempts.stream()
+          .filter(attempt -> attempt != winner)
+          .forEach(attempt -> attempt.cancel(true));
+    }
+  }
+
+  private class Attempt extends FutureTask<Response> {
+
+    private final Race race;
+    private final boolean hedge;
+
+    private Attempt(Race race, boolean hedge) {
+      super(() -> timed(race.request, race.options));
+      this.race = race;
+      this.hedge = hedge;
+    }
+
+    @Override
+    protected void set(Response response) {
+      super.set(response);
+      if (isCancelled()) {
+        closeQuietly(response);
+      }
+    }
+
+    @Override
+    protected void done() {
+      race.onDone(this);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.hedging;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryHedgingProperties;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignClientDecorator;
+import feign.Client;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The class represents decorator that hedges calls of idempotent methods of configured feign
+ * clients. Attempts run on a bounded pool of daemon threads, a call runs on the calling thread
+ * without hedging when the pool is busy. Clients with the same name share latency window and
+ * budget. OpenTelemetry context of the calling thread is propagated to attempts when OpenTelemetry
+ * is on the classpath.
+ */
+public class HedgingClientDecorator implements FeignClientDecorator, AutoCloseable {
+
+  static final String METRIC_HEDGING = "datafactory.client.hedging.requests";
+
+  private static final boolean OPEN_TELEMETRY_PRESENT = ClassUtils.isPresent(
+      "io.opentelemetry.context.Context", HedgingClientDecorator.class.getClassLoader());
+
+  private final DataFactoryHedgingProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final ThreadPoolExecutor executor;
+  private final Executor attemptExecutor;
+  private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+  private final Map<String, HedgingBudget> budgets = new ConcurrentHashMap<>();
+
+  public HedgingClientDecorator(DataFactoryHedgingProperties properties,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    var threadFactory = new CustomizableThreadFactory("data-factory-hedging-");
+    threadFactory.setDaemon(true);
+    this.executor = new ThreadPoolExecutor(0, Math.max(properties.getThreads(), 2), 60,
+        TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+    this.attemptExecutor = OPEN_TELEMETRY_PRESENT
+        ? TracingContextExecutors.taskWrapping(executor) : executor;
+  }
+
+  @Override
+  public Client decorate(String clientName, Client client) {
+    if (!properties.getClients().contains(clientName)) {
+      return client;
+    }
+    var window = latencies.computeIfAbsent(clientName, name -> new LatencyWindow(
+        properties.getWindowSize(), properties.getPercentile(), properties.getMinSamples()));
+    var budget = budgets.computeIfAbsent(clientName, name -> new HedgingBudget(
+        properties.getBudget().getRatio(), properties.getBudget().getMaxTokens()));
+    return new HedgingClient(client, properties.getMethods(), window, budget,
+        properties.getMinDelay().toNanos(), attemptExecutor, counter(clientName, "hedged"),
+        counter(clientName, "won"), counter(clientName, "budget-exhausted"));
+  }
+
+  @Override
+  public int getOrder() {
+    return HEDGING_ORDER;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private Counter counter(String clientName, String result) {
+    return Counter.builder(METRIC_HEDGING)
+        .tag("client", clientName)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
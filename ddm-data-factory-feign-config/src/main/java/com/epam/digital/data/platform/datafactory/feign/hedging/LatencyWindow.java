@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.hedging;
+
+import java.util.Arrays;
+
+/**
+ * The class represents a window of latencies of recent calls of a feign client. The percentile of
+ * the window is recalculated after every tenth of the window is replaced, so reading it is cheap.
+ */
+class LatencyWindow {
+
+  private final long[] latencies;
+  private final double percentile;
+  private final int minSamples;
+  private final int recalculateEvery;
+
+  private int recorded;
+  private int position;
+  private int sinceRecalculation;
+  private long threshold = -1;
+
+  LatencyWindow(int size, double percentile, int minSamples) {
+    this.latencies = new long[size];
+    this.percentile = percentile;
+    this.minSamples = Math.min(minSamples, size);
+    this.recalculateEvery = Math.max(size / 10, 1);
+  }
+
+  synchronized void record(long latencyNanos) {
+    latencies[position] = latencyNanos;
+    position = (position + 1) % latencies.length;
+    recorded = Math.min(recorded + 1, latencies.length);
+    if (recorded >= minSamples && (threshold < 0 || ++sinceRecalculation >= recalculateEvery)) {
+      sinceRecalculation = 0;
+      var sorted = Arrays.copyOf(latencies, recorded);
+      Arrays.sort(sorted);
+      threshold = sorted[Math.min((int) Math.ceil(percentile * recorded) - 1, recorded - 1)];
+    }
+  }
+
+  /**
+   * @return latency percentile in nanos or {@code -1} if there are not enough samples yet
+   */
+  synchronized long getPercentile() {
+    return threshold;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.hedging;
+
+import io.opentelemetry.context.Context;
+import java.util.concurrent.Executor;
+
+/**
+ * The class represents a utility that propagates OpenTelemetry context of the calling thread to
+ * hedged attempts, so http spans of attempts keep the parent span and the trace id of the call.
+ * It's loaded only when OpenTelemetry is on the classpath.
+ */
+final class TracingContextExecutors {
+
+  static Executor taskWrapping(Executor executor) {
+    return Context.taskWrapping(executor);
+  }
+
+  private TracingContextExecutors() {
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+
+/**
+ * The class represents a binder of metrics that expose state of connection pool and dispatcher
+ * of the shared data factory http client.
+ */
+@RequiredArgsConstructor
+public class DataFactoryHttpClientMetrics implements MeterBinder {
+
+  private final DataFactoryHttpClientProvider httpClientProvider;
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    var httpClient = httpClientProvider.getHttpClient();
+    var connectionPool = httpClient.connectionPool();
+    var dispatcher = httpClient.dispatcher();
+
+    Gauge.builder("datafactory.http.pool.connections", connectionPool, ConnectionPool::connectionCount)
+        .tag("state", "total")
+        .description("Number of connections in the shared pool")
+        .register(registry);
+    Gauge.builder("datafactory.http.pool.connections", connectionPool,
+            ConnectionPool::idleConnectionCount)
+        .tag("state", "idle")
+        .description("Number of connections in the shared pool")
+        .register(registry);
+    Gauge.builder("datafactory.http.dispatcher.calls", dispatcher, Dispatcher::runningCallsCount)
+        .tag("state", "running")
+        .description("Number of calls executed by the shared dispatcher")
+        .register(registry);
+    Gauge.builder("datafactory.http.dispatcher.calls", dispatcher, Dispatcher::queuedCallsCount)
+        .tag("state", "queued")
+        .description("Number of calls executed by the shared dispatcher")
+        .register(registry);
+    Gauge.builder("datafactory.http.requests.available", httpClientProvider,
+            DataFactoryHttpClientProvider::getAvailableRequests)
+        .description("Number of requests that can be started before the total limit is reached")
+        .register(registry);
+  }
+}
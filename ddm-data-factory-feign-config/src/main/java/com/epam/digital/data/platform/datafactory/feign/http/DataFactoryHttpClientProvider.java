@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryHttpClientProperties;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * The class represents a provider of http client that is shared between data factory feign
+ * clients, so all of them use the same connection pool, dispatcher and limits of concurrent
+ * requests.
+ */
+public class DataFactoryHttpClientProvider implements AutoCloseable {
+
+  private final DataFactoryHttpClientProperties properties;
+  private final OkHttpClient httpClient;
+  private final RequestLimitInterceptor requestLimitInterceptor;
+  private final Map<String, OkHttpClient> http2PriorKnowledgeClients = new ConcurrentHashMap<>();
+
+  public DataFactoryHttpClientProvider(DataFactoryHttpClientProperties properties) {
+    this(properties, null);
+  }
+
+  /**
+   * @param properties           http client properties
+   * @param eventListenerFactory factory of listeners of http client calls, may be {@code null}
+   */
+  public DataFactoryHttpClientProvider(DataFactoryHttpClientProperties properties,
+      EventListener.Factory eventListenerFactory) {
+    this.properties = properties;
+
+    var dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(properties.getMaxRequests());
+    dispatcher.setMaxRequestsPerHost(properties.getMaxRequestsPerHost());
+    this.requestLimitInterceptor = new RequestLimitInterceptor(properties.getMaxRequests(),
+        properties.getMaxRequestsPerHost());
+
+    this.httpClient = new OkHttpClient.Builder()
+        .connectionPool(new ConnectionPool(properties.getMaxIdleConnections(),
+            properties.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS))
+        .dispatcher(dispatcher)
+        .addInterceptor(requestLimitInterceptor)
+        .connectTimeout(properties.getConnectTimeout())
+        .readTimeout(properties.getReadTimeout())
+        .writeTimeout(properties.getWriteTimeout())
+        .eventListenerFactory(Objects.isNull(eventListenerFactory) ? call -> EventListener.NONE
+            : eventListenerFactory)
+        .build();
+  }
+
+  /**
+   * Get http client for feign client. Derived clients share connection pool and dispatcher with
+   * the shared one.
+   *
+   * @param clientName feign client name
+   * @return http client
+   */
+  public OkHttpClient getHttpClient(String clientName) {
+    if (!properties.getHttp2PriorKnowledgeClients().contains(clientName)) {
+      return httpClient;
+    }
+    return http2PriorKnowledgeClients.computeIfAbsent(clientName,
+        name -> httpClient.newBuilder().protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE)).build());
+  }
+
+  public OkHttpClient getHttpClient() {
+    return httpClient;
+  }
+
+  /**
+   * @return number of requests that can be started before the total limit is reached
+   */
+  public int getAvailableRequests() {
+    return requestLimitInterceptor.availableRequests();
+  }
+
+  public DataFactoryHttpClientProperties getProperties() {
+    return properties;
+  }
+
+  @Override
+  public void close() {
+    httpClient.dispatcher().executorService().shutdown();
+    httpClient.connectionPool().evictAll();
+  }
+}
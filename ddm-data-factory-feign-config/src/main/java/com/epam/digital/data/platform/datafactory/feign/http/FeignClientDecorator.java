@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import feign.Client;
+import org.springframework.core.Ordered;
+
+/**
+ * The interface represents a decorator of http client of feign clients that are configured with
+ * DataFactoryFeignDecoderConfiguration. Decorators are applied in {@link Ordered} order, so a
+ * decorator with lower order is closer to the http client.
+ */
+public interface FeignClientDecorator extends Ordered {
+
+  int TRACING_ORDER = 10;
+  int METRICS_ORDER = 50;
+  int LOAD_BALANCER_ORDER = 100;
+  int COMPRESSION_ORDER = 200;
+  int HEDGING_ORDER = 300;
+  int CONCURRENCY_LIMIT_ORDER = 400;
+  int CIRCUIT_BREAKER_ORDER = 500;
+  int RESPONSE_CACHE_ORDER = 600;
+  int ENTITY_CACHE_ORDER = 700;
+
+  /**
+   * Decorate http client of feign client
+   *
+   * @param clientName feign client name
+   * @param client     http client to decorate
+   * @return decorated client or the same client if decoration isn't applicable
+   */
+  Client decorate(String clientName, Client client);
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import org.springframework.core.Ordered;
+
+/**
+ * The interface represents a decorator of response and error decoders of feign clients that are
+ * configured with DataFactoryFeignDecoderConfiguration. Decorators are applied in {@link Ordered}
+ * order, so a decorator with lower order is closer to the decoder.
+ */
+public interface FeignDecoderDecorator extends Ordered {
+
+  /**
+   * Decorate response decoder of feign client
+   *
+   * @param clientName feign client name
+   * @param decoder    decoder to decorate
+   * @return decorated decoder or the same decoder if decoration isn't applicable
+   */
+  Decoder decorate(String clientName, Decoder decoder);
+
+  /**
+   * Decorate error decoder of feign client
+   *
+   * @param clientName   feign client name
+   * @param errorDecoder error decoder to decorate
+   * @return decorated error decoder or the same error decoder if decoration isn't applicable
+   */
+  ErrorDecoder decorate(String clientName, ErrorDecoder errorDecoder);
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents feign capability that applies {@link FeignMethodHandlerDecorator}s to method
+ * handlers and {@link FeignDecoderDecorator}s to decoders of feign client.
+ */
+@RequiredArgsConstructor
+public class FeignDecoratorCapability implements Capability {
+
+  private final String clientName;
+  private final List<FeignMethodHandlerDecorator> methodHandlerDecorators;
+  private final List<FeignDecoderDecorator> decoderDecorators;
+
+  @Override
+  public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+    if (methodHandlerDecorators.isEmpty()) {
+      return invocationHandlerFactory;
+    }
+    return (target, dispatch) -> {
+      Map<Method, MethodHandler> decoratedDispatch = new LinkedHashMap<>();
+      dispatch.forEach((method, handler) -> {
+        var decoratedHandler = handler;
+        for (var decorator : methodHandlerDecorators) {
+          decoratedHandler = decorator.decorate(clientName, method, decoratedHandler);
+        }
+        decoratedDispatch.put(method, decoratedHandler);
+      });
+      return invocationHandlerFactory.create(target, decoratedDispatch);
+    };
+  }
+
+  @Override
+  public Decoder enrich(Decoder decoder) {
+    var decoratedDecoder = decoder;
+    for (var decorator : decoderDecorators) {
+      decoratedDecoder = decorator.decorate(clientName, decoratedDecoder);
+    }
+    return decoratedDecoder;
+  }
+
+  @Override
+  public ErrorDecoder enrich(ErrorDecoder errorDecoder) {
+    var decoratedErrorDecoder = errorDecoder;
+    for (var decorator : decoderDecorators) {
+      decoratedErrorDecoder = decorator.decorate(clientName, decoratedErrorDecoder);
+    }
+    return decoratedErrorDecoder;
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import feign.InvocationHandlerFactory.MethodHandler;
+import java.lang.reflect.Method;
+import org.springframework.core.Ordered;
+
+/**
+ * The interface represents a decorator of method handlers of feign clients that are configured with
+ * DataFactoryFeignDecoderConfiguration. In contrast to {@link FeignClientDecorator} it works with
+ * method arguments and decoded results. Decorators are applied in {@link Ordered} order, so a
+ * decorator with lower order is closer to the feign method handler.
+ */
+public interface FeignMethodHandlerDecorator extends Ordered {
+
+  int METRICS_ORDER = 50;
+  int COALESCING_ORDER = 100;
+  int USER_SETTINGS_CACHE_ORDER = 200;
+  int TRACING_ORDER = 1000;
+
+  /**
+   * Decorate method handler of feign client
+   *
+   * @param clientName feign client name
+   * @param method     feign client method
+   * @param handler    method handler to decorate
+   * @return decorated handler or the same handler if decoration isn't applicable
+   */
+  MethodHandler decorate(String clientName, Method method, MethodHandler handler);
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * The class represents an interceptor that limits number of concurrent requests of the shared
+ * http client in total and per host. Unlike limits of {@link okhttp3.Dispatcher} they are applied
+ * to synchronously executed calls that are used by feign clients. A request holds its permits
+ * until the response body is closed, so a caller waits for a permit when the limit is reached.
+ * <p>
+ * The host permit is taken first, so callers queued for a saturated host don't hold permits of
+ * the total limit and don't block calls to other hosts. A caller waits for permits no longer than
+ * the call timeout, or the read timeout if there is no call timeout, and then fails with
+ * {@link InterruptedIOException} like a timed out call.
+ */
+class RequestLimitInterceptor implements Interceptor {
+
+  private final Semaphore requests;
+  private final int maxRequestsPerHost;
+  private final Map<String, Semaphore> requestsPerHost = new ConcurrentHashMap<>();
+
+  RequestLimitInterceptor(int maxRequests, int maxRequestsPerHost) {
+    this.requests = new Semaphore(maxRequests);
+    this.maxRequestsPerHost = maxRequestsPerHost;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    var hostRequests = requestsPerHost.computeIfAbsent(chain.request().url().host(),
+        host -> new Semaphore(maxRequestsPerHost));
+    var deadline = System.nanoTime() + maxWaitNanos(chain);
+    acquire(hostRequests, deadline);
+    try {
+      acquire(requests, deadline);
+    } catch (IOException e) {
+      hostRequests.release();
+      throw e;
+    }
+    var permits = new Permits(hostRequests);
+    try {
+      var response = chain.proceed(chain.request());
+      if (Objects.isNull(response.body())) {
+        permits.release();
+        return response;
+      }
+      return response.newBuilder()
+          .body(new PermitReleasingBody(response.body(), permits))
+          .build();
+    } catch (IOException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  int availableRequests() {
+    return requests.availablePermits();
+  }
+
+  /**
+   * Wait for a permit as long as the call may take, so a caller doesn't wait forever for a slow
+   * host
+   */
+  private static long maxWaitNanos(Chain chain) {
+    var callTimeout = chain.call().timeout().timeoutNanos();
+    if (callTimeout > 0) {
+      return callTimeout;
+    }
+    var readTimeout = TimeUnit.MILLISECONDS.toNanos(chain.readTimeoutMillis());
+    return readTimeout > 0 ? readTimeout : Long.MAX_VALUE / 2;
+  }
+
+  private static void acquire(Semaphore semaphore, long deadline) throws IOException {
+    try {
+      if (!semaphore.tryAcquire(Math.max(deadline - System.nanoTime(), 0),
+          TimeUnit.NANOSECONDS)) {
+        throw new InterruptedIOException("Timed out waiting for request permit");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for request permit");
+    }
+  }
+
+  private class Permits {
+
+    private final Semaphore hostRequests;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permits(Semaphore hostRequests) {
+      this.hostRequests = hostRequests;
+    }
+
+    private void release() {
+      if (released.compareAndSet(false, true)) {
+        hostRequests.release();
+        requests.release();
+      }
+    }
+  }
+
+  private static class PermitReleasingBody extends ResponseBody {
+
+    private final ResponseBody delegate;
+    private final BufferedSource source;
+
+    private PermitReleasingBody(ResponseBody delegate, Permits permits) {
+      this.delegate = delegate;
+      this.source = Okio.buffer(new PermitReleasingSource(delegate.source(), permits));
+    }
+
+    @Override
+    public MediaType contentType() {
+      return delegate.contentType();
+    }
+
+    @Override
+    public long contentLength() {
+      return delegate.contentLength();
+    }
+
+    @Override
+    public BufferedSource source() {
+      return source;
+    }
+  }
+
+  private static class PermitReleasingSource extends ForwardingSource {
+
+    private final Permits permits;
+
+    private PermitReleasingSource(Source delegate, Permits permits) {
+      super(delegate);
+      this.permits = permits;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        permits.release();
+      }
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import com.epam.digital.data.platform.datafactory.feign.cache.CacheKeys;
+import com.epam.digital.data.platform.datafactory.feign.model.request.RequestBodySource;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents http client of feign clients that writes bodies of requests created by
+ * {@link StreamingRequestExecutor} directly to the connection. Bodies of unknown length are sent
+ * with chunked transfer encoding. Other requests are sent with feign
+ * {@link feign.okhttp.OkHttpClient}.
+ */
+class StreamingOkHttpClient implements Client {
+
+  private static final MediaType JSON = MediaType.get("application/json");
+
+  private final OkHttpClient httpClient;
+  private final Client delegate;
+
+  StreamingOkHttpClient(OkHttpClient httpClient) {
+    this.httpClient = httpClient;
+    this.delegate = new feign.okhttp.OkHttpClient(httpClient);
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    if (!(request.requestTemplate() instanceof StreamingRequestTemplate)) {
+      return delegate.execute(request, options);
+    }
+    var body = ((StreamingRequestTemplate) request.requestTemplate()).getBodySource();
+    var headers = new Headers.Builder();
+    request.headers().forEach((name, values) -> {
+      if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+        values.forEach(value -> headers.add(name, value));
+      }
+    });
+    var httpRequest = new okhttp3.Request.Builder()
+        .url(request.url())
+        .headers(headers.build())
+        .method(request.httpMethod().name(),
+            new StreamingRequestBody(body, contentType(request.headers())))
+        .build();
+    return toFeignResponse(httpClient(options).newCall(httpRequest).execute(), request);
+  }
+
+  private OkHttpClient httpClient(Request.Options options) {
+    if (httpClient.connectTimeoutMillis() == options.connectTimeoutMillis()
+        && httpClient.readTimeoutMillis() == options.readTimeoutMillis()
+        && httpClient.followRedirects() == options.isFollowRedirects()) {
+      return httpClient;
+    }
+    return httpClient.newBuilder()
+        .connectTimeout(options.connectTimeoutMillis(), TimeUnit.MILLISECONDS)
+        .readTimeout(options.readTimeoutMillis(), TimeUnit.MILLISECONDS)
+        .followRedirects(options.isFollowRedirects())
+        .build();
+  }
+
+  private static Response toFeignResponse(okhttp3.Response response, Request request) {
+    Map<String, Collection<String>> headers = new LinkedHashMap<>();
+    response.headers().toMultimap().forEach(headers::put);
+    var body = response.body();
+    var length = Objects.isNull(body) ? -1 : body.contentLength();
+    return Response.builder()
+        .status(response.code())
+        .reason(response.message())
+        .headers(headers)
+        .request(request)
+        .body(Objects.isNull(body) ? null : body.byteStream(),
+            length < 0 || length > Integer.MAX_VALUE ? null : (int) length)
+        .build();
+  }
+
+  private static MediaType contentType(Map<String, Collection<String>> headers) {
+    var contentType = CacheKeys.header(headers, HttpHeaders.CONTENT_TYPE);
+    return Objects.isNull(contentType) ? JSON : MediaType.parse(contentType);
+  }
+
+  private static class StreamingRequestBody extends RequestBody {
+
+    private final RequestBodySource source;
+    private final MediaType contentType;
+
+    private StreamingRequestBody(RequestBodySource source, MediaType contentType) {
+      this.source = source;
+      this.contentType = contentType;
+    }
+
+    @Override
+    public MediaType contentType() {
+      return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+      return source.contentLength();
+    }
+
+    @Override
+    public boolean isOneShot() {
+      return source.isOneShot();
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+      var out = new FilterOutputStream(sink.outputStream()) {
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+          flush();
+        }
+      };
+      source.writeTo(out);
+      out.flush();
+    }
+  }
+}
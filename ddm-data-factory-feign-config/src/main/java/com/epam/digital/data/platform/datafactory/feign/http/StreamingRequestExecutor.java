@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import com.epam.digital.data.platform.datafactory.feign.model.request.RequestBodySource;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents executor of write requests with bodies that are streamed to the connection
+ * of the shared http client. Bodies of unknown length are sent with chunked transfer encoding.
+ * Responses are decoded with the same decoders as responses of feign clients.
+ * <p>
+ * Requests are sent through the http client of the feign client with its decorators, e.g. entity
+ * cache invalidation, circuit breaker and metrics, and carry metadata of the feign client method
+ * they correspond to. Request interceptors of the feign client are applied to request headers.
+ * Requests aren't retried.
+ */
+public class StreamingRequestExecutor {
+
+  private final Client client;
+  private final HttpUrl baseUrl;
+  private final Request.Options options;
+  private final Decoder decoder;
+  private final ErrorDecoder errorDecoder;
+  private final List<RequestInterceptor> requestInterceptors;
+  private final Map<String, MethodMetadata> methodMetadata;
+
+  /**
+   * @param httpClient   http client of the feign client
+   * @param baseUrl      base url of the feign client
+   * @param decoder      response decoder of the feign client
+   * @param errorDecoder error decoder of the feign client
+   */
+  public StreamingRequestExecutor(OkHttpClient httpClient, String baseUrl, Decoder decoder,
+      ErrorDecoder errorDecoder) {
+    this(httpClient, baseUrl, decoder, errorDecoder, List.of());
+  }
+
+  /**
+   * @param httpClient          http client of the feign client
+   * @param baseUrl             base url of the feign client
+   * @param decoder             response decoder of the feign client
+   * @param errorDecoder        error decoder of the feign client
+   * @param requestInterceptors request interceptors of the feign client in the order of applying
+   */
+  public StreamingRequestExecutor(OkHttpClient httpClient, String baseUrl, Decoder decoder,
+      ErrorDecoder errorDecoder, List<RequestInterceptor> requestInterceptors) {
+    this(streamingClient(httpClient), baseUrl, options(httpClient), decoder, errorDecoder,
+        requestInterceptors, Map.of());
+  }
+
+  /**
+   * @param client              http client of the feign client with its decorators, created with
+   *                            {@link #streamingClient(OkHttpClient)}
+   * @param baseUrl             base url of the feign client
+   * @param options             request options of the feign client
+   * @param decoder             response decoder of the feign client
+   * @param errorDecoder        error decoder of the feign client
+   * @param requestInterceptors request interceptors of the feign client in the order of applying
+   * @param methodMetadata      metadata of the feign client methods by their config keys
+   */
+  public StreamingRequestExecutor(Client client, String baseUrl, Request.Options options,
+      Decoder decoder, ErrorDecoder errorDecoder, List<RequestInterceptor> requestInterceptors,
+      Map<String, MethodMetadata> methodMetadata) {
+    this.client = client;
+    this.baseUrl = HttpUrl.get(baseUrl);
+    this.options = options;
+    this.decoder = decoder;
+    this.errorDecoder = errorDecoder;
+    this.requestInterceptors = requestInterceptors;
+    this.methodMetadata = methodMetadata;
+  }
+
+  /**
+   * Create http client that sends requests of streaming executors, other requests are sent like
+   * with feign {@link feign.okhttp.OkHttpClient}. Feign client decorators are applied on top of it.
+   *
+   * @param httpClient http client of the feign client
+   * @return http client
+   */
+  public static Client streamingClient(OkHttpClient httpClient) {
+    return new StreamingOkHttpClient(httpClient);
+  }
+
+  /**
+   * Send request with streamed body
+   *
+   * @param method    http method
+   * @param path      path relative to the base url, each element is one or more segments that
+   *                  are encoded, {@code /} separates segments like in feign client paths
+   * @param body      request body source
+   * @param headers   http headers
+   * @param methodKey config key of the feign client method, which metadata the request carries and
+   *                  which is passed to the error decoder
+   * @return decoded response
+   * @throws IOException if the request can't be sent or the response can't be read
+   */
+  public ConnectorResponse execute(Request.HttpMethod method, String[] path,
+      RequestBodySource body, HttpHeaders headers, String methodKey) throws IOException {
+    var url = baseUrl.newBuilder();
+    for (var segments : path) {
+      url.addPathSegments(segments);
+    }
+    var template = new StreamingRequestTemplate(body);
+    template.method(method);
+    var metadata = methodMetadata.get(methodKey);
+    if (Objects.nonNull(metadata)) {
+      template.methodMetadata(metadata);
+    }
+    if (Objects.nonNull(headers)) {
+      headers.forEach((name, values) -> template.header(name, values));
+    }
+    requestInterceptors.forEach(interceptor -> interceptor.apply(template));
+    var request = Request.create(method, url.build().toString(), template.headers(), null, null,
+        template);
+    try (var response = client.execute(request, options)) {
+      if (response.status() >= 200 && response.status() < 300) {
+        return (ConnectorResponse) decoder.decode(response, ConnectorResponse.class);
+      }
+      var exception = errorDecoder.decode(methodKey, response);
+      if (exception instanceof RuntimeException) {
+        throw (RuntimeException) exception;
+      }
+      throw new IOException(exception);
+    }
+  }
+
+  private static Request.Options options(OkHttpClient httpClient) {
+    return new Request.Options(httpClient.connectTimeoutMillis(), TimeUnit.MILLISECONDS,
+        httpClient.readTimeoutMillis(), TimeUnit.MILLISECONDS, httpClient.followRedirects());
+  }
+}
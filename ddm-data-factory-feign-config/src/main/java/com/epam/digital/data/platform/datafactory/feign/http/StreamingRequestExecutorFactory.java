@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import feign.Capability;
+import feign.Contract;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.cloud.openfeign.FeignContext;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.util.StringUtils;
+
+/**
+ * The class represents a factory of {@link StreamingRequestExecutor} that share http clients,
+ * client decorators, response decoders, request interceptors and options with feign clients.
+ * Components of a feign client are taken from its context in {@link FeignContext}, the ones passed
+ * to the factory are used if there's no feign context.
+ */
+public class StreamingRequestExecutorFactory {
+
+  private final DataFactoryHttpClientProvider httpClientProvider;
+  private final Decoder decoder;
+  private final ErrorDecoder errorDecoder;
+  private final List<FeignClientDecorator> clientDecorators;
+  private final FeignContext feignContext;
+
+  public StreamingRequestExecutorFactory(DataFactoryHttpClientProvider httpClientProvider,
+      Decoder decoder, ErrorDecoder errorDecoder) {
+    this(httpClientProvider, decoder, errorDecoder, List.of(), null);
+  }
+
+  /**
+   * @param httpClientProvider provider of http clients of feign clients
+   * @param decoder            response decoder used if feign client has no decoder
+   * @param errorDecoder       error decoder used if feign client has no error decoder
+   * @param clientDecorators   http client decorators used if there's no feign context
+   * @param feignContext       context of feign clients, may be {@code null}
+   */
+  public StreamingRequestExecutorFactory(DataFactoryHttpClientProvider httpClientProvider,
+      Decoder decoder, ErrorDecoder errorDecoder, List<FeignClientDecorator> clientDecorators,
+      FeignContext feignContext) {
+    this.httpClientProvider = httpClientProvider;
+    this.decoder = decoder;
+    this.errorDecoder = errorDecoder;
+    this.clientDecorators = clientDecorators;
+    this.feignContext = feignContext;
+  }
+
+  /**
+   * Create executor of requests to the first url of comma separated url list, like the url of the
+   * feign client
+   *
+   * @param clientName      name of the feign client which http client and components are used
+   * @param urls            comma separated url list
+   * @param feignClientType interface of the feign client which method metadata requests carry
+   * @return streaming request executor
+   */
+  public StreamingRequestExecutor create(String clientName, String urls,
+      Class<?> feignClientType) {
+    var url = Arrays.stream(StringUtils.commaDelimitedListToStringArray(urls))
+        .map(String::trim)
+        .filter(StringUtils::hasText)
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("No url configured for " + clientName));
+    var client = StreamingRequestExecutor.streamingClient(
+        httpClientProvider.getHttpClient(clientName));
+    for (var decorator : instances(clientName, FeignClientDecorator.class, clientDecorators)) {
+      client = decorator.decorate(clientName, client);
+    }
+    var clientDecoder = Objects.requireNonNullElse(instance(clientName, Decoder.class), decoder);
+    var clientErrorDecoder = Objects.requireNonNullElse(instance(clientName, ErrorDecoder.class),
+        errorDecoder);
+    for (var capability : instances(clientName, Capability.class, List.of())) {
+      client = capability.enrich(client);
+      clientDecoder = capability.enrich(clientDecoder);
+      clientErrorDecoder = capability.enrich(clientErrorDecoder);
+    }
+    var options = Objects.requireNonNullElseGet(instance(clientName, Request.Options.class),
+        this::defaultOptions);
+    var contract = Objects.requireNonNullElseGet(instance(clientName, Contract.class),
+        SpringMvcContract::new);
+    Map<String, MethodMetadata> methodMetadata = contract.parseAndValidateMetadata(
+        feignClientType).stream()
+        .collect(Collectors.toMap(MethodMetadata::configKey, Function.identity()));
+    return new StreamingRequestExecutor(client, url, options, clientDecoder, clientErrorDecoder,
+        instances(clientName, RequestInterceptor.class, List.of()), methodMetadata);
+  }
+
+  private <T> T instance(String clientName, Class<T> type) {
+    return Objects.isNull(feignContext) ? null : feignContext.getInstance(clientName, type);
+  }
+
+  /**
+   * Get components of feign client ordered like feign client does
+   */
+  private <T> List<T> instances(String clientName, Class<T> type, List<T> defaultInstances) {
+    if (Objects.isNull(feignContext)) {
+      return defaultInstances;
+    }
+    var instances = feignContext.getInstances(clientName, type);
+    if (Objects.isNull(instances)) {
+      return List.of();
+    }
+    var ordered = new ArrayList<>(instances.values());
+    AnnotationAwareOrderComparator.sort(ordered);
+    return ordered;
+  }
+
+  private Request.Options defaultOptions() {
+    var properties = httpClientProvider.getProperties();
+    return new Request.Options(properties.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+        properties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS, true);
+  }
+}
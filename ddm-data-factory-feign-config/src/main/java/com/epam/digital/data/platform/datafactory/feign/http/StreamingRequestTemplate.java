@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import com.epam.digital.data.platform.datafactory.feign.model.request.RequestBodySource;
+import feign.RequestTemplate;
+import lombok.Getter;
+
+/**
+ * The class represents request template of a request sent by {@link StreamingRequestExecutor}.
+ * Feign client decorators keep the request template when they recreate a request, so the body
+ * source reaches {@link StreamingOkHttpClient} that writes it to the connection.
+ */
+@Getter
+class StreamingRequestTemplate extends RequestTemplate {
+
+  private final transient RequestBodySource bodySource;
+
+  StreamingRequestTemplate(RequestBodySource bodySource) {
+    this.bodySource = bodySource;
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The class represents an endpoint of a feign client with its outstanding requests and peak EWMA
+ * latency. A latency above the average replaces it at once, a lower one is mixed in with a weight
+ * that decays with time since the previous sample. A failed endpoint is cooling down for a while
+ * and isn't chosen while there are other endpoints.
+ */
+class Endpoint {
+
+  private final String url;
+  private final long decayNanos;
+  private final AtomicInteger outstanding = new AtomicInteger();
+
+  private double ewma;
+  private long sampledAt;
+  private boolean sampled;
+  private long coolingUntil;
+  private boolean cooling;
+
+  Endpoint(String url, long decayNanos) {
+    this.url = url;
+    this.decayNanos = decayNanos;
+  }
+
+  String getUrl() {
+    return url;
+  }
+
+  int getOutstanding() {
+    return outstanding.get();
+  }
+
+  synchronized double getEwma() {
+    return ewma;
+  }
+
+  synchronized boolean isAvailable(long now) {
+    return !cooling || now - coolingUntil >= 0;
+  }
+
+  synchronized double score(LoadBalancerStrategy strategy) {
+    var load = outstanding.get() + 1;
+    return strategy == LoadBalancerStrategy.LEAST_OUTSTANDING ? load : ewma * load;
+  }
+
+  void onStart() {
+    outstanding.incrementAndGet();
+  }
+
+  /**
+   * Record a completed request
+   *
+   * @param rtt           latency in nanos
+   * @param now           current {@link System#nanoTime()}
+   * @param failed        whether the request has failed
+   * @param cooldownNanos time the endpoint isn't chosen after a failure
+   */
+  synchronized void onComplete(long rtt, long now, boolean failed, long cooldownNanos) {
+    outstanding.decrementAndGet();
+    if (failed) {
+      cooling = true;
+      coolingUntil = now + cooldownNanos;
+      return;
+    }
+    cooling = false;
+    if (rtt > ewma || !sampled) {
+      ewma = rtt;
+    } else {
+      var weight = Math.exp(-(double) (now - sampledAt) / decayNanos);
+      ewma = ewma * weight + rtt * (1 - weight);
+    }
+    sampledAt = now;
+    sampled = true;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.loadbalancer;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryLoadBalancerProperties;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignClientDecorator;
+import feign.Client;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * The class represents decorator that balances requests of feign clients that have several
+ * endpoints. Endpoints of a client are configured as a comma separated list in the url property of
+ * the client, the feign client itself targets the first of them.
+ */
+public class LoadBalancerClientDecorator implements FeignClientDecorator {
+
+  static final String METRIC_REQUESTS = "datafactory.client.endpoint.requests";
+  static final String METRIC_EWMA = "datafactory.client.endpoint.latency.ewma";
+  static final String METRIC_OUTSTANDING = "datafactory.client.endpoint.outstanding";
+
+  private final DataFactoryLoadBalancerProperties properties;
+  private final Map<String, List<String>> urls;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, List<Endpoint>> endpoints = new ConcurrentHashMap<>();
+
+  /**
+   * @param properties    load balancer properties
+   * @param urls          endpoint urls by feign client name
+   * @param meterRegistry registry of endpoint metrics
+   */
+  public LoadBalancerClientDecorator(DataFactoryLoadBalancerProperties properties,
+      Map<String, List<String>> urls, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.urls = urls;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Client decorate(String clientName, Client client) {
+    var clientUrls = urls.get(clientName);
+    if (Objects.isNull(clientUrls) || clientUrls.size() < 2) {
+      return client;
+    }
+    var clientEndpoints = endpoints.computeIfAbsent(clientName,
+        name -> create(name, clientUrls));
+    return new LoadBalancingClient(client, clientEndpoints, properties.getStrategy(),
+        properties.getCooldown().toNanos(), properties.getFailureStatuses(),
+        (endpoint, failed) -> Timer.builder(METRIC_REQUESTS)
+            .tag("client", clientName)
+            .tag("endpoint", endpoint.getUrl())
+            .tag("outcome", failed ? "failure" : "success")
+            .register(meterRegistry));
+  }
+
+  @Override
+  public int getOrder() {
+    return LOAD_BALANCER_ORDER;
+  }
+
+  private List<Endpoint> create(String clientName, List<String> clientUrls) {
+    var decayNanos = properties.getDecay().toNanos();
+    var created = clientUrls.stream()
+        .map(url -> new Endpoint(url, decayNanos))
+        .collect(Collectors.toUnmodifiableList());
+    created.forEach(endpoint -> {
+      Gauge.builder(METRIC_EWMA, endpoint, value -> value.getEwma() / 1e6)
+          .baseUnit("milliseconds")
+          .tag("client", clientName)
+          .tag("endpoint", endpoint.getUrl())
+          .strongReference(true)
+          .register(meterRegistry);
+      Gauge.builder(METRIC_OUTSTANDING, endpoint, Endpoint::getOutstanding)
+          .tag("client", clientName)
+          .tag("endpoint", endpoint.getUrl())
+          .strongReference(true)
+          .register(meterRegistry);
+    });
+    return created;
+  }
+}
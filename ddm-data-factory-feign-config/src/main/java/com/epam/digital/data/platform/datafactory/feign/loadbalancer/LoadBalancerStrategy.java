@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.loadbalancer;
+
+/**
+ * Enumeration of strategies of choosing an endpoint of a feign client. Both strategies compare two
+ * random endpoints that aren't cooling down after a failure.
+ */
+public enum LoadBalancerStrategy {
+
+  /**
+   * The endpoint with the lowest peak EWMA latency weighted by outstanding requests is chosen
+   */
+  PEAK_EWMA,
+  /**
+   * The endpoint with the least outstanding requests is chosen
+   */
+  LEAST_OUTSTANDING
+}
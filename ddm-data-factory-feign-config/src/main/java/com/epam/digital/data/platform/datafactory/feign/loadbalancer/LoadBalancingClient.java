@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.loadbalancer;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * The class represents http client that sends each request to one of the endpoints of a feign
+ * client. The feign client targets the first endpoint, so the url prefix of the first endpoint is
+ * replaced with the url of the chosen one. Two random endpoints are compared by the strategy and
+ * endpoints cooling down after a failure are skipped while there are other endpoints.
+ */
+class LoadBalancingClient implements Client {
+
+  private final Client delegate;
+  private final List<Endpoint> endpoints;
+  private final LoadBalancerStrategy strategy;
+  private final long cooldownNanos;
+  private final Set<Integer> failureStatuses;
+  private final BiFunction<Endpoint, Boolean, Timer> timers;
+
+  LoadBalancingClient(Client delegate, List<Endpoint> endpoints, LoadBalancerStrategy strategy,
+      long cooldownNanos, Set<Integer> failureStatuses,
+      BiFunction<Endpoint, Boolean, Timer> timers) {
+    this.delegate = delegate;
+    this.endpoints = endpoints;
+    this.strategy = strategy;
+    this.cooldownNanos = cooldownNanos;
+    this.failureStatuses = failureStatuses;
+    this.timers = timers;
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    var base = endpoints.get(0).getUrl();
+    if (!request.url().startsWith(base)) {
+      return delegate.execute(request, options);
+    }
+    var endpoint = choose(System.nanoTime());
+    var balanced = endpoint == endpoints.get(0) ? request : Request.create(request.httpMethod(),
+        endpoint.getUrl() + request.url().substring(base.length()), request.headers(),
+        request.body(), request.charset(), request.requestTemplate());
+    endpoint.onStart();
+    var start = System.nanoTime();
+    var failed = true;
+    try {
+      var response = delegate.execute(balanced, options);
+      failed = failureStatuses.contains(response.status());
+      return response;
+    } finally {
+      var end = System.nanoTime();
+      endpoint.onComplete(end - start, end, failed, cooldownNanos);
+      timers.apply(endpoint, failed).record(end - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  Endpoint choose(long now) {
+    var random = ThreadLocalRandom.current();
+    var first = pick(random, now, null);
+    var second = pick(random, now, first);
+    return Objects.nonNull(second) && second.score(strategy) < first.score(strategy) ? second
+        : first;
+  }
+
+  private Endpoint pick(ThreadLocalRandom random, long now, Endpoint excluded) {
+    var size = endpoints.size();
+    var offset = random.nextInt(size);
+    for (int i = 0; i < size; i++) {
+      var endpoint = endpoints.get((offset + i) % size);
+      if (endpoint != excluded && endpoint.isAvailable(now)) {
+        return endpoint;
+      }
+    }
+    return Objects.isNull(excluded) ? endpoints.get(offset) : null;
+  }
+}
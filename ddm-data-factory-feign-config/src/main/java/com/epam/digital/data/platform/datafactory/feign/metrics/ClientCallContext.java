@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.metrics;
+
+import java.util.Objects;
+
+/**
+ * The class represents state of feign call that is collected by decoders on the calling thread and
+ * used to tag call metrics.
+ */
+final class ClientCallContext {
+
+  private static final ThreadLocal<ClientCallContext> CURRENT = new ThreadLocal<>();
+
+  private final ClientCallContext previous;
+  private Integer status;
+  private String errorCode;
+
+  private ClientCallContext(ClientCallContext previous) {
+    this.previous = previous;
+  }
+
+  static ClientCallContext open() {
+    var context = new ClientCallContext(CURRENT.get());
+    CURRENT.set(context);
+    return context;
+  }
+
+  static void record(int status, String errorCode) {
+    var context = CURRENT.get();
+    if (Objects.nonNull(context)) {
+      context.status = status;
+      context.errorCode = errorCode;
+    }
+  }
+
+  void close() {
+    if (Objects.isNull(previous)) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+
+  Integer getStatus() {
+    return status;
+  }
+
+  String getErrorCode() {
+    return errorCode;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.metrics;
+
+import com.epam.digital.data.platform.datafactory.feign.enums.DataFactoryError;
+import io.micrometer.core.instrument.Tag;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * The class represents a utility that builds tag values of feign client metrics and attributes of
+ * feign client spans.
+ */
+public final class ClientMetricsTags {
+
+  public static final String NONE = "none";
+
+  private static final ClassValue<Method> CODE_GETTERS = new ClassValue<>() {
+    @Override
+    protected Method computeValue(Class<?> type) {
+      try {
+        var getter = type.getMethod("getCode");
+        return String.class.equals(getter.getReturnType()) ? getter : null;
+      } catch (NoSuchMethodException e) {
+        return null;
+      }
+    }
+  };
+
+  /**
+   * Get path template of feign client method, e.g. /{resource}/{id}
+   */
+  public static String uri(Method method) {
+    var requestMapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+    if (Objects.isNull(requestMapping)) {
+      return NONE;
+    }
+    var paths = requestMapping.path().length > 0 ? requestMapping.path() : requestMapping.value();
+    return paths.length > 0 ? paths[0] : "/";
+  }
+
+  /**
+   * Get {@link DataFactoryError} name of exception code
+   *
+   * @param exception decoded exception
+   * @return error name, {@link DataFactoryError#RUNTIME_ERROR} for unknown codes or none if
+   * exception has no code
+   */
+  public static String error(Throwable exception) {
+    var getter = CODE_GETTERS.get(exception.getClass());
+    if (Objects.isNull(getter)) {
+      return NONE;
+    }
+    try {
+      var code = (String) getter.invoke(exception);
+      return Objects.isNull(code) ? NONE
+          : DataFactoryError.fromNameOrDefaultRuntimeError(code).name();
+    } catch (ReflectiveOperationException e) {
+      return NONE;
+    }
+  }
+
+  static Tag status(Integer status) {
+    return Tag.of("status", Objects.isNull(status) ? NONE : String.valueOf(status));
+  }
+
+  private ClientMetricsTags() {
+  }
+}
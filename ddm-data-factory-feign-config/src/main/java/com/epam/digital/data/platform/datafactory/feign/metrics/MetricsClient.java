@@ -0,0 +1,162 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.metrics;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * The class represents http client that records network time of requests, till response headers
+ * are received, and sizes of request and response bodies. Sizes of responses without
+ * Content-Length are recorded when the body is read or closed.
+ */
+class MetricsClient implements Client {
+
+  static final String METRIC_HTTP_REQUESTS = "datafactory.client.http.requests";
+  static final String METRIC_REQUEST_SIZE = "datafactory.client.request.size";
+  static final String METRIC_RESPONSE_SIZE = "datafactory.client.response.size";
+
+  private final String clientName;
+  private final Client delegate;
+  private final MeterRegistry meterRegistry;
+
+  MetricsClient(String clientName, Client delegate, MeterRegistry meterRegistry) {
+    this.clientName = clientName;
+    this.delegate = delegate;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    var tags = Tags.of("client", clientName, "method", methodKey(request));
+    if (Objects.nonNull(request.body())) {
+      summary(METRIC_REQUEST_SIZE, tags).record(request.body().length);
+    }
+    var start = meterRegistry.config().clock().monotonicTime();
+    Response response;
+    try {
+      response = delegate.execute(request, options);
+    } catch (IOException | RuntimeException e) {
+      record(start, tags.and(ClientMetricsTags.status(null))
+          .and("exception", e.getClass().getSimpleName()));
+      throw e;
+    }
+    var responseTags = tags.and(ClientMetricsTags.status(response.status()));
+    record(start, responseTags.and("exception", ClientMetricsTags.NONE));
+
+    var body = response.body();
+    if (Objects.isNull(body)) {
+      return response;
+    }
+    var responseSize = summary(METRIC_RESPONSE_SIZE, responseTags);
+    if (Objects.nonNull(body.length())) {
+      responseSize.record(body.length());
+      return response;
+    }
+    return response.toBuilder()
+        .body(new CountingInputStream(body.asInputStream(), responseSize::record), null)
+        .build();
+  }
+
+  private void record(long start, Iterable<Tag> tags) {
+    Timer.builder(METRIC_HTTP_REQUESTS)
+        .tags(tags)
+        .register(meterRegistry)
+        .record(meterRegistry.config().clock().monotonicTime() - start, TimeUnit.NANOSECONDS);
+  }
+
+  private DistributionSummary summary(String name, Iterable<Tag> tags) {
+    return DistributionSummary.builder(name)
+        .baseUnit("bytes")
+        .tags(tags)
+        .register(meterRegistry);
+  }
+
+  private static String methodKey(Request request) {
+    if (Objects.isNull(request.requestTemplate())
+        || Objects.isNull(request.requestTemplate().methodMetadata())) {
+      return ClientMetricsTags.NONE;
+    }
+    return request.requestTemplate().methodMetadata().configKey();
+  }
+
+  private static class CountingInputStream extends FilterInputStream {
+
+    private final LongConsumer onComplete;
+    private long count;
+    private boolean completed;
+
+    private CountingInputStream(InputStream in, LongConsumer onComplete) {
+      super(in);
+      this.onComplete = onComplete;
+    }
+
+    @Override
+    public int read() throws IOException {
+      var value = super.read();
+      if (value < 0) {
+        complete();
+      } else {
+        count++;
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      var read = super.read(b, off, len);
+      if (read < 0) {
+        complete();
+      } else {
+        count += read;
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      var skipped = super.skip(n);
+      count += skipped;
+      return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+      complete();
+      super.close();
+    }
+
+    private void complete() {
+      if (!completed) {
+        completed = true;
+        onComplete.accept(count);
+      }
+    }
+  }
+}
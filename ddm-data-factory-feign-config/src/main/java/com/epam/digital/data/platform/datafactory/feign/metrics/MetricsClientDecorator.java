@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.metrics;
+
+import com.epam.digital.data.platform.datafactory.feign.http.FeignClientDecorator;
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents decorator that records network metrics of http clients of feign clients.
+ */
+@RequiredArgsConstructor
+public class MetricsClientDecorator implements FeignClientDecorator {
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  public Client decorate(String clientName, Client client) {
+    return new MetricsClient(clientName, client, meterRegistry);
+  }
+
+  @Override
+  public int getOrder() {
+    return METRICS_ORDER;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.metrics;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import com.epam.digital.data.platform.datafactory.feign.model.response.TypedConnectorResponse;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The class represents method handler that records latency of feign client calls including
+ * decoding, tagged by response status and data factory error of the call.
+ */
+class MetricsMethodHandler implements MethodHandler {
+
+  static final String METRIC_REQUESTS = "datafactory.client.requests";
+
+  private final MethodHandler delegate;
+  private final MeterRegistry meterRegistry;
+  private final Tags tags;
+  private final int resourceArgIndex;
+  private final boolean percentileHistogram;
+  private final AtomicInteger inFlightCalls;
+
+  MetricsMethodHandler(MethodHandler delegate, MeterRegistry meterRegistry, Tags tags,
+      int resourceArgIndex, boolean percentileHistogram, AtomicInteger inFlightCalls) {
+    this.delegate = delegate;
+    this.meterRegistry = meterRegistry;
+    this.tags = tags;
+    this.resourceArgIndex = resourceArgIndex;
+    this.percentileHistogram = percentileHistogram;
+    this.inFlightCalls = inFlightCalls;
+  }
+
+  @Override
+  public Object invoke(Object[] argv) throws Throwable {
+    inFlightCalls.incrementAndGet();
+    var context = ClientCallContext.open();
+    var start = meterRegistry.config().clock().monotonicTime();
+    Object result = null;
+    Throwable failure = null;
+    try {
+      result = delegate.invoke(argv);
+      return result;
+    } catch (Throwable e) {
+      failure = e;
+      throw e;
+    } finally {
+      context.close();
+      inFlightCalls.decrementAndGet();
+      var duration = meterRegistry.config().clock().monotonicTime() - start;
+      timer(argv, context, result, failure).record(duration, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private Timer timer(Object[] argv, ClientCallContext context, Object result,
+      Throwable failure) {
+    var status = context.getStatus();
+    if (Objects.isNull(status) && result instanceof ConnectorResponse) {
+      status = ((ConnectorResponse) result).getStatusCode();
+    } else if (Objects.isNull(status) && result instanceof TypedConnectorResponse) {
+      status = ((TypedConnectorResponse<?>) result).getStatusCode();
+    } else if (Objects.isNull(status) && result instanceof Response) {
+      status = ((Response) result).status();
+    }
+    var error = context.getErrorCode();
+    if (Objects.isNull(error)) {
+      error = Objects.isNull(failure) ? ClientMetricsTags.NONE : ClientMetricsTags.error(failure);
+    }
+    var resource = resourceArgIndex < 0 || Objects.isNull(argv[resourceArgIndex])
+        ? ClientMetricsTags.NONE : argv[resourceArgIndex].toString();
+    return Timer.builder(METRIC_REQUESTS)
+        .tags(tags)
+        .tag("resource", resource)
+        .tags(Tags.of(ClientMetricsTags.status(status)))
+        .tag("error", error)
+        .tag("exception",
+            Objects.isNull(failure) ? ClientMetricsTags.NONE : failure.getClass().getSimpleName())
+        .publishPercentileHistogram(percentileHistogram)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.metrics;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryClientMetricsProperties;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignDecoderDecorator;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignMethodHandlerDecorator;
+import feign.Feign;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.web.bind.annotation.PathVariable;
+
+/**
+ * The class represents decorator that records latency of feign client calls, calls in flight and
+ * time spent in response and error decoders.
+ */
+public class MetricsMethodHandlerDecorator implements FeignMethodHandlerDecorator,
+    FeignDecoderDecorator {
+
+  private static final String METRIC_ACTIVE_REQUESTS = "datafactory.client.requests.active";
+  private static final String RESOURCE_PATH_VARIABLE = "resource";
+
+  private final DataFactoryClientMetricsProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, AtomicInteger> inFlightCalls = new ConcurrentHashMap<>();
+
+  public MetricsMethodHandlerDecorator(DataFactoryClientMetricsProperties properties,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public MethodHandler decorate(String clientName, Method method, MethodHandler handler) {
+    var tags = Tags.of("client", clientName,
+        "method", Feign.configKey(method.getDeclaringClass(), method),
+        "uri", ClientMetricsTags.uri(method));
+    return new MetricsMethodHandler(handler, meterRegistry, tags,
+        properties.isResourceTag() ? resourceArgIndex(method) : -1,
+        properties.isPercentileHistogram(), inFlightCalls(clientName));
+  }
+
+  @Override
+  public Decoder decorate(String clientName, Decoder decoder) {
+    return TimedDecoders.decoder(clientName, decoder, meterRegistry);
+  }
+
+  @Override
+  public ErrorDecoder decorate(String clientName, ErrorDecoder errorDecoder) {
+    return TimedDecoders.errorDecoder(clientName, errorDecoder, meterRegistry);
+  }
+
+  @Override
+  public int getOrder() {
+    return METRICS_ORDER;
+  }
+
+  private AtomicInteger inFlightCalls(String clientName) {
+    return inFlightCalls.computeIfAbsent(clientName, name -> {
+      var counter = new AtomicInteger();
+      Gauge.builder(METRIC_ACTIVE_REQUESTS, counter, AtomicInteger::get)
+          .tag("client", name)
+          .register(meterRegistry);
+      return counter;
+    });
+  }
+
+  private static int resourceArgIndex(Method method) {
+    var parameters = method.getParameters();
+    for (var i = 0; i < parameters.length; i++) {
+      var pathVariable = parameters[i].getAnnotation(PathVariable.class);
+      if (pathVariable != null && (RESOURCE_PATH_VARIABLE.equals(pathVariable.value())
+          || RESOURCE_PATH_VARIABLE.equals(pathVariable.name()))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
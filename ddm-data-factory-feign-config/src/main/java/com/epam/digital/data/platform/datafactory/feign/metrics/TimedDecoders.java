@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.metrics;
+
+import feign.Response;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class represents response and error decoders that record time spent in decoding separately
+ * from network time and pass response status to call metrics.
+ */
+final class TimedDecoders {
+
+  static final String METRIC_DECODE = "datafactory.client.decode";
+
+  static Decoder decoder(String clientName, Decoder delegate, MeterRegistry meterRegistry) {
+    return (response, type) -> {
+      var start = meterRegistry.config().clock().monotonicTime();
+      try {
+        return delegate.decode(response, type);
+      } finally {
+        ClientCallContext.record(response.status(), null);
+        timer(meterRegistry, clientName, response, "response", ClientMetricsTags.NONE)
+            .record(meterRegistry.config().clock().monotonicTime() - start, TimeUnit.NANOSECONDS);
+      }
+    };
+  }
+
+  static ErrorDecoder errorDecoder(String clientName, ErrorDecoder delegate,
+      MeterRegistry meterRegistry) {
+    return (methodKey, response) -> {
+      var start = meterRegistry.config().clock().monotonicTime();
+      var exception = delegate.decode(methodKey, response);
+      var error = Objects.isNull(exception) ? ClientMetricsTags.NONE
+          : ClientMetricsTags.error(exception);
+      ClientCallContext.record(response.status(), error);
+      timer(meterRegistry, clientName, response, "error", error)
+          .record(meterRegistry.config().clock().monotonicTime() - start, TimeUnit.NANOSECONDS);
+      return exception;
+    };
+  }
+
+  private static Timer timer(MeterRegistry meterRegistry, String clientName, Response response,
+      String decoder, String error) {
+    return Timer.builder(METRIC_DECODE)
+        .tag("client", clientName)
+        .tag("method", methodKey(response))
+        .tag("decoder", decoder)
+        .tag("error", error)
+        .register(meterRegistry);
+  }
+
+  private static String methodKey(Response response) {
+    var request = response.request();
+    if (Objects.isNull(request) || Objects.isNull(request.requestTemplate())
+        || Objects.isNull(request.requestTemplate().methodMetadata())) {
+      return ClientMetricsTags.NONE;
+    }
+    return request.requestTemplate().methodMetadata().configKey();
+  }
+
+  private TimedDecoders() {
+  }
+}
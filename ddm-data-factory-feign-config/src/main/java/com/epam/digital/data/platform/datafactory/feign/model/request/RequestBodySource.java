@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.model.request;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The interface represents a source of request body that is written to the connection while the
+ * request is sent, so the body doesn't have to be kept in memory. A lambda that writes the body is
+ * a source of unknown length that is sent with chunked transfer encoding.
+ */
+@FunctionalInterface
+public interface RequestBodySource {
+
+  /**
+   * Write the body to the request stream
+   *
+   * @param out request stream, closing it only flushes the written bytes
+   */
+  void writeTo(OutputStream out) throws IOException;
+
+  /**
+   * @return body length in bytes or {@code -1} if it's unknown
+   */
+  default long contentLength() {
+    return -1;
+  }
+
+  /**
+   * @return whether the body can be written only once, like a body read from a stream
+   */
+  default boolean isOneShot() {
+    return false;
+  }
+
+  /**
+   * Create source of serialized body
+   *
+   * @param body serialized body
+   * @return body source of known length
+   */
+  static RequestBodySource of(byte[] body) {
+    return new RequestBodySource() {
+      @Override
+      public void writeTo(OutputStream out) throws IOException {
+        out.write(body);
+      }
+
+      @Override
+      public long contentLength() {
+        return body.length;
+      }
+    };
+  }
+
+  /**
+   * Create source of body read from a stream, the stream is closed when the body is written
+   *
+   * @param body stream of body, e.g. of a file
+   * @return one-shot body source of unknown length
+   */
+  static RequestBodySource of(InputStream body) {
+    return new RequestBodySource() {
+      @Override
+      public void writeTo(OutputStream out) throws IOException {
+        try (body) {
+          body.transferTo(out);
+        }
+      }
+
+      @Override
+      public boolean isOneShot() {
+        return true;
+      }
+    };
+  }
+}
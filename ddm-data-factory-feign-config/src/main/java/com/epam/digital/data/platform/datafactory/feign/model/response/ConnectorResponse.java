@@ -16,21 +16,104 @@
 
 package com.epam.digital.data.platform.datafactory.feign.model.response;
 
+import com.epam.digital.data.platform.datafactory.feign.util.SpinJsonUtils;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import org.camunda.spin.json.SpinJsonNode;
 
 /**
  * The class represents a response that is used to map response from data factory.
+ * <p>
+ * The response body may be kept as raw bytes, in that case it is parsed to {@link SpinJsonNode}
+ * only once on the first {@link #getResponseBody()} call.
  */
-@Builder
 @Getter
 public class ConnectorResponse implements Serializable {
 
   private final int statusCode;
-  private final transient SpinJsonNode responseBody;
+  @Getter(AccessLevel.NONE)
+  private transient volatile SpinJsonNode responseBody;
+  @Getter(AccessLevel.NONE)
+  private final byte[] rawBody;
   private final Map<String, Collection<String>> headers;
+
+  @Builder
+  private ConnectorResponse(int statusCode, SpinJsonNode responseBody, byte[] rawBody,
+      Map<String, Collection<String>> headers) {
+    this.statusCode = statusCode;
+    this.responseBody = responseBody;
+    this.rawBody = rawBody;
+    this.headers = headers;
+  }
+
+  /**
+   * Get response body, raw body is parsed on the first call
+   *
+   * @return response body or null if there is no body
+   */
+  public SpinJsonNode getResponseBody() {
+    var body = responseBody;
+    if (Objects.isNull(body) && Objects.nonNull(rawBody)) {
+      synchronized (this) {
+        body = responseBody;
+        if (Objects.isNull(body)) {
+          body = parseRawBody();
+          responseBody = body;
+        }
+      }
+    }
+    return body;
+  }
+
+  /**
+   * Get response body bytes without parsing. The returned array must not be modified.
+   *
+   * @return raw response body or null if there is no body
+   */
+  public byte[] getRawBody() {
+    if (Objects.nonNull(rawBody)) {
+      return rawBody;
+    }
+    var body = responseBody;
+    return Objects.isNull(body) ? null : body.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Get response body as string without parsing
+   *
+   * @return raw response body or null if there is no body
+   */
+  public String getRawBodyAsString() {
+    if (Objects.nonNull(rawBody)) {
+      return new String(rawBody, StandardCharsets.UTF_8);
+    }
+    var body = responseBody;
+    return Objects.isNull(body) ? null : body.toString();
+  }
+
+  /**
+   * Create a copy of the response that shares raw body bytes but parses its own
+   * {@link SpinJsonNode}, so changes of the copy body aren't visible in this response.
+   *
+   * @return response copy
+   */
+  public ConnectorResponse copy() {
+    return new ConnectorResponse(statusCode, null, getRawBody(), headers);
+  }
+
+  private SpinJsonNode parseRawBody() {
+    try {
+      return SpinJsonUtils.read(rawBody);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Couldn't parse response body", ex);
+    }
+  }
 }
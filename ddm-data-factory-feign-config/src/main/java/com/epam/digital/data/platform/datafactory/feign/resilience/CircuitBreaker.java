@@ -0,0 +1,168 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.resilience;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryCircuitBreakerProperties;
+
+/**
+ * The class represents count based circuit breaker of a feign client. Outcomes of the last calls
+ * are kept in a ring buffer. The breaker opens when failure rate or slow call rate of the buffer
+ * reaches its threshold, rejects calls while open, and lets a few trial calls through after the
+ * wait duration to decide whether to close again.
+ */
+class CircuitBreaker {
+
+  enum State {
+    CLOSED(0), HALF_OPEN(1), OPEN(2);
+
+    private final int value;
+
+    State(int value) {
+      this.value = value;
+    }
+
+    int getValue() {
+      return value;
+    }
+  }
+
+  private static final byte FAILED = 1;
+  private static final byte SLOW = 2;
+
+  private final byte[] outcomes;
+  private final int minimumCalls;
+  private final float failureRateThreshold;
+  private final float slowCallRateThreshold;
+  private final long slowCallNanos;
+  private final long waitInOpenNanos;
+  private final int halfOpenCalls;
+  private final StateListener listener;
+
+  private State state = State.CLOSED;
+  private int recorded;
+  private int position;
+  private int failed;
+  private int slow;
+  private long openedAt;
+  private int halfOpenPermits;
+  private int halfOpenSucceeded;
+
+  CircuitBreaker(DataFactoryCircuitBreakerProperties properties, StateListener listener) {
+    this.outcomes = new byte[properties.getSlidingWindowSize()];
+    this.minimumCalls = Math.min(properties.getMinimumCalls(), outcomes.length);
+    this.failureRateThreshold = properties.getFailureRateThreshold();
+    this.slowCallRateThreshold = properties.getSlowCallRateThreshold();
+    this.slowCallNanos = properties.getSlowCallDuration().toNanos();
+    this.waitInOpenNanos = properties.getWaitInOpenState().toNanos();
+    this.halfOpenCalls = properties.getPermittedCallsInHalfOpenState();
+    this.listener = listener;
+  }
+
+  /**
+   * @param now current {@link System#nanoTime()}
+   * @return {@code true} if the call is permitted, then its outcome has to be recorded
+   */
+  synchronized boolean tryAcquire(long now) {
+    if (state == State.OPEN) {
+      if (now - openedAt < waitInOpenNanos) {
+        return false;
+      }
+      transition(State.HALF_OPEN);
+      halfOpenPermits = halfOpenCalls;
+      halfOpenSucceeded = 0;
+    }
+    if (state == State.HALF_OPEN) {
+      if (halfOpenPermits == 0) {
+        return false;
+      }
+      halfOpenPermits--;
+    }
+    return true;
+  }
+
+  /**
+   * Record outcome of a permitted call
+   *
+   * @param failure  whether the call has failed
+   * @param duration call duration in nanos
+   * @param now      current {@link System#nanoTime()}
+   */
+  synchronized void record(boolean failure, long duration, long now) {
+    var slowCall = duration >= slowCallNanos;
+    if (state == State.HALF_OPEN) {
+      if (failure || slowCall) {
+        open(now);
+      } else if (++halfOpenSucceeded == halfOpenCalls) {
+        reset();
+        transition(State.CLOSED);
+      }
+      return;
+    }
+    if (state == State.OPEN) {
+      return;
+    }
+    byte outcome = (byte) ((failure ? FAILED : 0) | (slowCall ? SLOW : 0));
+    if (recorded == outcomes.length) {
+      var evicted = outcomes[position];
+      failed -= evicted & FAILED;
+      slow -= (evicted & SLOW) >> 1;
+    } else {
+      recorded++;
+    }
+    outcomes[position] = outcome;
+    position = (position + 1) % outcomes.length;
+    failed += outcome & FAILED;
+    slow += (outcome & SLOW) >> 1;
+    if (recorded >= minimumCalls && (rate(failed) >= failureRateThreshold
+        || rate(slow) >= slowCallRateThreshold)) {
+      open(now);
+    }
+  }
+
+  synchronized State getState() {
+    return state;
+  }
+
+  private float rate(int count) {
+    return count * 100f / recorded;
+  }
+
+  private void open(long now) {
+    reset();
+    openedAt = now;
+    transition(State.OPEN);
+  }
+
+  private void reset() {
+    recorded = 0;
+    position = 0;
+    failed = 0;
+    slow = 0;
+  }
+
+  private void transition(State next) {
+    if (state != next) {
+      state = next;
+      listener.onTransition(next);
+    }
+  }
+
+  interface StateListener {
+
+    void onTransition(State state);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.resilience;
+
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import java.io.IOException;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The class represents http client that keeps calls in flight within the adaptive limit of the
+ * client. A call over the limit waits for a free slot up to the max wait and then fails with
+ * {@link SystemException} with {@code SERVICE_UNAVAILABLE} code without reaching the service.
+ * I/O errors and drop statuses are drops that shrink the limit.
+ */
+class ConcurrencyLimitClient implements Client {
+
+  private final Client delegate;
+  private final ConcurrencyLimiter limiter;
+  private final long maxWaitNanos;
+  private final Set<Integer> dropStatuses;
+  private final Supplier<SystemException> rejection;
+  private final Counter rejections;
+
+  ConcurrencyLimitClient(Client delegate, ConcurrencyLimiter limiter, long maxWaitNanos,
+      Set<Integer> dropStatuses, Supplier<SystemException> rejection, Counter rejections) {
+    this.delegate = delegate;
+    this.limiter = limiter;
+    this.maxWaitNanos = maxWaitNanos;
+    this.dropStatuses = dropStatuses;
+    this.rejection = rejection;
+    this.rejections = rejections;
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    var inflight = acquire();
+    var start = System.nanoTime();
+    var dropped = true;
+    try {
+      var response = delegate.execute(request, options);
+      dropped = dropStatuses.contains(response.status());
+      return response;
+    } finally {
+      limiter.release(System.nanoTime() - start, inflight, dropped);
+    }
+  }
+
+  private int acquire() {
+    int inflight;
+    try {
+      inflight = limiter.acquire(maxWaitNanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      inflight = -1;
+    }
+    if (inflight < 0) {
+      rejections.increment();
+      throw rejection.get();
+    }
+    return inflight;
+  }
+}
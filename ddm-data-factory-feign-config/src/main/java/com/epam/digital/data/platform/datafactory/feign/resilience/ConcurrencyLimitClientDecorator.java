@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.resilience;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryConcurrencyLimitProperties;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignClientDecorator;
+import com.epam.digital.data.platform.starter.localization.MessageResolver;
+import feign.Client;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The class represents decorator that keeps calls in flight of each configured feign client within
+ * an adaptive concurrency limit. The limit follows latency of the service, so calls are rejected on
+ * the client side instead of piling up on a degraded service.
+ */
+public class ConcurrencyLimitClientDecorator implements FeignClientDecorator {
+
+  static final String METRIC_LIMIT = "datafactory.client.concurrency.limit";
+  static final String METRIC_INFLIGHT = "datafactory.client.concurrency.inflight";
+
+  private final DataFactoryConcurrencyLimitProperties properties;
+  private final ServiceUnavailableRejection rejection;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+  /**
+   * @param properties      concurrency limit properties
+   * @param messageResolver resolver of localized message of rejections, may be {@code null}
+   * @param meterRegistry   registry of concurrency limit metrics
+   */
+  public ConcurrencyLimitClientDecorator(DataFactoryConcurrencyLimitProperties properties,
+      MessageResolver messageResolver, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.rejection = new ServiceUnavailableRejection(messageResolver);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Client decorate(String clientName, Client client) {
+    if (!properties.getClients().contains(clientName)) {
+      return client;
+    }
+    var limiter = limiters.computeIfAbsent(clientName, this::create);
+    var rejections = Counter.builder(ResilienceClientDecorator.METRIC_REJECTED)
+        .tag("client", clientName)
+        .tag("reason", "concurrency-limit")
+        .register(meterRegistry);
+    return new ConcurrencyLimitClient(client, limiter, properties.getMaxWait().toNanos(),
+        properties.getDropStatuses(), rejection, rejections);
+  }
+
+  @Override
+  public int getOrder() {
+    return CONCURRENCY_LIMIT_ORDER;
+  }
+
+  private ConcurrencyLimiter create(String clientName) {
+    var limiter = new ConcurrencyLimiter(new VegasLimit(properties.getInitialLimit(),
+        properties.getMinLimit(), properties.getMaxLimit(), properties.getProbeEvery(),
+        properties.getDropFactor()));
+    Gauge.builder(METRIC_LIMIT, limiter, ConcurrencyLimiter::getLimit)
+        .tag("client", clientName)
+        .strongReference(true)
+        .register(meterRegistry);
+    Gauge.builder(METRIC_INFLIGHT, limiter, ConcurrencyLimiter::getInflight)
+        .tag("client", clientName)
+        .strongReference(true)
+        .register(meterRegistry);
+    return limiter;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.resilience;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The class represents calls in flight of a feign client that are kept within its adaptive
+ * {@link VegasLimit}. Clients with the same name share the limiter.
+ */
+class ConcurrencyLimiter {
+
+  private final VegasLimit limit;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition released = lock.newCondition();
+  private int inflight;
+
+  ConcurrencyLimiter(VegasLimit limit) {
+    this.limit = limit;
+  }
+
+  /**
+   * Acquire a slot for a call, waiting for a free slot up to the max wait
+   *
+   * @param maxWaitNanos max time to wait for a free slot
+   * @return number of calls in flight with the acquired one or {@code -1} if there is no slot
+   */
+  int acquire(long maxWaitNanos) throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      var remaining = maxWaitNanos;
+      while (inflight >= limit.getLimit()) {
+        if (remaining <= 0) {
+          return -1;
+        }
+        remaining = released.awaitNanos(remaining);
+      }
+      return ++inflight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Release the slot of a completed call and adjust the limit with its sample
+   *
+   * @param rtt      call latency in nanos
+   * @param inflight number of calls in flight when the call started
+   * @param dropped  whether the call was dropped by the service
+   */
+  void release(long rtt, int inflight, boolean dropped) {
+    limit.onSample(rtt, inflight, dropped);
+    lock.lock();
+    try {
+      this.inflight--;
+      released.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  int getLimit() {
+    return limit.getLimit();
+  }
+
+  int getInflight() {
+    lock.lock();
+    try {
+      return inflight;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
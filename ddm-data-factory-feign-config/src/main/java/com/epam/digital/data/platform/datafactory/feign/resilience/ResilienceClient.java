@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.resilience;
+
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The class represents http client that limits concurrent calls with a bulkhead and fails fast
+ * with {@link SystemException} while circuit breaker of the client is open. Calls that end with
+ * an {@link IOException} or one of failure statuses are failures for the circuit breaker.
+ */
+class ResilienceClient implements Client {
+
+  private final Client delegate;
+  private final CircuitBreaker circuitBreaker;
+  private final Semaphore bulkhead;
+  private final long maxWaitNanos;
+  private final Set<Integer> failureStatuses;
+  private final Supplier<SystemException> rejection;
+  private final LongSupplier nanoTime;
+  private final Counter bulkheadRejections;
+  private final Counter circuitBreakerRejections;
+
+  ResilienceClient(Client delegate, CircuitBreaker circuitBreaker, Semaphore bulkhead,
+      long maxWaitNanos, Set<Integer> failureStatuses, Supplier<SystemException> rejection,
+      LongSupplier nanoTime, Counter bulkheadRejections, Counter circuitBreakerRejections) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+    this.bulkhead = bulkhead;
+    this.maxWaitNanos = maxWaitNanos;
+    this.failureStatuses = failureStatuses;
+    this.rejection = rejection;
+    this.nanoTime = nanoTime;
+    this.bulkheadRejections = bulkheadRejections;
+    this.circuitBreakerRejections = circuitBreakerRejections;
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    if (!acquireBulkhead()) {
+      bulkheadRejections.increment();
+      throw rejection.get();
+    }
+    if (!circuitBreaker.tryAcquire(nanoTime.getAsLong())) {
+      bulkhead.release();
+      circuitBreakerRejections.increment();
+      throw rejection.get();
+    }
+    var start = nanoTime.getAsLong();
+    var failure = true;
+    try {
+      var response = delegate.execute(request, options);
+      failure = failureStatuses.contains(response.status());
+      return response;
+    } finally {
+      bulkhead.release();
+      var end = nanoTime.getAsLong();
+      circuitBreaker.record(failure, end - start, end);
+    }
+  }
+
+  private boolean acquireBulkhead() {
+    try {
+      return bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.resilience;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryCircuitBreakerProperties;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignClientDecorator;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import com.epam.digital.data.platform.starter.localization.MessageResolver;
+import feign.Client;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * The class represents decorator that adds a circuit breaker and a bulkhead to http client of
+ * each configured feign client, clients with the same name share them. Calls rejected by them
+ * fail with {@link SystemException} with {@code SERVICE_UNAVAILABLE} code, like calls answered
+ * with 503 by the service.
+ */
+public class ResilienceClientDecorator implements FeignClientDecorator {
+
+  static final String METRIC_STATE = "datafactory.client.circuit-breaker.state";
+  static final String METRIC_TRANSITIONS = "datafactory.client.circuit-breaker.transitions";
+  static final String METRIC_BULKHEAD_AVAILABLE = "datafactory.client.bulkhead.available";
+  static final String METRIC_REJECTED = "datafactory.client.calls.rejected";
+
+  private final DataFactoryCircuitBreakerProperties properties;
+  private final ServiceUnavailableRejection rejection;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Resilience> instances = new ConcurrentHashMap<>();
+
+  /**
+   * @param properties      circuit breaker and bulkhead properties
+   * @param messageResolver resolver of localized message of rejections, may be {@code null}
+   * @param meterRegistry   registry of circuit breaker and bulkhead metrics
+   */
+  public ResilienceClientDecorator(DataFactoryCircuitBreakerProperties properties,
+      MessageResolver messageResolver, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.rejection = new ServiceUnavailableRejection(messageResolver);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Client decorate(String clientName, Client client) {
+    if (!properties.getClients().contains(clientName)) {
+      return client;
+    }
+    var resilience = instances.computeIfAbsent(clientName, this::create);
+    return new ResilienceClient(client, resilience.circuitBreaker, resilience.bulkhead,
+        properties.getBulkhead().getMaxWait().toNanos(), properties.getFailureStatuses(),
+        rejection, System::nanoTime, rejected(clientName, "bulkhead"),
+        rejected(clientName, "circuit-breaker"));
+  }
+
+  @Override
+  public int getOrder() {
+    return CIRCUIT_BREAKER_ORDER;
+  }
+
+  private Resilience create(String clientName) {
+    var circuitBreaker = new CircuitBreaker(properties, state -> Counter.builder(METRIC_TRANSITIONS)
+        .tag("client", clientName)
+        .tag("state", state.name())
+        .register(meterRegistry)
+        .increment());
+    Gauge.builder(METRIC_STATE, circuitBreaker, breaker -> breaker.getState().getValue())
+        .description("0 - closed, 1 - half open, 2 - open")
+        .tag("client", clientName)
+        .strongReference(true)
+        .register(meterRegistry);
+    var bulkhead = new Semaphore(properties.getBulkhead().getMaxConcurrentCalls(), true);
+    Gauge.builder(METRIC_BULKHEAD_AVAILABLE, bulkhead, Semaphore::availablePermits)
+        .tag("client", clientName)
+        .strongReference(true)
+        .register(meterRegistry);
+    return new Resilience(circuitBreaker, bulkhead);
+  }
+
+  private Counter rejected(String clientName, String reason) {
+    return Counter.builder(METRIC_REJECTED)
+        .tag("client", clientName)
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+
+  private static class Resilience {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+
+    private Resilience(CircuitBreaker circuitBreaker, Semaphore bulkhead) {
+      this.circuitBreaker = circuitBreaker;
+      this.bulkhead = bulkhead;
+    }
+  }
+}
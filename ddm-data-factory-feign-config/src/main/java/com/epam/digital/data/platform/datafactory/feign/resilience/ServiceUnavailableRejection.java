@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.resilience;
+
+import com.epam.digital.data.platform.datafactory.feign.enums.DataFactoryError;
+import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import com.epam.digital.data.platform.starter.localization.MessageResolver;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The class represents factory of exceptions of calls rejected on the client side. They are the
+ * same {@link SystemException} with {@code SERVICE_UNAVAILABLE} code that the error decoder
+ * returns for 503 responses.
+ */
+class ServiceUnavailableRejection implements Supplier<SystemException> {
+
+  private final MessageResolver messageResolver;
+
+  /**
+   * @param messageResolver resolver of localized message, may be {@code null}
+   */
+  ServiceUnavailableRejection(MessageResolver messageResolver) {
+    this.messageResolver = messageResolver;
+  }
+
+  @Override
+  public SystemException get() {
+    var errorDto = new SystemErrorDto();
+    errorDto.setCode(DataFactoryError.SERVICE_UNAVAILABLE.name());
+    if (Objects.nonNull(messageResolver)) {
+      errorDto.setLocalizedMessage(
+          messageResolver.getMessage(DataFactoryError.SERVICE_UNAVAILABLE.getTitleKey()));
+    }
+    return new SystemException(errorDto);
+  }
+}
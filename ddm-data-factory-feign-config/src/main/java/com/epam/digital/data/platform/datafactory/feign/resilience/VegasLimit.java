@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.resilience;
+
+/**
+ * The class represents Vegas-style concurrency limit of a feign client. The limit grows while
+ * latency stays close to the lowest observed latency, shrinks when requests start to queue on the
+ * server side, and drops when calls are dropped or time out. The lowest latency is probed anew
+ * periodically, so the limit follows changes of the service.
+ */
+class VegasLimit {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final int probeEvery;
+  private final double dropFactor;
+
+  private double limit;
+  private long noLoadRtt = Long.MAX_VALUE;
+  private int samples;
+
+  VegasLimit(int initialLimit, int minLimit, int maxLimit, int probeEvery, double dropFactor) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.probeEvery = Math.max(probeEvery, 1);
+    this.dropFactor = dropFactor;
+    this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+  }
+
+  synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * Adjust the limit with a sample of a completed call
+   *
+   * @param rtt      call latency in nanos
+   * @param inflight number of calls in flight when the call started
+   * @param dropped  whether the call was dropped by the service
+   */
+  synchronized void onSample(long rtt, int inflight, boolean dropped) {
+    if (++samples % probeEvery == 0) {
+      noLoadRtt = rtt;
+    }
+    if (dropped) {
+      limit = Math.max(minLimit, limit * dropFactor);
+      return;
+    }
+    if (rtt <= 0) {
+      return;
+    }
+    noLoadRtt = Math.min(noLoadRtt, rtt);
+    if (inflight * 2 < limit) {
+      return;
+    }
+    var log = Math.max(1, Math.log10(limit));
+    var queue = limit * (1 - (double) noLoadRtt / rtt);
+    if (queue <= 3 * log) {
+      limit = Math.min(maxLimit, limit + log);
+    } else if (queue >= 6 * log) {
+      limit = Math.max(minLimit, limit - log);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+
+/**
+ * The class represents attribute keys of feign client spans.
+ */
+final class TracingAttributes {
+
+  static final AttributeKey<String> CLIENT = AttributeKey.stringKey("datafactory.client");
+  static final AttributeKey<String> METHOD = AttributeKey.stringKey("datafactory.method");
+  static final AttributeKey<String> URI = AttributeKey.stringKey("datafactory.uri");
+  static final AttributeKey<String> RESOURCE = AttributeKey.stringKey("datafactory.resource");
+  static final AttributeKey<String> REGISTRY_TARGET =
+      AttributeKey.stringKey("datafactory.registry_target");
+  static final AttributeKey<String> ERROR_CODE = AttributeKey.stringKey("datafactory.error.code");
+  static final AttributeKey<String> DECODER = AttributeKey.stringKey("datafactory.decoder");
+  static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.method");
+  static final AttributeKey<String> HTTP_URL = AttributeKey.stringKey("http.url");
+  static final AttributeKey<Long> HTTP_STATUS_CODE = AttributeKey.longKey("http.status_code");
+  static final AttributeKey<Long> RESPONSE_BODY_SIZE =
+      AttributeKey.longKey("http.response_content_length");
+
+  private TracingAttributes() {
+  }
+}
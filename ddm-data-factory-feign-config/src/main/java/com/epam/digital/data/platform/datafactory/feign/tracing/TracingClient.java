@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.tracing;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The class represents http client that sends each request in a client span and propagates trace
+ * context in request headers. Connection events are added to the span by
+ * {@link TracingEventListener}, the span gets an event when response headers are received and ends
+ * when the response body is read or closed, so it shows time to first byte and body transfer.
+ */
+class TracingClient implements Client {
+
+  static final String EVENT_RESPONSE_HEADERS = "response.headers.received";
+  static final String EVENT_RESPONSE_BODY = "response.body.received";
+
+  private static final TextMapSetter<Map<String, Collection<String>>> SETTER =
+      (headers, name, value) -> headers.put(name, List.of(value));
+
+  private final Client delegate;
+  private final Tracer tracer;
+  private final TextMapPropagator propagator;
+
+  TracingClient(Client delegate, Tracer tracer, TextMapPropagator propagator) {
+    this.delegate = delegate;
+    this.tracer = tracer;
+    this.propagator = propagator;
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    var span = tracer.spanBuilder("HTTP " + request.httpMethod().name())
+        .setSpanKind(SpanKind.CLIENT)
+        .setAttribute(TracingAttributes.HTTP_METHOD, request.httpMethod().name())
+        .setAttribute(TracingAttributes.HTTP_URL, request.url())
+        .startSpan();
+    Response response;
+    try (var scope = span.makeCurrent()) {
+      var headers = new LinkedHashMap<String, Collection<String>>(request.headers());
+      propagator.inject(Context.current(), headers, SETTER);
+      response = delegate.execute(Request.create(request.httpMethod(), request.url(), headers,
+          request.body(), request.charset(), request.requestTemplate()), options);
+    } catch (IOException | RuntimeException e) {
+      span.recordException(e);
+      span.setStatus(StatusCode.ERROR);
+      span.end();
+      throw e;
+    }
+    span.addEvent(EVENT_RESPONSE_HEADERS);
+    span.setAttribute(TracingAttributes.HTTP_STATUS_CODE, response.status());
+    if (response.status() >= 500) {
+      span.setStatus(StatusCode.ERROR);
+    }
+    if (Objects.isNull(response.body())) {
+      span.end();
+      return response;
+    }
+    return response.toBuilder()
+        .body(new SpanEndingInputStream(response.body().asInputStream(), span),
+            response.body().length())
+        .build();
+  }
+
+  private static class SpanEndingInputStream extends FilterInputStream {
+
+    private final Span span;
+    private long count;
+    private boolean ended;
+
+    private SpanEndingInputStream(InputStream in, Span span) {
+      super(in);
+      this.span = span;
+    }
+
+    @Override
+    public int read() throws IOException {
+      var value = super.read();
+      if (value < 0) {
+        end();
+      } else {
+        count++;
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      var read = super.read(b, off, len);
+      if (read < 0) {
+        end();
+      } else {
+        count += read;
+      }
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        end();
+      }
+    }
+
+    private void end() {
+      if (!ended) {
+        ended = true;
+        span.addEvent(EVENT_RESPONSE_BODY,
+            Attributes.of(TracingAttributes.RESPONSE_BODY_SIZE, count));
+        span.end();
+      }
+    }
+  }
+}
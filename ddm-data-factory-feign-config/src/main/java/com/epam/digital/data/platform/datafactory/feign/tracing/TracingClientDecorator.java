@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.tracing;
+
+import com.epam.digital.data.platform.datafactory.feign.http.FeignClientDecorator;
+import feign.Client;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The class represents decorator that sends http requests of feign clients in client spans and
+ * propagates trace context downstream. It's the closest decorator to the http client, so each
+ * attempt, retry and hedged request gets its own span.
+ */
+@RequiredArgsConstructor
+public class TracingClientDecorator implements FeignClientDecorator {
+
+  private final Tracer tracer;
+  private final TextMapPropagator propagator;
+
+  @Override
+  public Client decorate(String clientName, Client client) {
+    return new TracingClient(client, tracer, propagator);
+  }
+
+  @Override
+  public int getOrder() {
+    return TRACING_ORDER;
+  }
+}
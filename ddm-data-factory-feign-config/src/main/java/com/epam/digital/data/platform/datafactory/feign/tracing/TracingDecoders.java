@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.tracing;
+
+import com.epam.digital.data.platform.datafactory.feign.metrics.ClientMetricsTags;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import java.util.Objects;
+
+/**
+ * The class represents response and error decoders that wrap decoding in a child span of the call
+ * span and pass response status and data factory error to the call span.
+ */
+final class TracingDecoders {
+
+  static Decoder decoder(Decoder delegate, Tracer tracer) {
+    return (response, type) -> {
+      var callSpan = Span.current();
+      callSpan.setAttribute(TracingAttributes.HTTP_STATUS_CODE, response.status());
+      var span = tracer.spanBuilder("decode")
+          .setAttribute(TracingAttributes.DECODER, "response")
+          .startSpan();
+      try (var scope = span.makeCurrent()) {
+        return delegate.decode(response, type);
+      } catch (Throwable e) {
+        TracingMethodHandler.recordFailure(span, e);
+        throw e;
+      } finally {
+        span.end();
+      }
+    };
+  }
+
+  static ErrorDecoder errorDecoder(ErrorDecoder delegate, Tracer tracer) {
+    return (methodKey, response) -> {
+      var callSpan = Span.current();
+      callSpan.setAttribute(TracingAttributes.HTTP_STATUS_CODE, response.status());
+      var span = tracer.spanBuilder("decode")
+          .setAttribute(TracingAttributes.DECODER, "error")
+          .startSpan();
+      try (var scope = span.makeCurrent()) {
+        var exception = delegate.decode(methodKey, response);
+        var error = Objects.isNull(exception) ? ClientMetricsTags.NONE
+            : ClientMetricsTags.error(exception);
+        if (!ClientMetricsTags.NONE.equals(error)) {
+          span.setAttribute(TracingAttributes.ERROR_CODE, error);
+          callSpan.setAttribute(TracingAttributes.ERROR_CODE, error);
+        }
+        return exception;
+      } finally {
+        span.end();
+      }
+    };
+  }
+
+  private TracingDecoders() {
+  }
+}
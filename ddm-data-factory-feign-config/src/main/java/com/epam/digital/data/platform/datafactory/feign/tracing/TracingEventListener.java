@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+
+/**
+ * The class represents listener of http client events that adds connection phases to the current
+ * span. Http client calls of feign clients are synchronous, so events are fired on the thread
+ * where the span of {@link TracingClient} is current.
+ */
+public class TracingEventListener extends EventListener {
+
+  private static final TracingEventListener INSTANCE = new TracingEventListener();
+
+  @Override
+  public void dnsStart(Call call, String domainName) {
+    Span.current().addEvent("dns.start");
+  }
+
+  @Override
+  public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+    Span.current().addEvent("dns.end");
+  }
+
+  @Override
+  public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+    Span.current().addEvent("connect.start");
+  }
+
+  @Override
+  public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+      Protocol protocol) {
+    Span.current().addEvent("connect.end");
+  }
+
+  @Override
+  public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+      Protocol protocol, IOException ioe) {
+    Span.current().addEvent("connect.failed");
+  }
+
+  @Override
+  public void connectionAcquired(Call call, Connection connection) {
+    Span.current().addEvent("connection.acquired");
+  }
+
+  @Override
+  public void requestHeadersEnd(Call call, okhttp3.Request request) {
+    Span.current().addEvent("request.headers.sent");
+  }
+
+  /**
+   * @return factory of listeners of http client calls
+   */
+  public static EventListener.Factory factory() {
+    return call -> INSTANCE;
+  }
+}
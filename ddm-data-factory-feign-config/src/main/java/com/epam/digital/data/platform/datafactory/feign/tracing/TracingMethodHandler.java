@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.tracing;
+
+import com.epam.digital.data.platform.datafactory.feign.metrics.ClientMetricsTags;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import com.epam.digital.data.platform.datafactory.feign.model.response.TypedConnectorResponse;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Response;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import java.util.Objects;
+
+/**
+ * The class represents method handler that wraps feign client call in a span. The span is current
+ * during the call, so spans of http requests and decoding are its children.
+ */
+class TracingMethodHandler implements MethodHandler {
+
+  private final MethodHandler delegate;
+  private final Tracer tracer;
+  private final String spanName;
+  private final String clientName;
+  private final String methodKey;
+  private final String uri;
+  private final int resourceArgIndex;
+  private final int registryTargetArgIndex;
+
+  TracingMethodHandler(MethodHandler delegate, Tracer tracer, String spanName, String clientName,
+      String methodKey, String uri, int resourceArgIndex, int registryTargetArgIndex) {
+    this.delegate = delegate;
+    this.tracer = tracer;
+    this.spanName = spanName;
+    this.clientName = clientName;
+    this.methodKey = methodKey;
+    this.uri = uri;
+    this.resourceArgIndex = resourceArgIndex;
+    this.registryTargetArgIndex = registryTargetArgIndex;
+  }
+
+  @Override
+  public Object invoke(Object[] argv) throws Throwable {
+    var spanBuilder = tracer.spanBuilder(spanName)
+        .setAttribute(TracingAttributes.CLIENT, clientName)
+        .setAttribute(TracingAttributes.METHOD, methodKey)
+        .setAttribute(TracingAttributes.URI, uri);
+    setArgument(spanBuilder, TracingAttributes.RESOURCE.getKey(), argv, resourceArgIndex);
+    setArgument(spanBuilder, TracingAttributes.REGISTRY_TARGET.getKey(), argv,
+        registryTargetArgIndex);
+    var span = spanBuilder.startSpan();
+    try (var scope = span.makeCurrent()) {
+      var result = delegate.invoke(argv);
+      if (result instanceof ConnectorResponse) {
+        span.setAttribute(TracingAttributes.HTTP_STATUS_CODE,
+            ((ConnectorResponse) result).getStatusCode());
+      } else if (result instanceof TypedConnectorResponse) {
+        span.setAttribute(TracingAttributes.HTTP_STATUS_CODE,
+            ((TypedConnectorResponse<?>) result).getStatusCode());
+      } else if (result instanceof Response) {
+        span.setAttribute(TracingAttributes.HTTP_STATUS_CODE, ((Response) result).status());
+      }
+      return result;
+    } catch (Throwable e) {
+      recordFailure(span, e);
+      throw e;
+    } finally {
+      span.end();
+    }
+  }
+
+  static void recordFailure(Span span, Throwable e) {
+    var error = ClientMetricsTags.error(e);
+    if (!ClientMetricsTags.NONE.equals(error)) {
+      span.setAttribute(TracingAttributes.ERROR_CODE, error);
+    }
+    span.recordException(e);
+    span.setStatus(StatusCode.ERROR);
+  }
+
+  private static void setArgument(SpanBuilder spanBuilder, String key, Object[] argv, int index) {
+    if (index >= 0 && Objects.nonNull(argv[index])) {
+      spanBuilder.setAttribute(key, argv[index].toString());
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.tracing;
+
+import com.epam.digital.data.platform.datafactory.feign.http.FeignDecoderDecorator;
+import com.epam.digital.data.platform.datafactory.feign.http.FeignMethodHandlerDecorator;
+import com.epam.digital.data.platform.datafactory.feign.metrics.ClientMetricsTags;
+import feign.Feign;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import io.opentelemetry.api.trace.Tracer;
+import java.lang.reflect.Method;
+import org.springframework.web.bind.annotation.PathVariable;
+
+/**
+ * The class represents decorator that wraps feign client calls in spans with resource, registry
+ * target, status and data factory error of the call, and wraps decoding in child spans.
+ */
+public class TracingMethodHandlerDecorator implements FeignMethodHandlerDecorator,
+    FeignDecoderDecorator {
+
+  private final Tracer tracer;
+
+  public TracingMethodHandlerDecorator(Tracer tracer) {
+    this.tracer = tracer;
+  }
+
+  @Override
+  public MethodHandler decorate(String clientName, Method method, MethodHandler handler) {
+    var spanName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    return new TracingMethodHandler(handler, tracer, spanName, clientName,
+        Feign.configKey(method.getDeclaringClass(), method), ClientMetricsTags.uri(method),
+        pathVariableIndex(method, "resource"), pathVariableIndex(method, "registryTarget"));
+  }
+
+  @Override
+  public Decoder decorate(String clientName, Decoder decoder) {
+    return TracingDecoders.decoder(decoder, tracer);
+  }
+
+  @Override
+  public ErrorDecoder decorate(String clientName, ErrorDecoder errorDecoder) {
+    return TracingDecoders.errorDecoder(errorDecoder, tracer);
+  }
+
+  @Override
+  public int getOrder() {
+    return TRACING_ORDER;
+  }
+
+  private static int pathVariableIndex(Method method, String name) {
+    var parameters = method.getParameters();
+    for (var i = 0; i < parameters.length; i++) {
+      var pathVariable = parameters[i].getAnnotation(PathVariable.class);
+      if (pathVariable != null && (name.equals(pathVariable.value())
+          || name.equals(pathVariable.name()))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
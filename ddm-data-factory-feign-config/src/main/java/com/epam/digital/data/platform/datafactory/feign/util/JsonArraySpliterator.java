@@ -0,0 +1,170 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.camunda.spin.DataFormats;
+import org.camunda.spin.impl.json.jackson.format.JacksonJsonDataFormat;
+import org.camunda.spin.json.SpinJsonNode;
+
+/**
+ * The class represents a spliterator that walks top-level json array with token parser and reads
+ * its elements one by one, so memory usage doesn't depend on array size. Array can also be wrapped
+ * into an object under {@code content} field, as in paged responses. The underlying input stream is
+ * closed when the array end is reached, on read error or on {@link #close()}.
+ *
+ * @param <T> element type
+ */
+public class JsonArraySpliterator<T> implements Spliterator<T>, Closeable {
+
+  private static final String CONTENT_FIELD = "content";
+
+  private final JsonParser parser;
+  private final ElementReader<T> elementReader;
+  private boolean started;
+  private boolean finished;
+
+  private JsonArraySpliterator(InputStream inputStream, ElementReader<T> elementReader) {
+    try {
+      this.parser = SpinJsonUtils.objectMapper().getFactory().createParser(inputStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    this.elementReader = elementReader;
+  }
+
+  /**
+   * Create spliterator of json array elements as {@link SpinJsonNode}
+   *
+   * @param inputStream json input stream
+   * @return spliterator of elements
+   */
+  public static JsonArraySpliterator<SpinJsonNode> nodes(InputStream inputStream) {
+    var jsonFormat = (JacksonJsonDataFormat) DataFormats.json();
+    return new JsonArraySpliterator<>(inputStream,
+        parser -> jsonFormat.createWrapperInstance(parser.readValueAsTree()));
+  }
+
+  /**
+   * Create spliterator of json array elements mapped to the specified type, unknown properties of
+   * elements are ignored
+   *
+   * @param inputStream json input stream
+   * @param type        element type
+   * @return spliterator of elements
+   */
+  public static <T> JsonArraySpliterator<T> values(InputStream inputStream, Class<T> type) {
+    ObjectReader objectReader = SpinJsonUtils.objectMapper().readerFor(type)
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    return new JsonArraySpliterator<>(inputStream, objectReader::readValue);
+  }
+
+  /**
+   * Create sequential stream of spliterator elements, closing the stream closes the spliterator
+   */
+  public static <T> Stream<T> stream(JsonArraySpliterator<T> spliterator) {
+    return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (finished) {
+      return false;
+    }
+    try {
+      if (!started) {
+        started = true;
+        if (!moveToArray()) {
+          close();
+          return false;
+        }
+      }
+      var token = parser.nextToken();
+      if (Objects.isNull(token) || token == JsonToken.END_ARRAY) {
+        close();
+        return false;
+      }
+      action.accept(elementReader.read(parser));
+      return true;
+    } catch (IOException e) {
+      close();
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    return null;
+  }
+
+  @Override
+  public long estimateSize() {
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | NONNULL;
+  }
+
+  @Override
+  public void close() {
+    finished = true;
+    try {
+      parser.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private boolean moveToArray() throws IOException {
+    var token = parser.nextToken();
+    if (token == JsonToken.START_ARRAY) {
+      return true;
+    }
+    if (token != JsonToken.START_OBJECT) {
+      return false;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var fieldName = parser.getCurrentName();
+      var valueToken = parser.nextToken();
+      if (CONTENT_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+        return true;
+      }
+      parser.skipChildren();
+    }
+    return false;
+  }
+
+  @FunctionalInterface
+  private interface ElementReader<T> {
+
+    T read(JsonParser parser) throws IOException;
+  }
+}
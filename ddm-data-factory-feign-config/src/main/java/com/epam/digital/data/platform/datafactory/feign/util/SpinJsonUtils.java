@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import org.camunda.spin.DataFormats;
+import org.camunda.spin.impl.json.jackson.format.JacksonJsonDataFormat;
+import org.camunda.spin.json.SpinJsonNode;
+
+/**
+ * The class represents a utility that parses json to {@link SpinJsonNode} using jackson tree of
+ * spin json data format without intermediate string representation.
+ */
+public final class SpinJsonUtils {
+
+  /**
+   * Parse json from input stream
+   *
+   * @param inputStream json input stream
+   * @return parsed json or null if input is empty or blank
+   * @throws IOException in case of read or parse error
+   */
+  public static SpinJsonNode read(InputStream inputStream) throws IOException {
+    var jsonFormat = jsonFormat();
+    return wrap(jsonFormat, jsonFormat.getObjectMapper().readTree(inputStream));
+  }
+
+  /**
+   * Parse json from byte array
+   *
+   * @param json json bytes
+   * @return parsed json or null if input is empty or blank
+   * @throws IOException in case of parse error
+   */
+  public static SpinJsonNode read(byte[] json) throws IOException {
+    var jsonFormat = jsonFormat();
+    return wrap(jsonFormat, jsonFormat.getObjectMapper().readTree(json));
+  }
+
+  /**
+   * Get object mapper of spin json data format
+   *
+   * @return object mapper that is used to parse json
+   */
+  public static ObjectMapper objectMapper() {
+    return jsonFormat().getObjectMapper();
+  }
+
+  private static JacksonJsonDataFormat jsonFormat() {
+    return (JacksonJsonDataFormat) DataFormats.json();
+  }
+
+  private static SpinJsonNode wrap(JacksonJsonDataFormat jsonFormat,
+      JsonNode jsonNode) {
+    if (Objects.isNull(jsonNode) || jsonNode.isMissingNode()) {
+      return null;
+    }
+    return jsonFormat.createWrapperInstance(jsonNode);
+  }
+
+  private SpinJsonUtils() {
+  }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryResponseCacheProperties;
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import feign.Util;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.unit.DataSize;
+
+class CachingClientTest {
+
+  private static final String URL = "http://registry/pd-processing-consent/1";
+  private static final Request.Options OPTIONS =
+      new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+
+  private Client delegate;
+  private Clock clock;
+  private SimpleMeterRegistry meterRegistry;
+  private DataFactoryResponseCacheProperties properties;
+  private CachingClient cachingClient;
+
+  @BeforeEach
+  void beforeEach() {
+    delegate = mock(Client.class);
+    clock = mock(Clock.class);
+    meterRegistry = new SimpleMeterRegistry();
+    properties = new DataFactoryResponseCacheProperties();
+    properties.setTtl(Duration.ofSeconds(10));
+    properties.setStaleWhileRevalidate(Duration.ofSeconds(10));
+    cachingClient = new CachingClient("data-factory-client", delegate,
+        new ResponseCache(1024 * 1024), properties, Runnable::run, meterRegistry, clock);
+  }
+
+  @Test
+  void expectFreshResponseIsServedFromCache() throws IOException {
+    when(clock.millis()).thenReturn(0L, 5_000L);
+    when(delegate.execute(any(), any())).thenReturn(response(200, "{\"id\":1}", "\"v1\""));
+
+    var first = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    var second = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+
+    assertThat(body(first)).isEqualTo("{\"id\":1}");
+    assertThat(body(second)).isEqualTo("{\"id\":1}");
+    verify(delegate).execute(any(), any());
+    assertThat(counter("hit")).isEqualTo(1);
+    assertThat(counter("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void expectResponsesAreCachedPerAuthorizationScope() throws IOException {
+    when(clock.millis()).thenReturn(0L);
+    when(delegate.execute(any(), any())).thenReturn(response(200, "{\"id\":1}", "\"v1\""),
+        response(200, "{\"id\":2}", "\"v1\""));
+
+    cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    var response = cachingClient.execute(request(URL, "token-2"), OPTIONS);
+
+    assertThat(body(response)).isEqualTo("{\"id\":2}");
+    verify(delegate, times(2)).execute(any(), any());
+  }
+
+  @Test
+  void expectExpiredResponseIsRevalidatedWithEtag() throws IOException {
+    when(clock.millis()).thenReturn(0L, 30_000L);
+    when(delegate.execute(any(), any())).thenReturn(response(200, "{\"id\":1}", "\"v1\""),
+        response(304, null, null));
+
+    cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    var response = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+
+    var captor = ArgumentCaptor.forClass(Request.class);
+    verify(delegate, times(2)).execute(captor.capture(), any());
+    assertThat(captor.getAllValues().get(1).headers().get("If-None-Match")).containsExactly(
+        "\"v1\"");
+    assertThat(response.status()).isEqualTo(200);
+    assertThat(body(response)).isEqualTo("{\"id\":1}");
+    assertThat(meterRegistry.get("datafactory.response.cache.revalidations")
+        .tag("outcome", "not-modified").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void expectStaleResponseIsReturnedWhileRevalidated() throws IOException {
+    when(clock.millis()).thenReturn(0L, 15_000L, 15_000L, 16_000L);
+    when(delegate.execute(any(), any())).thenReturn(response(200, "{\"id\":1}", "\"v1\""),
+        response(200, "{\"id\":2}", "\"v2\""));
+
+    cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    var stale = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    var refreshed = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+
+    assertThat(body(stale)).isEqualTo("{\"id\":1}");
+    assertThat(body(refreshed)).isEqualTo("{\"id\":2}");
+    assertThat(counter("stale-hit")).isEqualTo(1);
+    assertThat(counter("hit")).isEqualTo(1);
+  }
+
+  @Test
+  void expectStaleResponseIsKeptWhenBackgroundRevalidationFailsWithServerError()
+      throws IOException {
+    when(clock.millis()).thenReturn(0L, 15_000L, 16_000L);
+    when(delegate.execute(any(), any())).thenReturn(response(200, "{\"id\":1}", "\"v1\""),
+        response(503, "{}", null), response(503, "{}", null));
+
+    cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    var stale = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+
+    assertThat(body(stale)).isEqualTo("{\"id\":1}");
+    assertThat(counter("stale-hit")).isEqualTo(2);
+    assertThat(counter("miss")).isEqualTo(1);
+    assertThat(meterRegistry.get("datafactory.response.cache.revalidations")
+        .tag("outcome", "failed").counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  void expectExpiredResponseIsKeptWhenRevalidationFailsWithServerError() throws IOException {
+    when(clock.millis()).thenReturn(0L, 30_000L);
+    when(delegate.execute(any(), any())).thenReturn(response(200, "{\"id\":1}", "\"v1\""),
+        response(500, "{}", null), response(304, null, null));
+
+    cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    var failed = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    var revalidated = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+
+    assertThat(failed.status()).isEqualTo(500);
+    assertThat(revalidated.status()).isEqualTo(200);
+    assertThat(body(revalidated)).isEqualTo("{\"id\":1}");
+    var captor = ArgumentCaptor.forClass(Request.class);
+    verify(delegate, times(3)).execute(captor.capture(), any());
+    assertThat(captor.getAllValues().get(2).headers()).containsKey("If-None-Match");
+  }
+
+  @Test
+  void expectEntryIsRemovedWhenResourceIsGone() throws IOException {
+    when(clock.millis()).thenReturn(0L, 30_000L);
+    when(delegate.execute(any(), any())).thenReturn(response(200, "{\"id\":1}", "\"v1\""),
+        response(404, "{}", null), response(200, "{\"id\":2}", "\"v2\""));
+
+    cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    cachingClient.execute(request(URL, "token-1"), OPTIONS);
+
+    var captor = ArgumentCaptor.forClass(Request.class);
+    verify(delegate, times(3)).execute(captor.capture(), any());
+    assertThat(captor.getAllValues().get(2).headers()).doesNotContainKey("If-None-Match");
+    assertThat(counter("miss")).isEqualTo(2);
+  }
+
+  @Test
+  void expectNotSuccessfulResponseIsNotCached() throws IOException {
+    when(clock.millis()).thenReturn(0L);
+    when(delegate.execute(any(), any())).thenReturn(response(404, "{}", null),
+        response(404, "{}", null));
+
+    cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    var response = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+
+    assertThat(response.status()).isEqualTo(404);
+    verify(delegate, times(2)).execute(any(), any());
+  }
+
+  @Test
+  void expectEntryIsRemovedWhenModifiedResponseOfUnknownLengthIsTooLarge() throws IOException {
+    var largeBody = "{\"id\":\"" + "2".repeat(32) + "\"}";
+    properties.setMaxEntrySize(DataSize.ofBytes(16));
+    when(clock.millis()).thenReturn(0L, 15_000L, 16_000L);
+    when(delegate.execute(any(), any())).thenReturn(response(200, "{\"id\":1}", "\"v1\""),
+        chunkedResponse(largeBody), response(200, "{\"id\":3}", "\"v3\""));
+
+    cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    var stale = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    var refetched = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+
+    assertThat(body(stale)).isEqualTo("{\"id\":1}");
+    assertThat(body(refetched)).isEqualTo("{\"id\":3}");
+    assertThat(counter("miss")).isEqualTo(2);
+    verify(delegate, times(3)).execute(any(), any());
+  }
+
+  @Test
+  void expectTooLargeResponseOfUnknownLengthIsStreamedWithoutCaching() throws IOException {
+    var largeBody = "{\"id\":\"" + "1".repeat(64) + "\"}";
+    properties.setMaxEntrySize(DataSize.ofBytes(16));
+    when(clock.millis()).thenReturn(0L);
+    when(delegate.execute(any(), any())).thenReturn(chunkedResponse(largeBody),
+        chunkedResponse(largeBody));
+
+    var first = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+    var second = cachingClient.execute(request(URL, "token-1"), OPTIONS);
+
+    assertThat(first.body().length()).isNull();
+    assertThat(body(first)).isEqualTo(largeBody);
+    assertThat(body(second)).isEqualTo(largeBody);
+    verify(delegate, times(2)).execute(any(), any());
+  }
+
+  @Test
+  void expectLeastRecentlyUsedResponsesAreEvictedBySize() {
+    var responseCache = new ResponseCache(100);
+    responseCache.put("first", cached(new byte[40]));
+    responseCache.put("second", cached(new byte[40]));
+    responseCache.get("first");
+    responseCache.put("third", cached(new byte[40]));
+
+    assertThat(responseCache.get("second")).isNull();
+    assertThat(responseCache.get("first")).isNotNull();
+    assertThat(responseCache.getSizeInBytes()).isEqualTo(80);
+  }
+
+  @Test
+  void expectResourceIsResolvedFromUrl() {
+    assertThat(CachingClient.resource(URL)).isEqualTo("pd-processing-consent");
+  }
+
+  private double counter(String result) {
+    return meterRegistry.get("datafactory.response.cache.requests").tag("result", result)
+        .counter().count();
+  }
+
+  private static CachedResponse cached(byte[] body) {
+    return new CachedResponse(200, "OK", Map.of(), body, null, null, 0, 1000);
+  }
+
+  private static Request request(String url, String token) {
+    Map<String, Collection<String>> headers = Map.of("X-Access-Token", List.of(token));
+    return Request.create(HttpMethod.GET, url, headers, null, StandardCharsets.UTF_8, null);
+  }
+
+  private static Response response(int status, String body, String etag) {
+    Map<String, Collection<String>> headers = etag == null ? Map.of()
+        : Map.of("ETag", List.of(etag));
+    var builder = Response.builder()
+        .status(status)
+        .reason("reason")
+        .headers(headers)
+        .request(request(URL, "token"));
+    if (body != null) {
+      builder.body(body, StandardCharsets.UTF_8);
+    }
+    return builder.build();
+  }
+
+  private static Response chunkedResponse(String body) {
+    return Response.builder()
+        .status(200)
+        .reason("reason")
+        .headers(Map.of())
+        .request(request(URL, "token"))
+        .body(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), null)
+        .build();
+  }
+
+  private static String body(Response response) throws IOException {
+    return Util.toString(response.body().asReader(StandardCharsets.UTF_8));
+  }
+}
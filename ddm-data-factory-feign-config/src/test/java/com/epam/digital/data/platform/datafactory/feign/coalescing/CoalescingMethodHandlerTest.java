@@ -0,0 +1,200 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryCoalescingProperties;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import feign.InvocationHandlerFactory.MethodHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class CoalescingMethodHandlerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private ExecutorService executorService;
+  private CountDownLatch release;
+  private AtomicInteger invocations;
+  private MethodHandler methodHandler;
+
+  @BeforeEach
+  void beforeEach() throws NoSuchMethodException {
+    meterRegistry = new SimpleMeterRegistry();
+    executorService = Executors.newFixedThreadPool(4);
+    release = new CountDownLatch(1);
+    invocations = new AtomicInteger();
+    MethodHandler delegate = argv -> {
+      invocations.incrementAndGet();
+      release.await(5, TimeUnit.SECONDS);
+      if ("missing".equals(argv[1])) {
+        throw new IllegalStateException("not found");
+      }
+      return ConnectorResponse.builder()
+          .statusCode(200)
+          .rawBody("{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8))
+          .build();
+    };
+    var method = Client.class.getMethod("performGet", String.class, String.class,
+        HttpHeaders.class);
+    var properties = new DataFactoryCoalescingProperties();
+    properties.setIgnoredHeaders(Set.of("X-Request-Id"));
+    methodHandler = new CoalescingMethodHandlerDecorator(properties, meterRegistry)
+        .decorate("data-factory-client", method, delegate);
+  }
+
+  @AfterEach
+  void afterEach() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void expectConcurrentIdenticalCallsShareOneCall() throws Exception {
+    var first = call("resource", "1", headers("token", "process", "first-request"));
+    var second = call("resource", "1", headers("token", "process", "second-request"));
+    awaitDeduplicated(1);
+    release.countDown();
+
+    var firstResponse = (ConnectorResponse) first.get(5, TimeUnit.SECONDS);
+    var secondResponse = (ConnectorResponse) second.get(5, TimeUnit.SECONDS);
+    assertThat(firstResponse).isNotSameAs(secondResponse);
+    assertThat(firstResponse.getResponseBody()).isNotSameAs(secondResponse.getResponseBody());
+    assertThat(secondResponse.getResponseBody().prop("id").stringValue()).isEqualTo("1");
+    assertThat(invocations.get()).isEqualTo(1);
+  }
+
+  @Test
+  void expectResponseIsNotCopiedWithoutCoalescedCallers() throws Throwable {
+    var response = ConnectorResponse.builder().statusCode(200).build();
+    var handler = new CoalescingMethodHandler(argv -> response, Set.of(),
+        meterRegistry.counter("executed"), meterRegistry.counter("deduplicated"));
+
+    var result = handler.invoke(new Object[]{"resource", "1", headers("token", "process", "id")});
+
+    assertThat(result).isSameAs(response);
+  }
+
+  @Test
+  void expectBodyChangesOfCoalescedCallerAreNotVisibleToOthers() throws Exception {
+    var first = call("resource", "1", headers("token", "process", "first-request"));
+    var second = call("resource", "1", headers("token", "process", "second-request"));
+    awaitDeduplicated(1);
+    release.countDown();
+
+    var firstResponse = (ConnectorResponse) first.get(5, TimeUnit.SECONDS);
+    var secondResponse = (ConnectorResponse) second.get(5, TimeUnit.SECONDS);
+    firstResponse.getResponseBody().prop("id", "changed");
+
+    assertThat(secondResponse.getResponseBody().prop("id").stringValue()).isEqualTo("1");
+    assertThat(invocations.get()).isEqualTo(1);
+  }
+
+  @Test
+  void expectCallsOfDifferentAuthorizationScopesAreNotShared() throws Exception {
+    var first = call("resource", "1", headers("first-token", "process", "request"));
+    var second = call("resource", "1", headers("second-token", "process", "request"));
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isNotSameAs(second.get(5, TimeUnit.SECONDS));
+    assertThat(invocations.get()).isEqualTo(2);
+  }
+
+  @Test
+  void expectCallsWithDifferentNotIgnoredHeadersAreNotShared() throws Exception {
+    var first = call("resource", "1", headers("token", "first-process", "request"));
+    var second = call("resource", "1", headers("token", "second-process", "request"));
+    release.countDown();
+
+    first.get(5, TimeUnit.SECONDS);
+    second.get(5, TimeUnit.SECONDS);
+    assertThat(invocations.get()).isEqualTo(2);
+  }
+
+  @Test
+  void expectExceptionIsDeliveredToAllCoalescedCallers() throws Exception {
+    var first = call("resource", "missing", headers("token", "process", "request"));
+    var second = call("resource", "missing", headers("token", "process", "request"));
+    awaitDeduplicated(1);
+    release.countDown();
+
+    assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(invocations.get()).isEqualTo(1);
+  }
+
+  @Test
+  void expectNotConfiguredMethodIsNotDecorated() throws NoSuchMethodException {
+    MethodHandler delegate = argv -> null;
+    var method = Client.class.getMethod("performDelete", String.class, String.class,
+        HttpHeaders.class);
+
+    var handler = new CoalescingMethodHandlerDecorator(new DataFactoryCoalescingProperties(),
+        meterRegistry).decorate("data-factory-client", method, delegate);
+
+    assertThat(handler).isSameAs(delegate);
+  }
+
+  private CompletableFuture<Object> call(String resource, String id, HttpHeaders headers) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return methodHandler.invoke(new Object[]{resource, id, headers});
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    }, executorService);
+  }
+
+  private void awaitDeduplicated(int count) throws InterruptedException {
+    var counter = meterRegistry.get("datafactory.coalescing.calls").tag("result", "deduplicated")
+        .counter();
+    for (var i = 0; i < 500 && counter.count() < count; i++) {
+      Thread.sleep(10);
+    }
+  }
+
+  private static HttpHeaders headers(String token, String processInstanceId,
+      String requestId) {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", token);
+    headers.add("X-Source-Business-Process-Instance-Id", processInstanceId);
+    headers.add("x-request-id", requestId);
+    return headers;
+  }
+
+  private interface Client {
+
+    ConnectorResponse performGet(String resource, String id, HttpHeaders headers);
+
+    ConnectorResponse performDelete(String resource, String id, HttpHeaders headers);
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryCompressionProperties;
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import feign.Util;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class CompressionClientTest {
+
+  private static final String URL = "http://registry/pd-processing-consent";
+  private static final Request.Options OPTIONS =
+      new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+  private static final String LARGE_BODY = "{\"name\":\"value\"}".repeat(500);
+
+  private Client delegate;
+  private SimpleMeterRegistry meterRegistry;
+  private CompressionClient compressionClient;
+
+  @BeforeEach
+  void beforeEach() {
+    delegate = mock(Client.class);
+    meterRegistry = new SimpleMeterRegistry();
+    compressionClient = new CompressionClient("data-factory-client", delegate,
+        new DataFactoryCompressionProperties(), meterRegistry);
+  }
+
+  @Test
+  void expectLargeRequestBodyIsCompressed() throws IOException {
+    when(delegate.execute(any(), any())).thenReturn(response(Map.of(), new byte[0]));
+
+    compressionClient.execute(request(LARGE_BODY), OPTIONS);
+
+    var captor = ArgumentCaptor.forClass(Request.class);
+    verify(delegate).execute(captor.capture(), any());
+    var sent = captor.getValue();
+    assertThat(sent.headers().get("Content-Encoding")).containsExactly("gzip");
+    assertThat(sent.headers().get("Accept-Encoding")).containsExactly("gzip, deflate");
+    assertThat(new String(new GZIPInputStream(new ByteArrayInputStream(sent.body()))
+        .readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(LARGE_BODY);
+    assertThat(counter(CompressionClient.METRIC_ORIGINAL_BYTES, "request"))
+        .isEqualTo(LARGE_BODY.length());
+    assertThat(counter(CompressionClient.METRIC_ENCODED_BYTES, "request"))
+        .isEqualTo(sent.body().length);
+  }
+
+  @Test
+  void expectSmallRequestBodyIsSentAsIs() throws IOException {
+    when(delegate.execute(any(), any())).thenReturn(response(Map.of(), new byte[0]));
+
+    compressionClient.execute(request("{\"name\":\"value\"}"), OPTIONS);
+
+    var captor = ArgumentCaptor.forClass(Request.class);
+    verify(delegate).execute(captor.capture(), any());
+    assertThat(captor.getValue().headers()).doesNotContainKey("Content-Encoding");
+    assertThat(new String(captor.getValue().body(), StandardCharsets.UTF_8))
+        .isEqualTo("{\"name\":\"value\"}");
+  }
+
+  @Test
+  void expectCompressedResponseIsDecompressedWhileRead() throws IOException {
+    var compressed = ContentEncoding.GZIP.compress(LARGE_BODY.getBytes(StandardCharsets.UTF_8));
+    when(delegate.execute(any(), any())).thenReturn(response(
+        Map.of("Content-Encoding", List.of("gzip"),
+            "Content-Length", List.of(String.valueOf(compressed.length))), compressed));
+
+    var response = compressionClient.execute(request(null), OPTIONS);
+
+    assertThat(response.headers()).doesNotContainKeys("Content-Encoding", "Content-Length");
+    assertThat(response.body().length()).isNull();
+    assertThat(Util.toString(response.body().asReader(StandardCharsets.UTF_8)))
+        .isEqualTo(LARGE_BODY);
+    assertThat(counter(CompressionClient.METRIC_ORIGINAL_BYTES, "response"))
+        .isEqualTo(LARGE_BODY.length());
+    assertThat(counter(CompressionClient.METRIC_ENCODED_BYTES, "response"))
+        .isEqualTo(compressed.length);
+  }
+
+  @Test
+  void expectDeflateResponseIsDecompressed() throws IOException {
+    var compressed = ContentEncoding.DEFLATE.compress(
+        LARGE_BODY.getBytes(StandardCharsets.UTF_8));
+    when(delegate.execute(any(), any())).thenReturn(response(
+        Map.of("Content-Encoding", List.of("deflate")), compressed));
+
+    var response = compressionClient.execute(request(null), OPTIONS);
+
+    assertThat(Util.toString(response.body().asReader(StandardCharsets.UTF_8)))
+        .isEqualTo(LARGE_BODY);
+  }
+
+  private double counter(String name, String direction) {
+    return meterRegistry.get(name).tag("direction", direction).counter().count();
+  }
+
+  private static Request request(String body) {
+    Map<String, Collection<String>> headers = Map.of("X-Access-Token", List.of("token"));
+    return Request.create(body == null ? HttpMethod.GET : HttpMethod.POST, URL, headers,
+        body == null ? null : body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8,
+        null);
+  }
+
+  private static Response response(Map<String, Collection<String>> headers, byte[] body) {
+    return Response.builder()
+        .status(200)
+        .reason("OK")
+        .headers(headers)
+        .body(body)
+        .request(request(null))
+        .build();
+  }
+}
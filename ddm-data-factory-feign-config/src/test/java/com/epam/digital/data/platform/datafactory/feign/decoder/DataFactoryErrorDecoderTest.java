@@ -36,15 +36,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static com.epam.digital.data.platform.datafactory.feign.enums.DataFactoryError.CONSTRAINT_VIOLATION;
 import static com.epam.digital.data.platform.datafactory.feign.enums.DataFactoryError.JWT_EXPIRED;
 import static com.epam.digital.data.platform.datafactory.feign.enums.DataFactoryError.VALIDATION_ERROR;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -169,6 +174,99 @@ class DataFactoryErrorDecoderTest {
         HttpStatus.UNAUTHORIZED.name());
   }
 
+  @Test
+  void expectErrorBodyIsReadUpToMaxSize() {
+    errorDecoder = new DataFactoryErrorDecoder(objectMapper, messageResolver, errorDecoderChain,
+        16);
+    var responseBodyStr = "<html>" + "x".repeat(1024) + "</html>";
+    var response = mockResponse(HttpStatus.BAD_GATEWAY,
+        responseBodyStr.getBytes(StandardCharsets.UTF_8));
+
+    var actualException = errorDecoder.decode("key", response);
+    assertThat(actualException).isInstanceOf(SystemException.class);
+    assertThat(actualException.getLocalizedMessage()).isEqualTo(responseBodyStr.substring(0, 16));
+    assertThat(((SystemException) actualException).getCode())
+        .isEqualTo(HttpStatus.BAD_GATEWAY.name());
+  }
+
+  @Test
+  void expectJsonBodyOfClientErrorIsReadInFull() throws JsonProcessingException {
+    errorDecoder = new DataFactoryErrorDecoder(objectMapper, messageResolver, errorDecoderChain,
+        16);
+    var errors = new ArrayList<ErrorDetailDto>();
+    for (int i = 0; i < 100; i++) {
+      errors.add(new ErrorDetailDto("error", "field" + i, "value"));
+    }
+    var responseBody = objectMapper.writeValueAsBytes(ValidationErrorDto.builder()
+        .code(VALIDATION_ERROR.name()).details(new ErrorsListDto(errors)).build());
+    var response = mockResponse(HttpStatus.UNPROCESSABLE_ENTITY, responseBody).toBuilder()
+        .headers(Map.of(HttpHeaders.CONTENT_TYPE, List.of("application/json")))
+        .build();
+
+    when(messageResolver.getMessage("data-factory.error.validation-error"))
+        .thenReturn(LOCALIZED_MESSAGE);
+
+    var actualException = errorDecoder.decode("key", response);
+    assertThat(actualException).isInstanceOf(ValidationException.class);
+    assertThat(((ValidationException) actualException).getCode())
+        .isEqualTo(VALIDATION_ERROR.name());
+    assertThat(((ValidationException) actualException).getDetails().getErrors())
+        .hasSize(100)
+        .extracting(ErrorDetailDto::getField).contains("field0", "field99");
+  }
+
+  @Test
+  void expectJsonBodyOfClientErrorOverMaxSizeIsNotParsed() throws JsonProcessingException {
+    errorDecoder = new DataFactoryErrorDecoder(objectMapper, messageResolver, errorDecoderChain,
+        16, 64);
+    var errors = new ArrayList<ErrorDetailDto>();
+    for (int i = 0; i < 100; i++) {
+      errors.add(new ErrorDetailDto("error", "field" + i, "value"));
+    }
+    var responseBody = objectMapper.writeValueAsBytes(ValidationErrorDto.builder()
+        .code(VALIDATION_ERROR.name()).details(new ErrorsListDto(errors)).build());
+    var response = mockResponse(HttpStatus.UNPROCESSABLE_ENTITY, responseBody).toBuilder()
+        .headers(Map.of(HttpHeaders.CONTENT_TYPE, List.of("application/json")))
+        .build();
+
+    var actualException = errorDecoder.decode("key", response);
+    assertThat(actualException).isInstanceOf(ValidationException.class);
+    assertThat(((ValidationException) actualException).getCode())
+        .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.name());
+  }
+
+  @Test
+  void expectLocalizedTitleIsResolvedOnce() throws JsonProcessingException {
+    var responseBodyStr = objectMapper
+        .writeValueAsBytes(SystemErrorDto.builder().code(CONSTRAINT_VIOLATION.name()).build());
+
+    when(messageResolver.getMessage("data-factory.error.constraint-violation"))
+        .thenReturn(LOCALIZED_MESSAGE);
+
+    errorDecoder.decode("key", mockResponse(HttpStatus.CONFLICT, responseBodyStr));
+    var actualException = errorDecoder.decode("key",
+        mockResponse(HttpStatus.CONFLICT, responseBodyStr));
+    assertThat(actualException.getLocalizedMessage()).isEqualTo(LOCALIZED_MESSAGE);
+    verify(messageResolver, times(1)).getMessage("data-factory.error.constraint-violation");
+  }
+
+  @Test
+  void expectValidationExceptionIfNotFoundWithNotJsonBody() {
+    var response = mockResponse(HttpStatus.NOT_FOUND,
+        "<html>Not Found</html>".getBytes(StandardCharsets.UTF_8));
+
+    when(messageResolver.getMessage("data-factory.error.not-found"))
+        .thenReturn(LOCALIZED_MESSAGE);
+
+    var actualException = errorDecoder.decode("key", response);
+    assertThat(actualException).isInstanceOf(ValidationException.class);
+    assertThat(((ValidationException) actualException).getCode())
+        .isEqualTo(HttpStatus.NOT_FOUND.name());
+    assertThat(
+        ((ValidationException) actualException).getDetails().getErrors().get(0).getMessage())
+        .isEqualTo(LOCALIZED_MESSAGE);
+  }
+
   private Response mockResponse(HttpStatus status, byte[] body) {
     return Response.builder()
             .request(
@@ -16,6 +16,7 @@
 
 package com.epam.digital.data.platform.datafactory.feign.decoder;
 
+import com.epam.digital.data.platform.datafactory.feign.enums.ResponseDecodingMode;
 import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
 import feign.Request;
 import feign.RequestTemplate;
@@ -26,7 +27,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,6 +38,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 class DataFactoryResponseDecoderTest {
 
   DataFactoryResponseDecoder decoder = new DataFactoryResponseDecoder();
+  DataFactoryResponseDecoder streamingDecoder =
+      new DataFactoryResponseDecoder(ResponseDecodingMode.STREAMING);
 
   @Test
   void expectFeignResponseIsDecodedToConnectorResponse() throws IOException {
@@ -47,6 +52,85 @@ class DataFactoryResponseDecoderTest {
     assertThat(castedActualResponse.getHeaders()).isEmpty();
   }
 
+  @Test
+  void expectFeignResponseIsDecodedToConnectorResponseInStreamingMode() throws IOException {
+    var actualResponse = (ConnectorResponse) streamingDecoder.decode(
+        mockResponse(HttpStatus.OK, "[{\"prop\":\"value\"}]".getBytes()), null);
+
+    assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatus.OK.value());
+    assertThat(actualResponse.getResponseBody().elements().get(0).prop("prop").stringValue())
+        .isEqualTo("value");
+  }
+
+  @Test
+  void expectNullBodyIfResponseBodyIsEmptyInStreamingMode() throws IOException {
+    var emptyResponse = (ConnectorResponse) streamingDecoder.decode(
+        mockResponse(HttpStatus.NO_CONTENT, new byte[0]), null);
+    var blankResponse = (ConnectorResponse) streamingDecoder.decode(
+        mockResponse(HttpStatus.OK, " \n ".getBytes()), null);
+
+    assertThat(emptyResponse.getResponseBody()).isNull();
+    assertThat(blankResponse.getResponseBody()).isNull();
+  }
+
+  @Test
+  void expectRawBodyIsKeptAndParsedOnceInLazyMode() throws IOException {
+    var lazyDecoder = new DataFactoryResponseDecoder(ResponseDecodingMode.LAZY);
+    var body = "{\"prop\":\"value\"}";
+
+    var actualResponse = (ConnectorResponse) lazyDecoder.decode(
+        mockResponse(HttpStatus.OK, body.getBytes()), null);
+
+    assertThat(actualResponse.getRawBodyAsString()).isEqualTo(body);
+    assertThat(actualResponse.getResponseBody().prop("prop").stringValue()).isEqualTo("value");
+    assertThat(actualResponse.getResponseBody()).isSameAs(actualResponse.getResponseBody());
+  }
+
+  @Test
+  void expectBodyBiggerThanBufferIsParsedEagerlyInLazyMode() throws IOException {
+    var lazyDecoder = new DataFactoryResponseDecoder(ResponseDecodingMode.LAZY, 8);
+    var body = "{\"prop\":\"value\"}";
+
+    var actualResponse = (ConnectorResponse) lazyDecoder.decode(
+        mockResponse(HttpStatus.OK, body.getBytes()), null);
+
+    assertThat(actualResponse.getResponseBody().prop("prop").stringValue()).isEqualTo("value");
+    assertThat(actualResponse.getRawBodyAsString()).isEqualTo(body);
+  }
+
+  @Test
+  void expectStreamingModeAllocatesLessThanStringMode() throws IOException {
+    var body = largeJsonArray(20_000);
+    decoder.decode(mockResponse(HttpStatus.OK, body), null);
+    streamingDecoder.decode(mockResponse(HttpStatus.OK, body), null);
+
+    var stringModeAllocation = measureAllocatedBytes(decoder, body);
+    var streamingModeAllocation = measureAllocatedBytes(streamingDecoder, body);
+
+    assertThat(streamingModeAllocation).isLessThan(stringModeAllocation);
+  }
+
+  private long measureAllocatedBytes(DataFactoryResponseDecoder responseDecoder, byte[] body)
+      throws IOException {
+    var threadMxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    var threadId = Thread.currentThread().getId();
+    var response = mockResponse(HttpStatus.OK, body);
+
+    var allocatedBefore = threadMxBean.getThreadAllocatedBytes(threadId);
+    responseDecoder.decode(response, null);
+    return threadMxBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+  }
+
+  private byte[] largeJsonArray(int size) {
+    var json = new StringBuilder("[");
+    for (int i = 0; i < size; i++) {
+      json.append(i == 0 ? "" : ",")
+          .append("{\"id\":\"").append(i).append("\",\"name\":\"entity name ").append(i)
+          .append("\"}");
+    }
+    return json.append("]").toString().getBytes(StandardCharsets.UTF_8);
+  }
+
   private Response mockResponse(HttpStatus status, byte[] body) {
     return Response.builder()
             .request(
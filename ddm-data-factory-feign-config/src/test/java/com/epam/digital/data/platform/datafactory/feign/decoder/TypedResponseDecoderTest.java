@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.decoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import com.epam.digital.data.platform.datafactory.feign.model.response.TypedConnectorResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TypedResponseDecoderTest {
+
+  TypedResponseDecoder decoder =
+      new TypedResponseDecoder(new ObjectMapper(), new DataFactoryResponseDecoder());
+
+  @Test
+  void expectBodyIsMappedToTypedConnectorResponse() throws IOException {
+    Type type = new TypeReference<TypedConnectorResponse<Entity>>() {}.getType();
+
+    var actualResponse = (TypedConnectorResponse<?>) decoder.decode(
+        response(200, "{\"id\":\"1\",\"name\":\"entity\"}"), type);
+
+    assertThat(actualResponse.getStatusCode()).isEqualTo(200);
+    assertThat(actualResponse.getHeaders()).containsEntry("etag", List.of("\"1\""));
+    assertThat(actualResponse.getBody()).isInstanceOf(Entity.class);
+    assertThat(((Entity) actualResponse.getBody()).getName()).isEqualTo("entity");
+  }
+
+  @Test
+  void expectBodyIsMappedToReturnType() throws IOException {
+    Type type = new TypeReference<List<Entity>>() {}.getType();
+
+    var actualBody = decoder.decode(response(200, "[{\"id\":\"1\"},{\"id\":\"2\"}]"), type);
+
+    assertThat(actualBody).asList().extracting("id").containsExactly("1", "2");
+  }
+
+  @Test
+  void expectNullBodyIfResponseBodyIsBlank() throws IOException {
+    Type type = new TypeReference<TypedConnectorResponse<Entity>>() {}.getType();
+
+    var emptyResponse = (TypedConnectorResponse<?>) decoder.decode(response(204, ""), type);
+    var blankResponse = (TypedConnectorResponse<?>) decoder.decode(response(200, " \n "), type);
+
+    assertThat(emptyResponse.getStatusCode()).isEqualTo(204);
+    assertThat(emptyResponse.getBody()).isNull();
+    assertThat(blankResponse.getBody()).isNull();
+  }
+
+  @Test
+  void expectConnectorResponseIsDecodedByDelegate() throws IOException {
+    var actualResponse = decoder.decode(response(200, "{\"id\":\"1\"}"), ConnectorResponse.class);
+
+    assertThat(actualResponse).isInstanceOf(ConnectorResponse.class);
+    assertThat(((ConnectorResponse) actualResponse).getResponseBody().prop("id").stringValue())
+        .isEqualTo("1");
+  }
+
+  private Response response(int status, String body) {
+    return Response.builder()
+        .request(Request.create(Request.HttpMethod.GET, "url", Collections.emptyMap(),
+            new byte[]{}, StandardCharsets.UTF_8, new RequestTemplate()))
+        .headers(Map.of("etag", List.of("\"1\"")))
+        .body(body.getBytes(StandardCharsets.UTF_8))
+        .status(status)
+        .build();
+  }
+
+  static class Entity {
+
+    private String id;
+    private String name;
+
+    public String getId() {
+      return id;
+    }
+
+    public void setId(String id) {
+      this.id = id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+}
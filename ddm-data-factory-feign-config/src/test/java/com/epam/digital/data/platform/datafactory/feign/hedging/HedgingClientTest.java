@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import feign.Client;
+import feign.Contract;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.RequestLine;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HedgingClientTest {
+
+  private static final Request.Options OPTIONS =
+      new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+
+  private Client delegate;
+  private ExecutorService executor;
+  private SimpleMeterRegistry meterRegistry;
+  private LatencyWindow latencies;
+
+  @BeforeEach
+  void beforeEach() {
+    delegate = mock(Client.class);
+    executor = Executors.newCachedThreadPool();
+    meterRegistry = new SimpleMeterRegistry();
+    latencies = new LatencyWindow(10, 0.5, 1);
+    latencies.record(TimeUnit.MILLISECONDS.toNanos(1));
+  }
+
+  @AfterEach
+  void afterEach() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void expectHedgedAttemptWinsWhenFirstAttemptIsSlow() throws Exception {
+    var request = request("performGet");
+    var release = new CountDownLatch(1);
+    var slow = response(request, 200);
+    var fast = response(request, 200);
+    when(delegate.execute(any(), any())).thenAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return slow;
+    }).thenReturn(fast);
+
+    var response = client(new HedgingBudget(0.1, 1)).execute(request, OPTIONS);
+    release.countDown();
+
+    assertThat(response).isSameAs(fast);
+    verify(delegate, times(2)).execute(any(), any());
+    assertThat(count("hedged")).isEqualTo(1);
+    assertThat(count("won")).isEqualTo(1);
+  }
+
+  @Test
+  void expectNoHedgedAttemptWhenBudgetIsExhausted() throws IOException {
+    var request = request("performGet");
+    var primary = response(request, 200);
+    when(delegate.execute(any(), any())).thenAnswer(invocation -> {
+      TimeUnit.MILLISECONDS.sleep(100);
+      return primary;
+    });
+
+    var response = client(new HedgingBudget(0, 0)).execute(request, OPTIONS);
+
+    assertThat(response).isSameAs(primary);
+    verify(delegate).execute(any(), any());
+    assertThat(count("budget-exhausted")).isEqualTo(1);
+  }
+
+  @Test
+  void expectNotHedgedMethodIsCalledOnCallingThread() throws IOException {
+    var request = request("performPost");
+    var thread = new Thread[1];
+    when(delegate.execute(any(), any())).thenAnswer(invocation -> {
+      thread[0] = Thread.currentThread();
+      return response(request, 201);
+    });
+
+    client(new HedgingBudget(0.1, 1)).execute(request, OPTIONS);
+
+    assertThat(thread[0]).isSameAs(Thread.currentThread());
+  }
+
+  private HedgingClient client(HedgingBudget budget) {
+    return new HedgingClient(delegate, Set.of("performGet"), latencies, budget,
+        TimeUnit.MILLISECONDS.toNanos(20), executor, counter("hedged"), counter("won"),
+        counter("budget-exhausted"));
+  }
+
+  private Counter counter(String result) {
+    return meterRegistry.counter(HedgingClientDecorator.METRIC_HEDGING, "result", result);
+  }
+
+  private double count(String result) {
+    return counter(result).count();
+  }
+
+  private static Request request(String method) {
+    var template = new RequestTemplate();
+    new Contract.Default().parseAndValidateMetadata(TestClient.class).stream()
+        .filter(metadata -> metadata.configKey().startsWith("TestClient#" + method))
+        .findFirst()
+        .ifPresent(template::methodMetadata);
+    return Request.create(HttpMethod.GET, "http://registry/pd-processing-consent", Map.of(),
+        null, StandardCharsets.UTF_8, template);
+  }
+
+  private static Response response(Request request, int status) {
+    return Response.builder()
+        .request(request)
+        .status(status)
+        .headers(Map.of())
+        .build();
+  }
+
+  interface TestClient {
+
+    @RequestLine("GET /pd-processing-consent")
+    Response performGet();
+
+    @RequestLine("POST /pd-processing-consent")
+    Response performPost();
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryHttpClientProperties;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DataFactoryHttpClientProviderTest {
+
+  private DataFactoryHttpClientProvider httpClientProvider;
+
+  @BeforeEach
+  void beforeEach() {
+    var properties = new DataFactoryHttpClientProperties();
+    properties.setMaxRequestsPerHost(10);
+    properties.setReadTimeout(Duration.ofSeconds(5));
+    properties.setHttp2PriorKnowledgeClients(Set.of("data-factory-client"));
+    httpClientProvider = new DataFactoryHttpClientProvider(properties);
+  }
+
+  @AfterEach
+  void afterEach() {
+    httpClientProvider.close();
+  }
+
+  @Test
+  void expectSameHttpClientIsSharedBetweenFeignClients() {
+    var gatewayClient = httpClientProvider.getHttpClient("platform-gateway-client");
+    var excerptClient = httpClientProvider.getHttpClient("excerpt-client");
+
+    assertThat(gatewayClient).isSameAs(excerptClient);
+    assertThat(gatewayClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(10);
+    assertThat(gatewayClient.readTimeoutMillis()).isEqualTo(5000);
+  }
+
+  @Test
+  void expectHttp2PriorKnowledgeClientSharesConnectionPoolAndDispatcher() {
+    var sharedClient = httpClientProvider.getHttpClient();
+    var registryClient = httpClientProvider.getHttpClient("data-factory-client");
+
+    assertThat(registryClient).isNotSameAs(sharedClient)
+        .isSameAs(httpClientProvider.getHttpClient("data-factory-client"));
+    assertThat(registryClient.protocols()).containsExactly(Protocol.H2_PRIOR_KNOWLEDGE);
+    assertThat(registryClient.connectionPool()).isSameAs(sharedClient.connectionPool());
+    assertThat(registryClient.dispatcher()).isSameAs(sharedClient.dispatcher());
+  }
+
+  @Test
+  void expectPoolStateIsExposedAsMetrics() {
+    var registry = new SimpleMeterRegistry();
+
+    new DataFactoryHttpClientMetrics(httpClientProvider).bindTo(registry);
+
+    assertThat(registry.get("datafactory.http.pool.connections").tag("state", "idle").gauge()
+        .value()).isZero();
+    assertThat(registry.get("datafactory.http.dispatcher.calls").gauges()).hasSize(2);
+    assertThat(registry.get("datafactory.http.requests.available").gauge().value())
+        .isEqualTo(256);
+  }
+
+  @Test
+  void expectSynchronousCallWaitsForPermitUntilResponseBodyIsClosed() throws Exception {
+    var server = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+    server.start();
+    var properties = new DataFactoryHttpClientProperties();
+    properties.setMaxRequests(2);
+    properties.setMaxRequestsPerHost(1);
+    var limitedProvider = new DataFactoryHttpClientProvider(properties);
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      server.stubFor(get(anyUrl()).willReturn(aResponse().withStatus(200).withBody("body")));
+      var httpClient = limitedProvider.getHttpClient();
+      var request = new Request.Builder().url(server.baseUrl() + "/entity").build();
+
+      var firstResponse = httpClient.newCall(request).execute();
+      var secondResponse = executor.submit(() -> {
+        try (var response = httpClient.newCall(request).execute()) {
+          return response.body().string();
+        }
+      });
+
+      assertThatThrownBy(() -> secondResponse.get(200, TimeUnit.MILLISECONDS))
+          .isInstanceOf(TimeoutException.class);
+      assertThat(limitedProvider.getAvailableRequests()).isEqualTo(1);
+      firstResponse.close();
+      assertThat(secondResponse.get(5, TimeUnit.SECONDS)).isEqualTo("body");
+      assertThat(limitedProvider.getAvailableRequests()).isEqualTo(2);
+    } finally {
+      executor.shutdownNow();
+      limitedProvider.close();
+      server.stop();
+    }
+  }
+
+  @Test
+  void expectCallsWaitingForSaturatedHostDontBlockOtherHosts() throws Exception {
+    var server = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+    server.start();
+    var properties = new DataFactoryHttpClientProperties();
+    properties.setMaxRequests(2);
+    properties.setMaxRequestsPerHost(1);
+    var limitedProvider = new DataFactoryHttpClientProvider(properties);
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      server.stubFor(get(anyUrl()).willReturn(aResponse().withStatus(200).withBody("body")));
+      var httpClient = limitedProvider.getHttpClient();
+      var saturatedHost = new Request.Builder()
+          .url("http://localhost:" + server.port() + "/entity").build();
+
+      var firstResponse = httpClient.newCall(saturatedHost).execute();
+      var queuedResponse = executor.submit(() -> {
+        try (var response = httpClient.newCall(saturatedHost).execute()) {
+          return response.body().string();
+        }
+      });
+      TimeUnit.MILLISECONDS.sleep(100);
+
+      try (var otherHostResponse = httpClient.newCall(new Request.Builder()
+          .url("http://127.0.0.1:" + server.port() + "/entity").build()).execute()) {
+        assertThat(otherHostResponse.body().string()).isEqualTo("body");
+      }
+      assertThat(queuedResponse.isDone()).isFalse();
+      firstResponse.close();
+      assertThat(queuedResponse.get(5, TimeUnit.SECONDS)).isEqualTo("body");
+    } finally {
+      executor.shutdownNow();
+      limitedProvider.close();
+      server.stop();
+    }
+  }
+
+  @Test
+  void expectWaitForPermitIsBoundedByTimeout() throws Exception {
+    var server = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+    server.start();
+    var properties = new DataFactoryHttpClientProperties();
+    properties.setMaxRequestsPerHost(1);
+    properties.setReadTimeout(Duration.ofMillis(200));
+    var limitedProvider = new DataFactoryHttpClientProvider(properties);
+    try {
+      server.stubFor(get(anyUrl()).willReturn(aResponse().withStatus(200).withBody("body")));
+      var httpClient = limitedProvider.getHttpClient();
+      var request = new Request.Builder().url(server.baseUrl() + "/entity").build();
+
+      try (var ignored = httpClient.newCall(request).execute()) {
+        assertThatThrownBy(() -> httpClient.newCall(request).execute())
+            .isInstanceOf(InterruptedIOException.class)
+            .hasMessage("Timed out waiting for request permit");
+      }
+      assertThat(limitedProvider.getAvailableRequests())
+          .isEqualTo(properties.getMaxRequests());
+    } finally {
+      limitedProvider.close();
+      server.stop();
+    }
+  }
+}
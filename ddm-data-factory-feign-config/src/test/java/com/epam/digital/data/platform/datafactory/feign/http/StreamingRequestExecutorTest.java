@@ -0,0 +1,193 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryHttpClientProperties;
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryErrorDecoder;
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryResponseDecoder;
+import com.epam.digital.data.platform.datafactory.feign.enums.ResponseDecodingMode;
+import com.epam.digital.data.platform.datafactory.feign.model.request.RequestBodySource;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.RequestInterceptor;
+import feign.codec.ErrorDecoder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+class StreamingRequestExecutorTest {
+
+  private static final String BODY = "[{\"name\":\"consent\"}]";
+
+  private WireMockServer wireMockServer;
+  private DataFactoryHttpClientProvider httpClientProvider;
+
+  @BeforeEach
+  void beforeEach() {
+    wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+    wireMockServer.start();
+    httpClientProvider = new DataFactoryHttpClientProvider(new DataFactoryHttpClientProperties());
+  }
+
+  @AfterEach
+  void afterEach() {
+    httpClientProvider.close();
+    wireMockServer.stop();
+  }
+
+  @Test
+  void expectBodyOfKnownLengthIsSentWithContentLength() throws IOException {
+    wireMockServer.stubFor(post(urlPathEqualTo("/consent/batch"))
+        .willReturn(aResponse().withStatus(201).withBody("{\"id\":1}")));
+
+    var response = executor(List.of()).execute(HttpMethod.POST, new String[]{"consent", "batch"},
+        RequestBodySource.of(BODY.getBytes(StandardCharsets.UTF_8)), new HttpHeaders(),
+        "DataFactoryFeignClient#performPostBatch");
+
+    assertThat(response.getStatusCode()).isEqualTo(201);
+    wireMockServer.verify(postRequestedFor(urlPathEqualTo("/consent/batch"))
+        .withHeader(HttpHeaders.CONTENT_LENGTH, equalTo(String.valueOf(BODY.length())))
+        .withHeader(HttpHeaders.TRANSFER_ENCODING, absent())
+        .withRequestBody(equalTo(BODY)));
+  }
+
+  @Test
+  void expectBodyOfUnknownLengthIsSentChunked() throws IOException {
+    wireMockServer.stubFor(post(urlPathEqualTo("/consent"))
+        .willReturn(aResponse().withStatus(201).withBody("{}")));
+
+    executor(List.of()).execute(HttpMethod.POST, new String[]{"consent"},
+        RequestBodySource.of(new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8))),
+        new HttpHeaders(), "DataFactoryFeignClient#performPost");
+
+    wireMockServer.verify(postRequestedFor(urlPathEqualTo("/consent"))
+        .withHeader(HttpHeaders.TRANSFER_ENCODING, equalTo("chunked"))
+        .withRequestBody(equalTo(BODY)));
+  }
+
+  @Test
+  void expectRequestInterceptorsAreApplied() throws IOException {
+    wireMockServer.stubFor(post(urlPathEqualTo("/consent"))
+        .willReturn(aResponse().withStatus(201).withBody("{}")));
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    RequestInterceptor sourceSystem = template -> template.header("X-Source-System", "registry");
+    RequestInterceptor traceParent = template -> template.header("traceparent", "00-trace");
+
+    executor(List.of(sourceSystem, traceParent)).execute(HttpMethod.POST,
+        new String[]{"consent"}, RequestBodySource.of(BODY.getBytes(StandardCharsets.UTF_8)),
+        headers, "DataFactoryFeignClient#performPost");
+
+    wireMockServer.verify(postRequestedFor(urlPathEqualTo("/consent"))
+        .withHeader("X-Access-Token", equalTo("token"))
+        .withHeader("X-Source-System", equalTo("registry"))
+        .withHeader("traceparent", equalTo("00-trace")));
+  }
+
+  @Test
+  void expectErrorIsDecodedWithoutMessageResolver() {
+    wireMockServer.stubFor(post(urlPathEqualTo("/consent"))
+        .willReturn(aResponse().withStatus(500)
+            .withHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+            .withBody("{\"code\":\"RUNTIME_ERROR\"}")));
+
+    assertThatThrownBy(() -> executor(List.of()).execute(HttpMethod.POST,
+        new String[]{"consent"}, RequestBodySource.of(BODY.getBytes(StandardCharsets.UTF_8)),
+        new HttpHeaders(), "DataFactoryFeignClient#performPost"))
+        .isInstanceOfSatisfying(SystemException.class,
+            exception -> assertThat(exception.getCode()).isEqualTo("RUNTIME_ERROR"));
+  }
+
+  @Test
+  void expectRequestIsSentThroughClientDecoratorsWithMethodMetadata() throws IOException {
+    wireMockServer.stubFor(post(urlPathEqualTo("/nested/consent"))
+        .willReturn(aResponse().withStatus(201).withBody("{}")));
+    var requests = new ArrayList<Request>();
+    FeignClientDecorator decorator = new FeignClientDecorator() {
+      @Override
+      public Client decorate(String clientName, Client client) {
+        return (request, options) -> {
+          requests.add(request);
+          return client.execute(request, options);
+        };
+      }
+
+      @Override
+      public int getOrder() {
+        return 0;
+      }
+    };
+    var decoder = new DataFactoryResponseDecoder(ResponseDecodingMode.STRING, 1024 * 1024);
+    var errorDecoder = new DataFactoryErrorDecoder(new ObjectMapper(), null,
+        new ErrorDecoder.Default());
+    var executor = new StreamingRequestExecutorFactory(httpClientProvider, decoder, errorDecoder,
+        List.of(decorator), null).create("test-client", wireMockServer.baseUrl(),
+        TestClient.class);
+
+    var response = executor.execute(HttpMethod.POST, new String[]{"nested/consent"},
+        RequestBodySource.of(BODY.getBytes(StandardCharsets.UTF_8)), new HttpHeaders(),
+        "TestClient#performPost(String,String,HttpHeaders)");
+
+    assertThat(response.getStatusCode()).isEqualTo(201);
+    assertThat(requests).singleElement().satisfies(request -> {
+      assertThat(request.url()).isEqualTo(wireMockServer.baseUrl() + "/nested/consent");
+      assertThat(request.requestTemplate().methodMetadata().configKey())
+          .isEqualTo("TestClient#performPost(String,String,HttpHeaders)");
+    });
+    wireMockServer.verify(postRequestedFor(urlPathEqualTo("/nested/consent"))
+        .withRequestBody(equalTo(BODY)));
+  }
+
+  private StreamingRequestExecutor executor(List<RequestInterceptor> interceptors) {
+    var decoder = new DataFactoryResponseDecoder(ResponseDecodingMode.STRING, 1024 * 1024);
+    var errorDecoder = new DataFactoryErrorDecoder(new ObjectMapper(), null,
+        new ErrorDecoder.Default());
+    return new StreamingRequestExecutor(httpClientProvider.getHttpClient(),
+        wireMockServer.baseUrl(), decoder, errorDecoder, interceptors);
+  }
+
+  private interface TestClient {
+
+    @PostMapping("/{resource}")
+    String performPost(@PathVariable("resource") String resource, @RequestBody String body,
+        @RequestHeader HttpHeaders headers);
+  }
+}
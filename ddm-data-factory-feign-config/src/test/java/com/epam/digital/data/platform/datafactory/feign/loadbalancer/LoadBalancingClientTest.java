@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LoadBalancingClientTest {
+
+  private static final String FIRST = "http://registry-0:8080";
+  private static final String SECOND = "http://registry-1:8080";
+  private static final Request.Options OPTIONS =
+      new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+  private static final long DECAY = TimeUnit.SECONDS.toNanos(10);
+  private static final long COOLDOWN = TimeUnit.MINUTES.toNanos(1);
+
+  private Client delegate;
+  private List<Endpoint> endpoints;
+  private List<String> sentUrls;
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    delegate = mock(Client.class);
+    endpoints = List.of(new Endpoint(FIRST, DECAY), new Endpoint(SECOND, DECAY));
+    sentUrls = new ArrayList<>();
+    when(delegate.execute(any(), any())).thenAnswer(invocation -> {
+      Request request = invocation.getArgument(0);
+      sentUrls.add(request.url());
+      var status = request.url().startsWith(FIRST) ? 503 : 200;
+      return Response.builder().request(request).status(status).headers(Map.of()).build();
+    });
+  }
+
+  @Test
+  void expectFailedEndpointIsSkippedDuringCooldown() throws IOException {
+    var client = client(LoadBalancerStrategy.LEAST_OUTSTANDING);
+
+    for (int i = 0; i < 20; i++) {
+      client.execute(request(), OPTIONS);
+    }
+
+    assertThat(sentUrls).allMatch(url -> url.endsWith("/pd-processing-consent?id=1"));
+    assertThat(sentUrls.stream().filter(url -> url.startsWith(FIRST)).count())
+        .isLessThanOrEqualTo(1);
+  }
+
+  @Test
+  void expectEndpointWithLowerLatencyIsChosen() {
+    var now = System.nanoTime();
+    endpoints.forEach(Endpoint::onStart);
+    endpoints.get(0).onComplete(TimeUnit.MILLISECONDS.toNanos(100), now, false, COOLDOWN);
+    endpoints.get(1).onComplete(TimeUnit.MILLISECONDS.toNanos(1), now, false, COOLDOWN);
+    var client = client(LoadBalancerStrategy.PEAK_EWMA);
+
+    for (int i = 0; i < 20; i++) {
+      assertThat(client.choose(now).getUrl()).isEqualTo(SECOND);
+    }
+  }
+
+  private LoadBalancingClient client(LoadBalancerStrategy strategy) {
+    var meterRegistry = new SimpleMeterRegistry();
+    return new LoadBalancingClient(delegate, endpoints, strategy, COOLDOWN, Set.of(503),
+        (endpoint, failed) -> meterRegistry.timer(LoadBalancerClientDecorator.METRIC_REQUESTS,
+            "endpoint", endpoint.getUrl()));
+  }
+
+  private static Request request() {
+    return Request.create(HttpMethod.GET, FIRST + "/pd-processing-consent?id=1", Map.of(), null,
+        null, null);
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryClientMetricsProperties;
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryResponseDecoder;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import feign.Client;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+class MetricsMethodHandlerDecoratorTest {
+
+  private static final String CLIENT_NAME = "data-factory-client";
+
+  private SimpleMeterRegistry meterRegistry;
+  private MetricsMethodHandlerDecorator decorator;
+  private Method method;
+
+  @BeforeEach
+  void beforeEach() throws NoSuchMethodException {
+    meterRegistry = new SimpleMeterRegistry();
+    var properties = new DataFactoryClientMetricsProperties();
+    properties.setResourceTag(true);
+    decorator = new MetricsMethodHandlerDecorator(properties, meterRegistry);
+    method = TestClient.class.getMethod("performGet", String.class, String.class,
+        HttpHeaders.class);
+  }
+
+  @Test
+  void expectCallIsTimedWithStatusAndDecodingTimeIsRecordedSeparately() throws Throwable {
+    Decoder responseDecoder = new DataFactoryResponseDecoder();
+    var decoder = decorator.decorate(CLIENT_NAME, responseDecoder);
+    MethodHandler handler = argv -> decoder.decode(response(200, "{\"id\":1}"),
+        ConnectorResponse.class);
+
+    decorator.decorate(CLIENT_NAME, method, handler)
+        .invoke(new Object[]{"pd-processing-consent", "1", new HttpHeaders()});
+
+    var timer = meterRegistry.get(MetricsMethodHandler.METRIC_REQUESTS)
+        .tag("client", CLIENT_NAME)
+        .tag("uri", "/{resource}/{id}")
+        .tag("resource", "pd-processing-consent")
+        .tag("status", "200")
+        .tag("error", "none")
+        .timer();
+    assertThat(timer.count()).isEqualTo(1);
+    assertThat(meterRegistry.get(TimedDecoders.METRIC_DECODE).tag("decoder", "response").timer()
+        .count()).isEqualTo(1);
+    assertThat(meterRegistry.get("datafactory.client.requests.active").gauge().value()).isZero();
+  }
+
+  @Test
+  void expectResourceIsNotTaggedByDefault() throws Throwable {
+    var defaultDecorator = new MetricsMethodHandlerDecorator(
+        new DataFactoryClientMetricsProperties(), meterRegistry);
+    MethodHandler handler = argv -> null;
+
+    defaultDecorator.decorate(CLIENT_NAME, method, handler)
+        .invoke(new Object[]{"pd-processing-consent", "1", new HttpHeaders()});
+
+    assertThat(meterRegistry.get(MetricsMethodHandler.METRIC_REQUESTS)
+        .tag("resource", ClientMetricsTags.NONE)
+        .timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void expectFailedCallIsTaggedWithDataFactoryError() {
+    ErrorDecoder dataFactoryErrorDecoder = (methodKey, response) -> new SystemException(
+        SystemErrorDto.builder().code("JWT_EXPIRED").build());
+    var errorDecoder = decorator.decorate(CLIENT_NAME, dataFactoryErrorDecoder);
+    MethodHandler handler = argv -> {
+      throw errorDecoder.decode("key", response(401, "{}"));
+    };
+    var decoratedHandler = decorator.decorate(CLIENT_NAME, method, handler);
+
+    assertThatThrownBy(() -> decoratedHandler.invoke(
+        new Object[]{"pd-processing-consent", "1", new HttpHeaders()}))
+        .isInstanceOf(SystemException.class);
+    assertThat(meterRegistry.get(MetricsMethodHandler.METRIC_REQUESTS)
+        .tag("status", "401")
+        .tag("error", "JWT_EXPIRED")
+        .tag("exception", "SystemException")
+        .timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(TimedDecoders.METRIC_DECODE).tag("decoder", "error")
+        .tag("error", "JWT_EXPIRED").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void expectResponseSizeIsRecordedWhenBodyIsRead() throws Exception {
+    Client delegate = (request, options) -> Response.builder()
+        .status(200)
+        .request(request)
+        .headers(Map.of())
+        .body(new ByteArrayInputStream(new byte[]{1, 2, 3}), null)
+        .build();
+    var client = new MetricsClientDecorator(meterRegistry).decorate(CLIENT_NAME, delegate);
+
+    var response = client.execute(
+        Request.create(HttpMethod.POST, "http://registry/search/consent", Map.of(),
+            "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null),
+        new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true));
+    Util.toByteArray(response.body().asInputStream());
+
+    assertThat(meterRegistry.get(MetricsClient.METRIC_HTTP_REQUESTS).tag("status", "200").timer()
+        .count()).isEqualTo(1);
+    assertThat(meterRegistry.get(MetricsClient.METRIC_REQUEST_SIZE).summary().totalAmount())
+        .isEqualTo(2);
+    assertThat(meterRegistry.get(MetricsClient.METRIC_RESPONSE_SIZE).summary().totalAmount())
+        .isEqualTo(3);
+  }
+
+  private static Response response(int status, String body) {
+    return Response.builder()
+        .status(status)
+        .request(Request.create(HttpMethod.GET, "http://registry/pd-processing-consent/1",
+            Map.of(), null, StandardCharsets.UTF_8, null))
+        .headers(Map.of())
+        .body(body, StandardCharsets.UTF_8)
+        .build();
+  }
+
+  private interface TestClient {
+
+    @GetMapping(path = "/{resource}/{id}")
+    ConnectorResponse performGet(@PathVariable("resource") String resource,
+        @PathVariable("id") String id, @RequestHeader HttpHeaders headers);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitClientTest {
+
+  private static final Request REQUEST = Request.create(HttpMethod.GET,
+      "http://registry/pd-processing-consent", Map.of(), null, null, null);
+  private static final Request.Options OPTIONS =
+      new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+  private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  void expectCallOverLimitIsRejected() throws Exception {
+    var delegate = mock(Client.class);
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    when(delegate.execute(any(), any())).thenAnswer(invocation -> {
+      started.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return Response.builder().request(REQUEST).status(200).headers(Map.of()).build();
+    });
+    var meterRegistry = new SimpleMeterRegistry();
+    var rejections = meterRegistry.counter(ResilienceClientDecorator.METRIC_REJECTED);
+    var client = new ConcurrencyLimitClient(delegate,
+        new ConcurrencyLimiter(new VegasLimit(1, 1, 1, 100, 0.9)), 0, Set.of(503),
+        new ServiceUnavailableRejection(null), rejections);
+
+    var first = CompletableFuture.supplyAsync(() -> {
+      try {
+        return client.execute(REQUEST, OPTIONS);
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    started.await(5, TimeUnit.SECONDS);
+
+    assertThatThrownBy(() -> client.execute(REQUEST, OPTIONS))
+        .isInstanceOf(SystemException.class)
+        .extracting(e -> ((SystemException) e).getCode())
+        .isEqualTo("SERVICE_UNAVAILABLE");
+    assertThat(rejections.count()).isEqualTo(1);
+    release.countDown();
+    assertThat(first.get(5, TimeUnit.SECONDS).status()).isEqualTo(200);
+  }
+
+  @Test
+  void expectLimitGrowsWhileLatencyIsStable() {
+    var limit = new VegasLimit(10, 1, 100, 1000, 0.9);
+
+    for (int i = 0; i < 10; i++) {
+      limit.onSample(10 * MILLIS, limit.getLimit(), false);
+    }
+
+    assertThat(limit.getLimit()).isGreaterThan(10);
+  }
+
+  @Test
+  void expectLimitShrinksWhenLatencyGrows() {
+    var limit = new VegasLimit(50, 1, 100, 1000, 0.9);
+    limit.onSample(10 * MILLIS, 50, false);
+
+    for (int i = 0; i < 10; i++) {
+      limit.onSample(100 * MILLIS, limit.getLimit(), false);
+    }
+
+    assertThat(limit.getLimit()).isLessThan(50);
+  }
+
+  @Test
+  void expectLimitShrinksOnDroppedCalls() {
+    var limit = new VegasLimit(100, 1, 100, 1000, 0.5);
+
+    limit.onSample(10 * MILLIS, 100, true);
+
+    assertThat(limit.getLimit()).isEqualTo(50);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryCircuitBreakerProperties;
+import com.epam.digital.data.platform.datafactory.feign.resilience.CircuitBreaker.State;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResilienceClientTest {
+
+  private static final Request REQUEST = Request.create(HttpMethod.GET,
+      "http://registry/pd-processing-consent", Map.of(), null, null, null);
+  private static final Request.Options OPTIONS =
+      new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+
+  private Client delegate;
+  private AtomicLong nanoTime;
+  private DataFactoryCircuitBreakerProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void beforeEach() {
+    delegate = mock(Client.class);
+    nanoTime = new AtomicLong();
+    meterRegistry = new SimpleMeterRegistry();
+    properties = new DataFactoryCircuitBreakerProperties();
+    properties.setSlidingWindowSize(4);
+    properties.setMinimumCalls(4);
+    properties.setPermittedCallsInHalfOpenState(2);
+    properties.setSlowCallDuration(Duration.ofSeconds(1));
+  }
+
+  @Test
+  void expectOpenCircuitBreakerFailsFast() throws IOException {
+    var circuitBreaker = circuitBreaker();
+    var client = client(circuitBreaker, new Semaphore(10));
+    when(delegate.execute(any(), any()))
+        .thenReturn(response(200), response(503), response(503), response(500));
+
+    for (int i = 0; i < 4; i++) {
+      client.execute(REQUEST, OPTIONS);
+    }
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    assertThatThrownBy(() -> client.execute(REQUEST, OPTIONS))
+        .isInstanceOf(SystemException.class)
+        .extracting(e -> ((SystemException) e).getCode())
+        .isEqualTo("SERVICE_UNAVAILABLE");
+    verify(delegate, times(4)).execute(any(), any());
+    assertThat(meterRegistry.get(ResilienceClientDecorator.METRIC_REJECTED)
+        .tag("reason", "circuit-breaker").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void expectCircuitBreakerClosesAfterSuccessfulTrialCalls() throws IOException {
+    var circuitBreaker = circuitBreaker();
+    var client = client(circuitBreaker, new Semaphore(10));
+    when(delegate.execute(any(), any())).thenThrow(new IOException("Connection refused"));
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> client.execute(REQUEST, OPTIONS)).isInstanceOf(IOException.class);
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+
+    nanoTime.addAndGet(properties.getWaitInOpenState().toNanos());
+    when(delegate.execute(any(), any())).thenReturn(response(200));
+    client.execute(REQUEST, OPTIONS);
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+    client.execute(REQUEST, OPTIONS);
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void expectSlowCallsOpenCircuitBreaker() throws IOException {
+    var circuitBreaker = circuitBreaker();
+    var client = client(circuitBreaker, new Semaphore(10));
+    when(delegate.execute(any(), any())).thenAnswer(invocation -> {
+      nanoTime.addAndGet(Duration.ofSeconds(2).toNanos());
+      return response(200);
+    });
+
+    for (int i = 0; i < 4; i++) {
+      client.execute(REQUEST, OPTIONS);
+    }
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  void expectCallIsRejectedWhenBulkheadIsFull() {
+    var client = client(circuitBreaker(), new Semaphore(0));
+
+    assertThatThrownBy(() -> client.execute(REQUEST, OPTIONS))
+        .isInstanceOf(SystemException.class);
+    assertThat(meterRegistry.get(ResilienceClientDecorator.METRIC_REJECTED)
+        .tag("reason", "bulkhead").counter().count()).isEqualTo(1);
+  }
+
+  private CircuitBreaker circuitBreaker() {
+    return new CircuitBreaker(properties, state -> {
+    });
+  }
+
+  private ResilienceClient client(CircuitBreaker circuitBreaker, Semaphore bulkhead) {
+    return new ResilienceClient(delegate, circuitBreaker, bulkhead, 0,
+        properties.getFailureStatuses(), new ServiceUnavailableRejection(null),
+        nanoTime::get, counter("bulkhead"), counter("circuit-breaker"));
+  }
+
+  private Counter counter(String reason) {
+    return meterRegistry.counter(ResilienceClientDecorator.METRIC_REJECTED, "reason", reason);
+  }
+
+  private static Response response(int status) {
+    return Response.builder()
+        .request(REQUEST)
+        .status(status)
+        .headers(Map.of("Content-Type", List.of("application/json")))
+        .build();
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryHedgingProperties;
+import com.epam.digital.data.platform.datafactory.feign.hedging.HedgingClientDecorator;
+import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import feign.Client;
+import feign.Contract;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Request;
+import feign.Param;
+import feign.Request.HttpMethod;
+import feign.RequestLine;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class TracingClientTest {
+
+  private static final Request REQUEST = Request.create(HttpMethod.GET,
+      "http://registry/pd-processing-consent/1", Map.of(), null, null, null);
+  private static final Request.Options OPTIONS =
+      new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+
+  private InMemorySpanExporter exporter;
+  private SdkTracerProvider tracerProvider;
+  private Tracer tracer;
+  private Client delegate;
+  private TracingClient tracingClient;
+
+  @BeforeEach
+  void beforeEach() {
+    exporter = InMemorySpanExporter.create();
+    tracerProvider = SdkTracerProvider.builder()
+        .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+        .build();
+    tracer = tracerProvider.get("test");
+    delegate = mock(Client.class);
+    tracingClient = new TracingClient(delegate, tracer, W3CTraceContextPropagator.getInstance());
+  }
+
+  @AfterEach
+  void afterEach() {
+    tracerProvider.close();
+  }
+
+  @Test
+  void expectHttpSpanIsChildOfCallSpanAndEndsWhenBodyIsRead() throws Throwable {
+    when(delegate.execute(any(), any())).thenReturn(response(200, "[]"));
+    var handler = handler(argv -> {
+      try (var body = tracingClient.execute(REQUEST, OPTIONS).body().asInputStream()) {
+        return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+      }
+    });
+
+    var result = handler.invoke(new Object[]{"pd-processing-consent"});
+
+    assertThat(result).isEqualTo("[]");
+    var captor = ArgumentCaptor.forClass(Request.class);
+    verify(delegate).execute(captor.capture(), any());
+    assertThat(captor.getValue().headers()).containsKey("traceparent");
+    var spans = spans();
+    var callSpan = spans.get("DataFactoryFeignClient.performGet");
+    var httpSpan = spans.get("HTTP GET");
+    assertThat(httpSpan.getParentSpanId()).isEqualTo(callSpan.getSpanId());
+    assertThat(callSpan.getAttributes().get(TracingAttributes.RESOURCE))
+        .isEqualTo("pd-processing-consent");
+    assertThat(httpSpan.getAttributes().get(TracingAttributes.HTTP_STATUS_CODE)).isEqualTo(200L);
+    assertThat(httpSpan.getEvents().stream().map(EventData::getName))
+        .containsExactly(TracingClient.EVENT_RESPONSE_HEADERS, TracingClient.EVENT_RESPONSE_BODY);
+  }
+
+  @Test
+  void expectCallSpanHasErrorCodeOfDecodedError() throws IOException {
+    var errorDto = new SystemErrorDto();
+    errorDto.setCode("SERVICE_UNAVAILABLE");
+    ErrorDecoder errorDecoder = TracingDecoders.errorDecoder(
+        (methodKey, response) -> new SystemException(errorDto), tracer);
+    when(delegate.execute(any(), any())).thenReturn(response(503, "{}"));
+    var handler = handler(argv -> {
+      throw errorDecoder.decode("DataFactoryFeignClient#performGet",
+          tracingClient.execute(REQUEST, OPTIONS));
+    });
+
+    assertThatThrownBy(() -> handler.invoke(new Object[]{"pd-processing-consent"}))
+        .isInstanceOf(SystemException.class);
+
+    var callSpan = spans().get("DataFactoryFeignClient.performGet");
+    assertThat(callSpan.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    assertThat(callSpan.getAttributes().get(TracingAttributes.ERROR_CODE))
+        .isEqualTo("SERVICE_UNAVAILABLE");
+    assertThat(callSpan.getAttributes().get(TracingAttributes.HTTP_STATUS_CODE)).isEqualTo(503L);
+    assertThat(spans()).containsKey("decode");
+  }
+
+  @Test
+  void expectHttpSpanOfHedgedAttemptIsChildOfCallSpan() throws Throwable {
+    var properties = new DataFactoryHedgingProperties();
+    properties.setMinSamples(1);
+    var threads = new ArrayList<String>();
+    when(delegate.execute(any(), any())).thenAnswer(invocation -> {
+      threads.add(Thread.currentThread().getName());
+      return response(200, "[]");
+    });
+    var request = hedgedRequest();
+    try (var hedging = new HedgingClientDecorator(properties, new SimpleMeterRegistry())) {
+      var client = hedging.decorate("data-factory-client",
+          new TracingClientDecorator(tracer, W3CTraceContextPropagator.getInstance())
+              .decorate("data-factory-client", delegate));
+      client.execute(request, OPTIONS).close();
+      exporter.reset();
+
+      handler(argv -> {
+        client.execute(request, OPTIONS).close();
+        return null;
+      }).invoke(new Object[]{"pd-processing-consent"});
+    }
+
+    assertThat(threads.get(1)).startsWith("data-factory-hedging-");
+    var captor = ArgumentCaptor.forClass(Request.class);
+    verify(delegate, times(2)).execute(captor.capture(), any());
+    var spans = spans();
+    var callSpan = spans.get("DataFactoryFeignClient.performGet");
+    var httpSpan = spans.get("HTTP GET");
+    assertThat(httpSpan.getParentSpanId()).isEqualTo(callSpan.getSpanId());
+    assertThat(httpSpan.getTraceId()).isEqualTo(callSpan.getTraceId());
+    assertThat(captor.getValue().headers().get("traceparent").iterator().next())
+        .contains(callSpan.getTraceId());
+  }
+
+  private TracingMethodHandler handler(MethodHandler delegate) {
+    return new TracingMethodHandler(delegate, tracer, "DataFactoryFeignClient.performGet",
+        "data-factory-client", "DataFactoryFeignClient#performGet(String)", "/{resource}", 0, -1);
+  }
+
+  private Map<String, SpanData> spans() {
+    return exporter.getFinishedSpanItems().stream()
+        .collect(Collectors.toMap(SpanData::getName, span -> span, (first, second) -> first));
+  }
+
+  private static Request hedgedRequest() {
+    var template = new RequestTemplate();
+    new Contract.Default().parseAndValidateMetadata(TestClient.class).stream()
+        .findFirst()
+        .ifPresent(template::methodMetadata);
+    return Request.create(HttpMethod.GET, REQUEST.url(), Map.of(), null, null, template);
+  }
+
+  private static Response response(int status, String body) {
+    return Response.builder()
+        .request(REQUEST)
+        .status(status)
+        .headers(Map.of("Content-Type", List.of("application/json")))
+        .body(body, StandardCharsets.UTF_8)
+        .build();
+  }
+
+  interface TestClient {
+
+    @RequestLine("GET /{resource}")
+    String performGet(@Param("resource") String resource);
+  }
+}
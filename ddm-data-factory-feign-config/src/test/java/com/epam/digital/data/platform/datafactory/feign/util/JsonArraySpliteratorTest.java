@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.feign.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class JsonArraySpliteratorTest {
+
+  @Test
+  void expectArrayElementsAreReadAsNodes() {
+    var inputStream = new TrackingInputStream("[{\"id\":\"1\"},{\"id\":\"2\",\"tags\":[1,2]}]");
+
+    var ids = JsonArraySpliterator.stream(JsonArraySpliterator.nodes(inputStream))
+        .map(node -> node.prop("id").stringValue())
+        .collect(Collectors.toList());
+
+    assertThat(ids).containsExactly("1", "2");
+    assertThat(inputStream.closed).isTrue();
+  }
+
+  @Test
+  void expectArrayElementsAreReadFromPagedResponse() {
+    var inputStream = new TrackingInputStream("{\"totalElements\":2,\"sort\":{\"by\":\"id\"},"
+        + "\"content\":[{\"id\":\"1\"},{\"id\":\"2\"}]}");
+
+    var count = JsonArraySpliterator.stream(JsonArraySpliterator.nodes(inputStream)).count();
+
+    assertThat(count).isEqualTo(2);
+  }
+
+  @Test
+  void expectArrayElementsAreMappedToType() {
+    var inputStream = new TrackingInputStream("[{\"id\":\"1\",\"amount\":10}]");
+
+    var rows = JsonArraySpliterator.stream(JsonArraySpliterator.values(inputStream, Row.class))
+        .collect(Collectors.toList());
+
+    assertThat(rows).hasSize(1);
+    assertThat(rows.get(0).id).isEqualTo("1");
+    assertThat(rows.get(0).amount).isEqualTo(10);
+  }
+
+  @Test
+  void expectInputIsClosedWhenStreamIsClosedBeforeArrayEnd() {
+    var inputStream = new TrackingInputStream("[{\"id\":\"1\"},{\"id\":\"2\"}]");
+
+    try (var rows = JsonArraySpliterator.stream(JsonArraySpliterator.nodes(inputStream))) {
+      assertThat(rows.findFirst()).isPresent();
+    }
+
+    assertThat(inputStream.closed).isTrue();
+  }
+
+  @Test
+  void expectNoElementsForEmptyBody() {
+    var count = JsonArraySpliterator.stream(JsonArraySpliterator.nodes(new TrackingInputStream("")))
+        .count();
+
+    assertThat(count).isZero();
+  }
+
+  static class Row {
+
+    public String id;
+    public int amount;
+  }
+
+  private static class TrackingInputStream extends ByteArrayInputStream {
+
+    private boolean closed;
+
+    private TrackingInputStream(String json) {
+      super(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.reactive.it.client;
+
+import com.epam.digital.data.platform.datafactory.factory.client.DataFactoryFeignClient;
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryFeignDecoderConfiguration;
+import com.epam.digital.data.platform.datafactory.reactive.it.config.WireMockConfig;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest(classes = {DataFactoryFeignDecoderConfiguration.class, WireMockConfig.class},
+    webEnvironment = WebEnvironment.NONE)
+@EnableAutoConfiguration
+@EnableFeignClients(clients = DataFactoryFeignClient.class)
+public abstract class BaseIT {
+
+  @Autowired
+  @Qualifier("dataFactoryWireMock")
+  protected WireMockServer dataFactoryWireMock;
+  @Autowired
+  @Qualifier("platformGatewayWireMock")
+  protected WireMockServer platformGatewayWireMock;
+}
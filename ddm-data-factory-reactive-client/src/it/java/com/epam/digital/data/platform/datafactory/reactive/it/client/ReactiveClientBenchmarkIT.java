@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.reactive.it.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.datafactory.factory.client.DataFactoryFeignClient;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import com.epam.digital.data.platform.datafactory.reactive.client.ReactiveDataFactoryClient;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
+
+/**
+ * Compares feign/okhttp client with limited thread pool and reactive client with event loop on
+ * the same amount of concurrent calls to a slow data factory stub.
+ */
+@Slf4j
+class ReactiveClientBenchmarkIT extends BaseIT {
+
+  private static final int CALLS = 2000;
+  private static final int FEIGN_THREADS = 32;
+  private static final int RESPONSE_DELAY_MILLIS = 50;
+
+  @Autowired
+  private ReactiveDataFactoryClient reactiveDataFactoryClient;
+  @Autowired
+  private DataFactoryFeignClient dataFactoryFeignClient;
+
+  @BeforeEach
+  void beforeEach() {
+    dataFactoryWireMock.stubFor(get(urlPathMatching("/benchmarkResource/.*"))
+        .willReturn(aResponse().withStatus(200)
+            .withHeader("Content-Type", "application/json")
+            .withFixedDelay(RESPONSE_DELAY_MILLIS)
+            .withBody("{\"id\": \"value\", \"name\": \"benchmark entity\"}")));
+  }
+
+  @Test
+  void shouldCompareFeignAndReactiveThroughput() {
+    var headers = new HttpHeaders();
+    reactiveDataFactoryClient.performGet("benchmarkResource", "warmup", headers).block();
+    dataFactoryFeignClient.performGet("benchmarkResource", "warmup", headers);
+
+    var feignStart = System.nanoTime();
+    var feignResponses = performFeignCalls(headers);
+    var feignMillis = (System.nanoTime() - feignStart) / 1_000_000;
+
+    var reactiveStart = System.nanoTime();
+    var reactiveResponses = Flux.range(0, CALLS)
+        .flatMap(i -> reactiveDataFactoryClient
+            .performGet("benchmarkResource", String.valueOf(i), headers), CALLS)
+        .collectList()
+        .block();
+    var reactiveMillis = (System.nanoTime() - reactiveStart) / 1_000_000;
+
+    log.info("{} calls with {} ms delay: feign with {} threads took {} ms, reactive took {} ms",
+        CALLS, RESPONSE_DELAY_MILLIS, FEIGN_THREADS, feignMillis, reactiveMillis);
+    assertThat(feignResponses).hasSize(CALLS)
+        .allMatch(response -> response.getStatusCode() == 200);
+    assertThat(reactiveResponses).hasSize(CALLS)
+        .allMatch(response -> response.getStatusCode() == 200);
+  }
+
+  private ArrayList<ConnectorResponse> performFeignCalls(HttpHeaders headers) {
+    var executor = Executors.newFixedThreadPool(FEIGN_THREADS);
+    try {
+      var futures = new ArrayList<CompletableFuture<ConnectorResponse>>();
+      for (int i = 0; i < CALLS; i++) {
+        var id = String.valueOf(i);
+        futures.add(CompletableFuture.supplyAsync(
+            () -> dataFactoryFeignClient.performGet("benchmarkResource", id, headers), executor));
+      }
+      var responses = new ArrayList<ConnectorResponse>();
+      futures.forEach(future -> responses.add(future.join()));
+      return responses;
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.reactive.it.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.datafactory.feign.model.request.StartBpRequest;
+import com.epam.digital.data.platform.datafactory.reactive.client.ReactiveDataFactoryClient;
+import com.epam.digital.data.platform.datafactory.reactive.client.ReactivePlatformGatewayClient;
+import com.epam.digital.data.platform.datafactory.reactive.config.ReactiveDataFactoryHttpConnector;
+import com.epam.digital.data.platform.starter.errorhandling.exception.ConstraintViolationException;
+import com.epam.digital.data.platform.starter.errorhandling.exception.SystemException;
+import com.epam.digital.data.platform.starter.errorhandling.exception.ValidationException;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+
+class ReactiveDataFactoryClientIT extends BaseIT {
+
+  @Autowired
+  private ReactiveDataFactoryClient reactiveDataFactoryClient;
+  @Autowired
+  private ReactivePlatformGatewayClient reactivePlatformGatewayClient;
+  @Autowired
+  private ReactiveDataFactoryHttpConnector reactiveDataFactoryHttpConnector;
+  @Autowired
+  private ObjectProvider<ClientHttpConnector> clientHttpConnectors;
+
+  @Test
+  void shouldNotShareConnectorWithOtherWebClients() {
+    assertThat(clientHttpConnectors.stream())
+        .doesNotContain(reactiveDataFactoryHttpConnector.getConnector());
+  }
+
+  @Test
+  void shouldPerformGet() {
+    dataFactoryWireMock.stubFor(get(urlPathEqualTo("/testResource/testId"))
+        .willReturn(aResponse().withStatus(200)
+            .withHeader("Content-Type", "application/json")
+            .withBody("{\"testGet\": \"dataToRead\"}")));
+
+    var response = reactiveDataFactoryClient
+        .performGet("testResource", "testId", new HttpHeaders()).block();
+
+    assertThat(response).isNotNull();
+    assertThat(response.getStatusCode()).isEqualTo(200);
+    assertThat(response.getResponseBody().prop("testGet").value()).isEqualTo("dataToRead");
+  }
+
+  @Test
+  void shouldEmitSearchElements() {
+    dataFactoryWireMock.stubFor(post(urlPathEqualTo("/search/testResource"))
+        .withRequestBody(equalToJson("{\"name\": \"testName\"}"))
+        .willReturn(aResponse().withStatus(200)
+            .withHeader("Content-Type", "application/json")
+            .withBody("[{\"id\": \"1\"}, {\"id\": \"2\"}]")));
+
+    var elements = reactiveDataFactoryClient
+        .searchElements("testResource", Map.of("name", "testName"), new HttpHeaders())
+        .collectList().block();
+
+    assertThat(elements).hasSize(2);
+    assertThat(elements.get(1).prop("id").stringValue()).isEqualTo("2");
+  }
+
+  @Test
+  void shouldReturnNullBodyForEmptyResponse() {
+    dataFactoryWireMock.stubFor(post(urlPathEqualTo("/testResource"))
+        .willReturn(aResponse().withStatus(201)));
+
+    var response = reactiveDataFactoryClient
+        .performPost("testResource", "{}", new HttpHeaders()).block();
+
+    assertThat(response.getStatusCode()).isEqualTo(201);
+    assertThat(response.getResponseBody()).isNull();
+  }
+
+  @Test
+  void shouldMapErrorsAsFeignErrorDecoder() {
+    dataFactoryWireMock.stubFor(get(urlPathEqualTo("/testResource/notFound"))
+        .willReturn(aResponse().withStatus(404).withBody("{\"code\": \"NOT_FOUND\"}")));
+    dataFactoryWireMock.stubFor(get(urlPathEqualTo("/testResource/conflict"))
+        .willReturn(aResponse().withStatus(409).withBody("{\"code\": \"CONSTRAINT_VIOLATION\"}")));
+    dataFactoryWireMock.stubFor(get(urlPathEqualTo("/testResource/unavailable"))
+        .willReturn(aResponse().withStatus(503).withBody("<html>unavailable</html>")));
+
+    var notFound = assertThrows(ValidationException.class, () -> reactiveDataFactoryClient
+        .performGet("testResource", "notFound", new HttpHeaders()).block());
+    var conflict = assertThrows(ConstraintViolationException.class, () -> reactiveDataFactoryClient
+        .performGet("testResource", "conflict", new HttpHeaders()).block());
+    var unavailable = assertThrows(SystemException.class, () -> reactiveDataFactoryClient
+        .performGet("testResource", "unavailable", new HttpHeaders()).block());
+
+    assertThat(notFound.getDetails().getErrors().get(0).getMessage())
+        .isEqualTo("Ресурс не знайдено");
+    assertThat(conflict.getCode()).isEqualTo("CONSTRAINT_VIOLATION");
+    assertThat(unavailable.getCode()).isEqualTo("SERVICE_UNAVAILABLE");
+  }
+
+  @Test
+  void shouldStartBp() {
+    platformGatewayWireMock.stubFor(post(urlPathEqualTo("/bp-gateway/testRegistry/api/start-bp"))
+        .withRequestBody(equalToJson("{\"businessProcessDefinitionKey\":\"processDefinition\","
+            + "\"startVariables\":{\"startVar\":\"startValue\"}}"))
+        .willReturn(aResponse().withStatus(200)
+            .withHeader("Content-Type", "application/json")
+            .withBody("{\"resultVariables\":{\"variable\":\"variableValue\"}}")));
+
+    var response = reactivePlatformGatewayClient.startBp("testRegistry",
+        StartBpRequest.builder()
+            .businessProcessDefinitionKey("processDefinition")
+            .startVariables(Map.of("startVar", "startValue"))
+            .build(),
+        new HttpHeaders()).block();
+
+    assertThat(response.getResponseBody().prop("resultVariables").prop("variable").value())
+        .isEqualTo("variableValue");
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.reactive.it.config;
+
+import com.epam.digital.data.platform.datafactory.reactive.it.util.WireMockUtil;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.MalformedURLException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class WireMockConfig {
+
+  @Bean(destroyMethod = "stop")
+  @Qualifier("dataFactoryWireMock")
+  public WireMockServer dataFactoryWireMock(@Value("${registry-rest-api.url}") String urlStr)
+      throws MalformedURLException {
+    return WireMockUtil.createAndStartMockServerForUrl(urlStr);
+  }
+
+  @Bean(destroyMethod = "stop")
+  @Qualifier("platformGatewayWireMock")
+  public WireMockServer platformGatewayWireMock(@Value("${platform-gateway.url}") String urlStr)
+      throws MalformedURLException {
+    return WireMockUtil.createAndStartMockServerForUrl(urlStr);
+  }
+}
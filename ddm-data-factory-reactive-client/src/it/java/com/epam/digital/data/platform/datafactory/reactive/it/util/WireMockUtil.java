@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.reactive.it.util;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+public final class WireMockUtil {
+
+  public static WireMockServer createAndStartMockServerForUrl(String urlStr)
+      throws MalformedURLException {
+    URL url = new URL(urlStr);
+    WireMockServer wireMockServer = new WireMockServer(wireMockConfig()
+        .port(url.getPort())
+        .containerThreads(200)
+        .asynchronousResponseEnabled(true)
+        .asynchronousResponseThreads(50));
+    wireMockServer.start();
+    return wireMockServer;
+  }
+
+  private WireMockUtil() {
+  }
+}
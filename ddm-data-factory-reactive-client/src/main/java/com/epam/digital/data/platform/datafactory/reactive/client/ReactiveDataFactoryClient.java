@@ -0,0 +1,202 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.reactive.client;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.camunda.spin.json.SpinJsonNode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The class represents a non-blocking client that is used to perform operations in data factory
+ * service. Operations are the same as in DataFactoryFeignClient.
+ */
+@RequiredArgsConstructor
+public class ReactiveDataFactoryClient {
+
+  private final WebClient webClient;
+  private final ReactiveResponseHandler responseHandler;
+
+  /**
+   * Perform GET operation for getting data factory entity by id
+   *
+   * @param resource url resource
+   * @param id       identifier for resource entity
+   * @param headers  http headers
+   * @return mapped response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> performGet(String resource, String id, HttpHeaders headers) {
+    return responseHandler.exchange(webClient.get()
+        .uri("/{resource}/{id}", resource, id)
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers)), "performGet");
+  }
+
+  /**
+   * Perform POST operation for creating data factory entity
+   *
+   * @param resource url resource
+   * @param body     request body
+   * @param headers  http headers
+   * @return mapped response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> performPost(String resource, String body, HttpHeaders headers) {
+    return responseHandler.exchange(webClient.post()
+        .uri("/{resource}", resource)
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers))
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(body), "performPost");
+  }
+
+  /**
+   * Perform PUT operation for creating nested data factory entity
+   *
+   * @param resource url resource
+   * @param body     request body
+   * @param headers  http headers
+   * @return mapped response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> performPutNested(String resource, String body,
+      HttpHeaders headers) {
+    return responseHandler.exchange(webClient.put()
+        .uri("/nested/{resource}", resource)
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers))
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(body), "performPutNested");
+  }
+
+  /**
+   * Perform PUT operation for updating data factory entity by id
+   *
+   * @param resource url resource
+   * @param id       identifier for resource entity
+   * @param body     request body
+   * @param headers  http headers
+   * @return mapped response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> performPut(String resource, String id, String body,
+      HttpHeaders headers) {
+    return responseHandler.exchange(webClient.put()
+        .uri("/{resource}/{id}", resource, id)
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers))
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(body), "performPut");
+  }
+
+  /**
+   * Perform PATCH operation for updating data factory entity by id
+   *
+   * @param resource url resource
+   * @param id       identifier for resource entity
+   * @param body     request body
+   * @param headers  http headers
+   * @return mapped response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> performPatch(String resource, String id, String body,
+      HttpHeaders headers) {
+    return responseHandler.exchange(webClient.patch()
+        .uri("/partial/{resource}/{id}", resource, id)
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers))
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(body), "performPatch");
+  }
+
+  /**
+   * Perform DELETE operation for deleting data factory entity by id
+   *
+   * @param resource url resource
+   * @param id       identifier for resource entity
+   * @param headers  http headers
+   * @return mapped response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> performDelete(String resource, String id, HttpHeaders headers) {
+    return responseHandler.exchange(webClient.delete()
+        .uri("/{resource}/{id}", resource, id)
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers)), "performDelete");
+  }
+
+  /**
+   * Perform POST operation for searching data factory entities by query params
+   *
+   * @param resource url resource
+   * @param params   request body search params
+   * @param headers  http headers
+   * @return mapped response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> performSearch(String resource, Map<String, Object> params,
+      HttpHeaders headers) {
+    return responseHandler.exchange(webClient.post()
+        .uri("/search/{resource}", resource)
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers))
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(params), "performSearch");
+  }
+
+  /**
+   * Perform POST operation for searching data factory entities by query params and emit each
+   * found entity separately
+   *
+   * @param resource url resource
+   * @param params   request body search params
+   * @param headers  http headers
+   * @return found entities
+   */
+  public Flux<SpinJsonNode> searchElements(String resource, Map<String, Object> params,
+      HttpHeaders headers) {
+    return performSearch(resource, params, headers)
+        .flatMapIterable(ReactiveResponseHandler::elements);
+  }
+
+  /**
+   * Perform POST operation for creating list of data factory entities using one of predefined
+   * upload types
+   *
+   * @param resource   url resource
+   * @param uploadType data upload type
+   * @param body       request body
+   * @param headers    http headers
+   * @return mapped response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> performPostBatch(String resource, String uploadType, String body,
+      HttpHeaders headers) {
+    return responseHandler.exchange(webClient.post()
+        .uri("/{resource}/{upload-type}", resource, uploadType)
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers))
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(body), "performPostBatch");
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.reactive.client;
+
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * The class represents a non-blocking client that is used to perform operations in excerpt
+ * service. Operations are the same as in ExcerptFeignClient.
+ */
+@RequiredArgsConstructor
+public class ReactiveExcerptClient {
+
+  private final WebClient webClient;
+  private final ReactiveResponseHandler responseHandler;
+
+  /**
+   * Perform GET operation for getting excerpt by id
+   *
+   * @param id      excerpt identifier
+   * @param headers http headers
+   * @return mapped excerpt response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> performGet(String id, HttpHeaders headers) {
+    return responseHandler.exchange(webClient.get()
+        .uri("/{id}/status", id)
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers)), "performGet");
+  }
+
+  /**
+   * Perform POST operation for excerpt creating
+   *
+   * @param body    request body
+   * @param headers http headers
+   * @return mapped excerpt response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> performPost(String body, HttpHeaders headers) {
+    return responseHandler.exchange(webClient.post()
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers))
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(body), "performPost");
+  }
+}
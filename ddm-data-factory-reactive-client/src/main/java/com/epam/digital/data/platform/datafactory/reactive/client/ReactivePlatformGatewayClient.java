@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.reactive.client;
+
+import com.epam.digital.data.platform.datafactory.feign.model.request.StartBpRequest;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.camunda.spin.json.SpinJsonNode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The class represents a non-blocking client that is used to perform operations in platform
+ * gateway service. Operations are the same as in PlatformGatewayFeignClient.
+ */
+@RequiredArgsConstructor
+public class ReactivePlatformGatewayClient {
+
+  private final WebClient webClient;
+  private final ReactiveResponseHandler responseHandler;
+
+  /**
+   * Perform GET operation for getting data factory entity by id in different registry
+   *
+   * @param registryTarget another registry to search
+   * @param resource       url resource
+   * @param id             identifier for resource entity
+   * @param headers        http headers
+   * @return mapped response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> performGet(String registryTarget, String resource, String id,
+      HttpHeaders headers) {
+    return responseHandler.exchange(webClient.get()
+        .uri("/data-factory/{registryTarget}/{resource}/{id}", registryTarget, resource, id)
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers)), "performGet");
+  }
+
+  /**
+   * Perform POST operation for searching data factory entities by query params in different
+   * registry
+   *
+   * @param registryTarget another registry to search
+   * @param resource       url resource
+   * @param params         request body search params
+   * @param headers        http headers
+   * @return mapped response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> performSearch(String registryTarget, String resource,
+      Map<String, Object> params, HttpHeaders headers) {
+    return responseHandler.exchange(webClient.post()
+        .uri("/data-factory/{registryTarget}/search/{resource}", registryTarget, resource)
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers))
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(params), "performSearch");
+  }
+
+  /**
+   * Perform POST operation for searching data factory entities by query params in different
+   * registry and emit each found entity separately
+   *
+   * @param registryTarget another registry to search
+   * @param resource       url resource
+   * @param params         request body search params
+   * @param headers        http headers
+   * @return found entities
+   */
+  public Flux<SpinJsonNode> searchElements(String registryTarget, String resource,
+      Map<String, Object> params, HttpHeaders headers) {
+    return performSearch(registryTarget, resource, params, headers)
+        .flatMapIterable(ReactiveResponseHandler::elements);
+  }
+
+  /**
+   * Perform POST operation for start business-process in different registry
+   *
+   * @param registryTarget another registry to search
+   * @param startBpRequest start business process request data
+   * @param headers        http headers
+   * @return mapped response
+   * @see ConnectorResponse
+   */
+  public Mono<ConnectorResponse> startBp(String registryTarget, StartBpRequest startBpRequest,
+      HttpHeaders headers) {
+    return responseHandler.exchange(webClient.post()
+        .uri("/bp-gateway/{registryTarget}/api/start-bp", registryTarget)
+        .accept(MediaType.APPLICATION_JSON)
+        .headers(httpHeaders -> httpHeaders.addAll(headers))
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(startBpRequest), "startBp");
+  }
+}
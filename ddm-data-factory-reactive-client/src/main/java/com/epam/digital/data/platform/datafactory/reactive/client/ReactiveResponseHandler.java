@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.reactive.client;
+
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryErrorDecoder;
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryResponseDecoder;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.camunda.spin.json.SpinJsonNode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * The class represents a handler that maps {@link ClientResponse} response of reactive clients to
+ * {@link ConnectorResponse} or to exception using the same {@link DataFactoryResponseDecoder} and
+ * {@link DataFactoryErrorDecoder} decoders as feign clients, so results and error mapping are
+ * identical for both stacks.
+ */
+@RequiredArgsConstructor
+public class ReactiveResponseHandler {
+
+  private static final byte[] EMPTY_BODY = new byte[0];
+
+  private final DataFactoryResponseDecoder responseDecoder;
+  private final DataFactoryErrorDecoder errorDecoder;
+
+  /**
+   * Exchange request and map response
+   *
+   * @param request   request to exchange
+   * @param methodKey key of the performed operation that is passed to error decoder
+   * @return mapped response or error raised by {@link DataFactoryErrorDecoder}
+   */
+  public Mono<ConnectorResponse> exchange(WebClient.RequestHeadersSpec<?> request,
+      String methodKey) {
+    return request.exchangeToMono(clientResponse -> clientResponse.bodyToMono(byte[].class)
+        .defaultIfEmpty(EMPTY_BODY)
+        .flatMap(body -> Mono.fromCallable(() -> decode(clientResponse, body, methodKey))));
+  }
+
+  /**
+   * Get elements of json array response body
+   *
+   * @param response mapped response
+   * @return array elements or empty list if there is no body
+   */
+  public static List<SpinJsonNode> elements(ConnectorResponse response) {
+    var responseBody = response.getResponseBody();
+    return Objects.isNull(responseBody) ? Collections.emptyList() : responseBody.elements();
+  }
+
+  private ConnectorResponse decode(ClientResponse clientResponse, byte[] body, String methodKey)
+      throws Exception {
+    var response = toFeignResponse(clientResponse, body);
+    if (response.status() >= 200 && response.status() < 300) {
+      return (ConnectorResponse) responseDecoder.decode(response, ConnectorResponse.class);
+    }
+    throw errorDecoder.decode(methodKey, response);
+  }
+
+  private Response toFeignResponse(ClientResponse clientResponse, byte[] body) {
+    var request = clientResponse.request();
+    var feignRequest = Request.create(Request.HttpMethod.valueOf(request.getMethodValue()),
+        request.getURI().toString(), toFeignHeaders(request.getHeaders()), null,
+        StandardCharsets.UTF_8, new RequestTemplate());
+    return Response.builder()
+        .request(feignRequest)
+        .status(clientResponse.rawStatusCode())
+        .headers(toFeignHeaders(clientResponse.headers().asHttpHeaders()))
+        .body(body.length == 0 ? null : body)
+        .build();
+  }
+
+  private static Map<String, Collection<String>> toFeignHeaders(HttpHeaders headers) {
+    return new LinkedHashMap<>(headers);
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.reactive.config;
+
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryResponseDecoderProperties;
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryErrorDecoder;
+import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryResponseDecoder;
+import com.epam.digital.data.platform.datafactory.reactive.client.ReactiveDataFactoryClient;
+import com.epam.digital.data.platform.datafactory.reactive.client.ReactiveExcerptClient;
+import com.epam.digital.data.platform.datafactory.reactive.client.ReactivePlatformGatewayClient;
+import com.epam.digital.data.platform.datafactory.reactive.client.ReactiveResponseHandler;
+import com.epam.digital.data.platform.starter.localization.MessageResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.codec.ErrorDecoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * The class represents an auto configuration of reactive data factory clients. All clients share
+ * one connection provider and event loop of reactor netty, the connector is applied only to
+ * WebClients of the clients.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ReactiveDataFactoryClientProperties.class)
+public class ReactiveDataFactoryClientAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public ReactiveDataFactoryHttpConnector reactiveDataFactoryHttpConnector(
+      ReactiveDataFactoryClientProperties properties) {
+    return new ReactiveDataFactoryHttpConnector(properties);
+  }
+
+  @Bean
+  public ReactiveResponseHandler reactiveResponseHandler(ObjectMapper objectMapper,
+      MessageResolver messageResolver, DataFactoryResponseDecoderProperties decoderProperties) {
+    var responseDecoder = new DataFactoryResponseDecoder(decoderProperties.getMode(),
+        Math.toIntExact(decoderProperties.getMaxBufferedBodySize().toBytes()));
+    var errorDecoder = new DataFactoryErrorDecoder(objectMapper, messageResolver,
+        new ErrorDecoder.Default(),
+        Math.toIntExact(decoderProperties.getMaxErrorBodySize().toBytes()),
+        Math.toIntExact(decoderProperties.getMaxValidationErrorBodySize().toBytes()));
+    return new ReactiveResponseHandler(responseDecoder, errorDecoder);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "registry-rest-api.url")
+  public ReactiveDataFactoryClient reactiveDataFactoryClient(WebClient.Builder webClientBuilder,
+      ReactiveDataFactoryHttpConnector reactiveDataFactoryHttpConnector,
+      ReactiveDataFactoryClientProperties properties,
+      ReactiveResponseHandler reactiveResponseHandler,
+      @Value("#{'${registry-rest-api.url}'.split(',')[0].trim()}") String baseUrl) {
+    return new ReactiveDataFactoryClient(
+        webClient(webClientBuilder, reactiveDataFactoryHttpConnector, properties, baseUrl),
+        reactiveResponseHandler);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "platform-gateway.url")
+  public ReactivePlatformGatewayClient reactivePlatformGatewayClient(
+      WebClient.Builder webClientBuilder,
+      ReactiveDataFactoryHttpConnector reactiveDataFactoryHttpConnector,
+      ReactiveDataFactoryClientProperties properties,
+      ReactiveResponseHandler reactiveResponseHandler,
+      @Value("#{'${platform-gateway.url}'.split(',')[0].trim()}") String baseUrl) {
+    return new ReactivePlatformGatewayClient(
+        webClient(webClientBuilder, reactiveDataFactoryHttpConnector, properties, baseUrl),
+        reactiveResponseHandler);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "excerpt-service-api.url")
+  public ReactiveExcerptClient reactiveExcerptClient(WebClient.Builder webClientBuilder,
+      ReactiveDataFactoryHttpConnector reactiveDataFactoryHttpConnector,
+      ReactiveDataFactoryClientProperties properties,
+      ReactiveResponseHandler reactiveResponseHandler,
+      @Value("#{'${excerpt-service-api.url}'.split(',')[0].trim()}") String baseUrl) {
+    return new ReactiveExcerptClient(
+        webClient(webClientBuilder, reactiveDataFactoryHttpConnector, properties,
+            baseUrl + "/excerpts"),
+        reactiveResponseHandler);
+  }
+
+  private WebClient webClient(WebClient.Builder webClientBuilder,
+      ReactiveDataFactoryHttpConnector httpConnector,
+      ReactiveDataFactoryClientProperties properties, String baseUrl) {
+    var maxInMemorySize = Math.toIntExact(properties.getMaxInMemorySize().toBytes());
+    return webClientBuilder.clone()
+        .baseUrl(baseUrl)
+        .clientConnector(httpConnector.getConnector())
+        .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySize))
+        .build();
+  }
+}
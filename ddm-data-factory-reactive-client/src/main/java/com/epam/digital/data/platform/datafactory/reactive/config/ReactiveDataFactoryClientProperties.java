@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.reactive.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * The class represents properties of non-blocking http client that is shared between reactive
+ * data factory clients.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.reactive-client")
+public class ReactiveDataFactoryClientProperties {
+
+  private int maxConnections = 500;
+  private int pendingAcquireMaxCount = 10000;
+  private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+  private Duration connectTimeout = Duration.ofSeconds(10);
+  private Duration responseTimeout = Duration.ofSeconds(60);
+  /**
+   * Max size of response body that is buffered before decoding
+   */
+  private DataSize maxInMemorySize = DataSize.ofMegabytes(64);
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.reactive.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.Getter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * The class represents the http connector that is shared by reactive data factory clients. It
+ * isn't registered as {@link org.springframework.http.client.reactive.ClientHttpConnector} bean,
+ * so other {@link org.springframework.web.reactive.function.client.WebClient}s of the application
+ * keep the connector configured by Spring Boot.
+ */
+public class ReactiveDataFactoryHttpConnector implements DisposableBean {
+
+  private final ConnectionProvider connectionProvider;
+  @Getter
+  private final ReactorClientHttpConnector connector;
+
+  public ReactiveDataFactoryHttpConnector(ReactiveDataFactoryClientProperties properties) {
+    this.connectionProvider = ConnectionProvider.builder("data-factory")
+        .maxConnections(properties.getMaxConnections())
+        .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+        .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+        .build();
+    var httpClient = HttpClient.create(connectionProvider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+            Math.toIntExact(properties.getConnectTimeout().toMillis()))
+        .responseTimeout(properties.getResponseTimeout());
+    this.connector = new ReactorClientHttpConnector(httpClient);
+  }
+
+  @Override
+  public void destroy() {
+    connectionProvider.dispose();
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.excerpt.it.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.datafactory.excerpt.it.builder.StubRequest;
+import com.epam.digital.data.platform.datafactory.excerpt.tracker.ExcerptProcessingException;
+import com.epam.digital.data.platform.datafactory.excerpt.tracker.ExcerptTracker;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+class ExcerptTrackerIT extends BaseIT {
+
+  @Autowired
+  private ExcerptTracker excerptTracker;
+  @Autowired
+  @Qualifier("excerptFeignClientWireMock")
+  private WireMockServer excerptFeignClientWireMock;
+
+  @Test
+  void shouldCompleteWhenExcerptIsCompleted() throws Exception {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockExcerptFeignClient(StubRequest.builder()
+        .path("/excerpts")
+        .method(HttpMethod.POST)
+        .status(200)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .responseBody("{\"excerptIdentifier\": \"completed-excerpt\"}")
+        .build());
+    mockStatus("completed-excerpt", Scenario.STARTED, "IN_PROGRESS", "in-progress");
+    mockStatus("completed-excerpt", "in-progress", "COMPLETED", "completed");
+
+    var response = excerptTracker.createAndTrack("{\"recordId\": \"1\"}", headers)
+        .get(5, TimeUnit.SECONDS);
+
+    assertThat(response.getResponseBody().prop("status").value()).isEqualTo("COMPLETED");
+    assertThat(excerptTracker.getPendingCount()).isZero();
+  }
+
+  @Test
+  void shouldFailWhenExcerptIsFailed() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockStatus("failed-excerpt", Scenario.STARTED, "FAILED", "failed");
+
+    var future = excerptTracker.track("failed-excerpt", headers);
+
+    assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ExcerptProcessingException.class);
+  }
+
+  @Test
+  void shouldShareFutureOfPendingExcerpt() {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", "token");
+    mockStatus("shared-excerpt", Scenario.STARTED, "IN_PROGRESS", Scenario.STARTED);
+
+    var first = excerptTracker.track("shared-excerpt", headers);
+    var second = excerptTracker.track("shared-excerpt", headers);
+    first.cancel(false);
+
+    assertThat(second).isSameAs(first);
+  }
+
+  private void mockStatus(String id, String state, String status, String nextState) {
+    excerptFeignClientWireMock.stubFor(get(urlPathEqualTo("/excerpts/" + id + "/status"))
+        .inScenario(id).whenScenarioStateIs(state)
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader("Content-Type", "application/json")
+            .withBody("{\"status\": \"" + status + "\", \"statusDetails\": \"details\"}"))
+        .willSetStateTo(nextState));
+  }
+}
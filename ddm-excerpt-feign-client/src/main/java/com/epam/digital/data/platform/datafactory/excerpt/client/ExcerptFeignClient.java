@@ -30,7 +30,8 @@ import org.springframework.web.bind.annotation.RequestHeader;
 /**
  * The interface represents a feign client and used to perform operations in excerpt service.
  */
-@FeignClient(name = "excerpt-client", url = "${excerpt-service-api.url}/excerpts",
+@FeignClient(name = "excerpt-client",
+        url = "#{'${excerpt-service-api.url}'.split(',')[0].trim()}/excerpts",
         configuration = DataFactoryFeignDecoderConfiguration.class)
 public interface ExcerptFeignClient {
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.excerpt.client;
+
+import com.epam.digital.data.platform.datafactory.feign.http.StreamingRequestExecutor;
+import com.epam.digital.data.platform.datafactory.feign.model.request.RequestBodySource;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import feign.Request.HttpMethod;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents a client that creates excerpts like {@link ExcerptFeignClient} with request
+ * bodies that are already serialized or are written directly to the connection. Requests are sent
+ * through the http client of excerpt feign client with its decorators.
+ */
+@RequiredArgsConstructor
+public class ExcerptStreamingClient {
+
+  private static final String[] EXCERPTS_PATH = {"excerpts"};
+  private static final String METHOD_KEY = "ExcerptFeignClient#performPost(String,HttpHeaders)";
+
+  private final StreamingRequestExecutor executor;
+
+  /**
+   * @see #performPost(RequestBodySource, HttpHeaders)
+   */
+  public ConnectorResponse performPost(byte[] body, HttpHeaders headers) {
+    return performPost(RequestBodySource.of(body), headers);
+  }
+
+  /**
+   * @see #performPost(RequestBodySource, HttpHeaders)
+   */
+  public ConnectorResponse performPost(InputStream body, HttpHeaders headers) {
+    return performPost(RequestBodySource.of(body), headers);
+  }
+
+  /**
+   * Perform POST operation for excerpt creating
+   *
+   * @param body    request body source
+   * @param headers http headers
+   * @return mapped excerpt response
+   * @see ExcerptFeignClient#performPost(String, HttpHeaders)
+   */
+  public ConnectorResponse performPost(RequestBodySource body, HttpHeaders headers) {
+    try {
+      return executor.execute(HttpMethod.POST, EXCERPTS_PATH, body, headers, METHOD_KEY);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
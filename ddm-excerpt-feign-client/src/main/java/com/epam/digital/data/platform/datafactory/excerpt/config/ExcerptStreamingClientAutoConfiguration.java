@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.excerpt.config;
+
+import com.epam.digital.data.platform.datafactory.excerpt.client.ExcerptFeignClient;
+import com.epam.digital.data.platform.datafactory.excerpt.client.ExcerptStreamingClient;
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryClientAutoConfiguration;
+import com.epam.digital.data.platform.datafactory.feign.http.StreamingRequestExecutorFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The class represents an auto configuration of excerpt client with streamed request bodies.
+ * Requests are sent to the first url of {@code excerpt-service-api.url} like requests of excerpt
+ * feign client.
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(DataFactoryClientAutoConfiguration.class)
+@ConditionalOnProperty(name = "excerpt-service-api.url")
+public class ExcerptStreamingClientAutoConfiguration {
+
+  @Bean
+  @ConditionalOnBean(StreamingRequestExecutorFactory.class)
+  public ExcerptStreamingClient excerptStreamingClient(
+      StreamingRequestExecutorFactory streamingRequestExecutorFactory,
+      @Value("${excerpt-service-api.url}") String urls) {
+    return new ExcerptStreamingClient(
+        streamingRequestExecutorFactory.create("excerpt-client", urls,
+            ExcerptFeignClient.class));
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.excerpt.config;
+
+import com.epam.digital.data.platform.datafactory.excerpt.client.ExcerptFeignClient;
+import com.epam.digital.data.platform.datafactory.excerpt.tracker.ExcerptTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The class represents an auto configuration of excerpt tracker that is enabled by
+ * data-factory.excerpt-tracker.enabled property.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "data-factory.excerpt-tracker", name = "enabled",
+    havingValue = "true")
+@EnableConfigurationProperties(ExcerptTrackerProperties.class)
+public class ExcerptTrackerAutoConfiguration {
+
+  @Bean
+  @ConditionalOnBean(ExcerptFeignClient.class)
+  public ExcerptTracker excerptTracker(ExcerptFeignClient excerptFeignClient,
+      ExcerptTrackerProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    return new ExcerptTracker(excerptFeignClient, properties,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+}
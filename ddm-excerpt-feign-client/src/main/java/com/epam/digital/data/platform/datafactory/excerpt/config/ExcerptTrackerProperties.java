@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.excerpt.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of excerpt tracker that polls statuses of created excerpts.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.excerpt-tracker")
+public class ExcerptTrackerProperties {
+
+  private boolean enabled;
+  /**
+   * Delay before the first poll of excerpt status
+   */
+  private Duration initialDelay = Duration.ofMillis(500);
+  private Duration maxDelay = Duration.ofSeconds(10);
+  /**
+   * Multiplier of delay after each poll that returned not terminal status
+   */
+  private double multiplier = 1.5;
+  /**
+   * Random deviation of delay, e.g. 0.2 spreads delays within +-20%
+   */
+  private double jitter = 0.2;
+  /**
+   * Max number of status polls per second of all tracked excerpts
+   */
+  private double maxPollsPerSecond = 20;
+  /**
+   * Time after which excerpt that hasn't reached terminal status fails with timeout
+   */
+  private Duration timeout = Duration.ofMinutes(10);
+  /**
+   * Number of consecutive failed polls after which excerpt fails with the last error
+   */
+  private int maxConsecutiveErrors = 5;
+  /**
+   * Number of threads that poll excerpt statuses
+   */
+  private int threads = 2;
+  /**
+   * Headers of caller token, tracking of the same excerpt is shared only by callers with the same
+   * values of these headers
+   */
+  private List<String> authorizationHeaders = List.of("X-Access-Token", "Authorization");
+  private String statusField = "status";
+  private String statusDetailsField = "statusDetails";
+  private Set<String> completedStatuses = Set.of("COMPLETED");
+  private Set<String> failedStatuses = Set.of("FAILED");
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.excerpt.tracker;
+
+import lombok.Getter;
+
+/**
+ * The class represents an exception that is raised when excerpt processing has finished with
+ * failed status.
+ */
+@Getter
+public class ExcerptProcessingException extends RuntimeException {
+
+  private final String excerptId;
+  private final String status;
+  private final String statusDetails;
+
+  public ExcerptProcessingException(String excerptId, String status, String statusDetails) {
+    super(String.format("Excerpt %s has finished with status %s: %s", excerptId, status,
+        statusDetails));
+    this.excerptId = excerptId;
+    this.status = status;
+    this.statusDetails = statusDetails;
+  }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.excerpt.tracker;
+
+import com.epam.digital.data.platform.datafactory.excerpt.client.ExcerptFeignClient;
+import com.epam.digital.data.platform.datafactory.excerpt.config.ExcerptTrackerProperties;
+import com.epam.digital.data.platform.datafactory.feign.cache.CacheKeys;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.camunda.spin.json.SpinJsonNode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * The class represents a tracker of excerpts that polls statuses of all pending excerpts from one
+ * scheduler instead of a polling loop per caller. Each excerpt is polled with growing delay with
+ * jitter, and total number of polls per second is capped. Statuses are polled on worker threads,
+ * so slow status requests don't delay the scheduler, and an excerpt is polled only when a worker
+ * is free.
+ * <p>
+ * The future of excerpt is completed with the last status response when the status is completed,
+ * and fails with {@link ExcerptProcessingException} when the status is failed, with
+ * {@link TimeoutException} when the status isn't terminal in timeout, or with the last error when
+ * status can't be got several times in a row.
+ */
+public class ExcerptTracker implements AutoCloseable {
+
+  static final String METRIC_POLLS = "datafactory.excerpt.tracker.polls";
+  static final String METRIC_PENDING = "datafactory.excerpt.tracker.pending";
+
+  private static final long TICK_MILLIS = 50;
+  private static final String EXCERPT_IDENTIFIER = "excerptIdentifier";
+
+  private final ExcerptFeignClient excerptFeignClient;
+  private final ExcerptTrackerProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService workers;
+  private final int maxPolling;
+  private final AtomicInteger polling = new AtomicInteger();
+  private final Map<String, PendingExcerpt> pending = new ConcurrentHashMap<>();
+  private final PriorityBlockingQueue<PendingExcerpt> queue = new PriorityBlockingQueue<>(64,
+      Comparator.comparingLong(PendingExcerpt::getNextPollAt));
+  private double tokens;
+  private long lastRefillAt = System.nanoTime();
+
+  public ExcerptTracker(ExcerptFeignClient excerptFeignClient,
+      ExcerptTrackerProperties properties, MeterRegistry meterRegistry) {
+    this.excerptFeignClient = excerptFeignClient;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    var schedulerThreadFactory = new CustomizableThreadFactory("excerpt-tracker-scheduler-");
+    schedulerThreadFactory.setDaemon(true);
+    this.scheduler = new ScheduledThreadPoolExecutor(1, schedulerThreadFactory);
+    var workerThreadFactory = new CustomizableThreadFactory("excerpt-tracker-");
+    workerThreadFactory.setDaemon(true);
+    this.maxPolling = Math.max(properties.getThreads(), 1);
+    var workerPool = new ThreadPoolExecutor(maxPolling, maxPolling, 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), workerThreadFactory);
+    workerPool.allowCoreThreadTimeOut(true);
+    this.workers = workerPool;
+    this.scheduler.scheduleWithFixedDelay(this::pollDue, TICK_MILLIS, TICK_MILLIS,
+        TimeUnit.MILLISECONDS);
+    Gauge.builder(METRIC_PENDING, pending, Map::size).register(meterRegistry);
+  }
+
+  /**
+   * Create excerpt and track its status
+   *
+   * @param body    excerpt request body
+   * @param headers http headers that are used both to create excerpt and to poll its status
+   * @return future of the last status response
+   * @see ExcerptFeignClient#performPost(String, HttpHeaders)
+   */
+  public CompletableFuture<ConnectorResponse> createAndTrack(String body, HttpHeaders headers) {
+    var response = excerptFeignClient.performPost(body, headers);
+    var responseBody = response.getResponseBody();
+    if (Objects.isNull(responseBody) || !responseBody.hasProp(EXCERPT_IDENTIFIER)) {
+      return CompletableFuture.failedFuture(
+          new IllegalStateException("Excerpt identifier is absent in excerpt response"));
+    }
+    return track(responseBody.prop(EXCERPT_IDENTIFIER).stringValue(), headers);
+  }
+
+  /**
+   * Track status of excerpt, tracking of the same excerpt id with the same authorization headers
+   * returns the same future while it is pending. Callers with other authorization headers get
+   * their own future, so status is always polled with the caller's token. Cancelling of the future
+   * stops tracking.
+   *
+   * @param excerptId excerpt identifier
+   * @param headers   http headers used to poll status
+   * @return future of the last status response
+   */
+  public CompletableFuture<ConnectorResponse> track(String excerptId, HttpHeaders headers) {
+    var key = pendingKey(excerptId, headers);
+    var created = new PendingExcerpt[1];
+    var excerpt = pending.computeIfAbsent(key, k -> {
+      created[0] = new PendingExcerpt(excerptId, headers, System.nanoTime());
+      return created[0];
+    });
+    if (Objects.nonNull(created[0])) {
+      excerpt.future.whenComplete((response, e) -> pending.remove(key, excerpt));
+      schedule(excerpt, properties.getInitialDelay().toNanos());
+    }
+    return excerpt.future;
+  }
+
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    workers.shutdownNow();
+    pending.values().forEach(excerpt -> excerpt.future.cancel(false));
+  }
+
+  private void pollDue() {
+    var now = System.nanoTime();
+    var maxTokens = Math.max(properties.getMaxPollsPerSecond(), 1);
+    tokens = Math.min(maxTokens,
+        tokens + (now - lastRefillAt) / 1e9 * properties.getMaxPollsPerSecond());
+    lastRefillAt = now;
+    while (tokens >= 1 && polling.get() < maxPolling) {
+      var head = queue.peek();
+      if (Objects.isNull(head) || head.getNextPollAt() > now) {
+        return;
+      }
+      var excerpt = queue.poll();
+      if (excerpt.future.isDone()) {
+        continue;
+      }
+      tokens--;
+      polling.incrementAndGet();
+      workers.execute(() -> {
+        try {
+          poll(excerpt);
+        } finally {
+          polling.decrementAndGet();
+        }
+      });
+    }
+  }
+
+  private String pendingKey(String excerptId, HttpHeaders headers) {
+    var scope = new StringBuilder();
+    if (Objects.nonNull(headers)) {
+      for (var name : properties.getAuthorizationHeaders()) {
+        var value = headers.getFirst(name);
+        if (Objects.nonNull(value)) {
+          scope.append(name).append('=').append(value).append('\n');
+        }
+      }
+    }
+    return scope.length() == 0 ? excerptId
+        : excerptId + ' ' + CacheKeys.sha256(scope.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void poll(PendingExcerpt excerpt) {
+    try {
+      var response = excerptFeignClient.performGet(excerpt.excerptId, excerpt.headers);
+      excerpt.consecutiveErrors = 0;
+      var status = property(response.getResponseBody(), properties.getStatusField());
+      if (properties.getCompletedStatuses().contains(status)) {
+        count("completed");
+        excerpt.future.complete(response);
+      } else if (properties.getFailedStatuses().contains(status)) {
+        count("failed");
+        excerpt.future.completeExceptionally(new ExcerptProcessingException(excerpt.excerptId,
+            status, property(response.getResponseBody(), properties.getStatusDetailsField())));
+      } else {
+        count("pending");
+        reschedule(excerpt);
+      }
+    } catch (Exception e) {
+      count("error");
+      if (++excerpt.consecutiveErrors >= properties.getMaxConsecutiveErrors()) {
+        excerpt.future.completeExceptionally(e);
+      } else {
+        reschedule(excerpt);
+      }
+    }
+  }
+
+  private void reschedule(PendingExcerpt excerpt) {
+    if (System.nanoTime() - excerpt.trackedAt >= properties.getTimeout().toNanos()) {
+      excerpt.future.completeExceptionally(new TimeoutException(String.format(
+          "Excerpt %s hasn't finished in %s", excerpt.excerptId, properties.getTimeout())));
+      return;
+    }
+    excerpt.attempt++;
+    var delay = Math.min(properties.getInitialDelay().toNanos()
+        * Math.pow(properties.getMultiplier(), excerpt.attempt),
+        properties.getMaxDelay().toNanos());
+    schedule(excerpt, (long) delay);
+  }
+
+  private void schedule(PendingExcerpt excerpt, long delayNanos) {
+    var jitter = Math.min(Math.max(properties.getJitter(), 0), 1);
+    var jittered = jitter == 0 ? delayNanos
+        : (long) (delayNanos * ThreadLocalRandom.current().nextDouble(1 - jitter, 1 + jitter));
+    excerpt.nextPollAt = System.nanoTime() + jittered;
+    queue.add(excerpt);
+  }
+
+  private void count(String result) {
+    Counter.builder(METRIC_POLLS).tag("result", result).register(meterRegistry).increment();
+  }
+
+  private static String property(SpinJsonNode node, String name) {
+    if (Objects.isNull(node) || !node.hasProp(name) || node.prop(name).isNull()) {
+      return null;
+    }
+    return node.prop(name).value().toString();
+  }
+
+  private static class PendingExcerpt {
+
+    private final String excerptId;
+    private final HttpHeaders headers;
+    private final long trackedAt;
+    private final CompletableFuture<ConnectorResponse> future = new CompletableFuture<>();
+    private volatile long nextPollAt;
+    private int attempt;
+    private int consecutiveErrors;
+
+    private PendingExcerpt(String excerptId, HttpHeaders headers, long trackedAt) {
+      this.excerptId = excerptId;
+      this.headers = headers;
+      this.trackedAt = trackedAt;
+    }
+
+    private long getNextPollAt() {
+      return nextPollAt;
+    }
+  }
+}
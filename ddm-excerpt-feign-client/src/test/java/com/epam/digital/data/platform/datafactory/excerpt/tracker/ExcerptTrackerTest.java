@@ -0,0 +1,162 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.excerpt.tracker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.datafactory.excerpt.client.ExcerptFeignClient;
+import com.epam.digital.data.platform.datafactory.excerpt.config.ExcerptTrackerProperties;
+import com.epam.digital.data.platform.datafactory.feign.model.response.ConnectorResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class ExcerptTrackerTest {
+
+  private ExcerptFeignClient excerptFeignClient;
+  private ExcerptTrackerProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+  private ExcerptTracker excerptTracker;
+
+  @BeforeEach
+  void beforeEach() {
+    excerptFeignClient = mock(ExcerptFeignClient.class);
+    properties = new ExcerptTrackerProperties();
+    properties.setInitialDelay(Duration.ofMillis(10));
+    properties.setMaxDelay(Duration.ofMillis(20));
+    properties.setMaxPollsPerSecond(1000);
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void afterEach() {
+    if (excerptTracker != null) {
+      excerptTracker.close();
+    }
+  }
+
+  @Test
+  void expectFutureIsCompletedWhenExcerptIsCompleted() throws Exception {
+    when(excerptFeignClient.performPost(any(), any()))
+        .thenReturn(response("{\"excerptIdentifier\":\"excerpt\"}"));
+    when(excerptFeignClient.performGet(eq("excerpt"), any())).thenReturn(
+        response("{\"status\":\"IN_PROGRESS\"}"), response("{\"status\":\"COMPLETED\"}"));
+    excerptTracker = new ExcerptTracker(excerptFeignClient, properties, meterRegistry);
+
+    var response = excerptTracker.createAndTrack("{}", headers("token"))
+        .get(5, TimeUnit.SECONDS);
+
+    assertThat(response.getResponseBody().prop("status").value()).isEqualTo("COMPLETED");
+    assertThat(excerptTracker.getPendingCount()).isZero();
+  }
+
+  @Test
+  void expectFutureFailsWhenExcerptIsFailed() {
+    when(excerptFeignClient.performGet(eq("excerpt"), any())).thenReturn(
+        response("{\"status\":\"FAILED\",\"statusDetails\":\"details\"}"));
+    excerptTracker = new ExcerptTracker(excerptFeignClient, properties, meterRegistry);
+
+    var future = excerptTracker.track("excerpt", headers("token"));
+
+    assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ExcerptProcessingException.class);
+  }
+
+  @Test
+  void expectFutureIsSharedOnlyByCallersWithTheSameToken() {
+    properties.setInitialDelay(Duration.ofMinutes(1));
+    excerptTracker = new ExcerptTracker(excerptFeignClient, properties, meterRegistry);
+
+    var first = excerptTracker.track("excerpt", headers("first-token"));
+    var same = excerptTracker.track("excerpt", headers("first-token"));
+    var other = excerptTracker.track("excerpt", headers("second-token"));
+
+    assertThat(same).isSameAs(first);
+    assertThat(other).isNotSameAs(first);
+    assertThat(excerptTracker.getPendingCount()).isEqualTo(2);
+  }
+
+  @Test
+  void expectStatusIsPolledWithTokenOfEachCaller() throws Exception {
+    when(excerptFeignClient.performGet(eq("excerpt"), any()))
+        .thenReturn(response("{\"status\":\"COMPLETED\"}"));
+    excerptTracker = new ExcerptTracker(excerptFeignClient, properties, meterRegistry);
+
+    var first = excerptTracker.track("excerpt", headers("first-token"));
+    var second = excerptTracker.track("excerpt", headers("second-token"));
+    first.get(5, TimeUnit.SECONDS);
+    second.get(5, TimeUnit.SECONDS);
+
+    verify(excerptFeignClient, atLeastOnce()).performGet(eq("excerpt"),
+        argThat(headers -> "first-token".equals(headers.getFirst("X-Access-Token"))));
+    verify(excerptFeignClient, atLeastOnce()).performGet(eq("excerpt"),
+        argThat(headers -> "second-token".equals(headers.getFirst("X-Access-Token"))));
+  }
+
+  @Test
+  void expectSlowPollDoesNotBlockOtherExcerpts() throws Exception {
+    var release = new CountDownLatch(1);
+    properties.setThreads(2);
+    when(excerptFeignClient.performGet(eq("slow-excerpt"), any())).thenAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return response("{\"status\":\"COMPLETED\"}");
+    });
+    when(excerptFeignClient.performGet(eq("fast-excerpt"), any()))
+        .thenReturn(response("{\"status\":\"COMPLETED\"}"));
+    excerptTracker = new ExcerptTracker(excerptFeignClient, properties, meterRegistry);
+
+    var slow = excerptTracker.track("slow-excerpt", headers("token"));
+    var fast = excerptTracker.track("fast-excerpt", headers("token"));
+
+    try {
+      assertThat(fast.get(5, TimeUnit.SECONDS)).isNotNull();
+      assertThat(slow).isNotDone();
+    } finally {
+      release.countDown();
+    }
+    assertThat(slow.get(5, TimeUnit.SECONDS)).isNotNull();
+  }
+
+  private static HttpHeaders headers(String token) {
+    var headers = new HttpHeaders();
+    headers.add("X-Access-Token", token);
+    return headers;
+  }
+
+  private static ConnectorResponse response(String body) {
+    return ConnectorResponse.builder()
+        .statusCode(200)
+        .rawBody(body.getBytes(StandardCharsets.UTF_8))
+        .build();
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.settings.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class UserSettingsCacheTest {
+
+  private static final byte[] SETTINGS = "{}".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  void expectExpiredEntriesOfUserAreRemovedOnPut() {
+    var cache = new UserSettingsCache(10);
+    cache.put("user", "token-1", SETTINGS, cache.readStarted(), 0, 100);
+    cache.put("user", "token-2", SETTINGS, cache.readStarted(), 50, 150);
+
+    cache.put("user", "token-3", SETTINGS, cache.readStarted(), 120, 220);
+
+    assertThat(cache.size("user")).isEqualTo(2);
+    assertThat(cache.get("user", "token-1", 120)).isNull();
+    assertThat(cache.get("user", "token-2", 120)).isEqualTo(SETTINGS);
+  }
+
+  @Test
+  void expectExpiredEntryIsRemovedOnGet() {
+    var cache = new UserSettingsCache(10);
+    cache.put("user", "token", SETTINGS, cache.readStarted(), 0, 100);
+
+    assertThat(cache.get("user", "token", 100)).isNull();
+    assertThat(cache.size("user")).isZero();
+  }
+
+  @Test
+  void expectEntriesPerUserAreBounded() {
+    var cache = new UserSettingsCache(10);
+    for (int i = 0; i <= UserSettingsCache.MAX_ENTRIES_PER_USER; i++) {
+      cache.put("user", "token-" + i, SETTINGS, cache.readStarted(), 0, 100);
+    }
+
+    assertThat(cache.size("user")).isEqualTo(UserSettingsCache.MAX_ENTRIES_PER_USER);
+    assertThat(cache.get("user", "token-0", 0)).isNull();
+    assertThat(cache.get("user", "token-" + UserSettingsCache.MAX_ENTRIES_PER_USER, 0))
+        .isEqualTo(SETTINGS);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.settings.it.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.datafactory.settings.client.UserSettingsFeignClient;
+import com.epam.digital.data.platform.datafactory.settings.it.builder.StubRequest;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+class UserSettingsCacheIT extends BaseIT {
+
+  private static final String RESPONSE_BODY =
+      "{\"settingsId\": \"3fa85f64-5717-4562-b3fc-2c963f66afa6\",\"channels\":[]}";
+
+  @Autowired
+  private UserSettingsFeignClient userSettingsFeignClient;
+  @Autowired
+  @Qualifier("userSettingsFeignClientWireMock")
+  private WireMockServer userSettingsFeignClientWireMock;
+
+  @Test
+  void shouldReturnCachedSettingsOfUser() {
+    var userId = UUID.randomUUID().toString();
+    var headers = headers(userId);
+    mockGet("/api/settings/" + userId, headers);
+
+    var first = userSettingsFeignClient.performGetByUserId(UUID.fromString(userId), headers);
+    first.getChannels().clear();
+    var second = userSettingsFeignClient.performGetByUserId(UUID.fromString(userId), headers);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getSettingsId()).hasToString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+    userSettingsFeignClientWireMock.verify(1,
+        getRequestedFor(urlPathEqualTo("/api/settings/" + userId)));
+  }
+
+  @Test
+  void shouldInvalidateCachedSettingsOnChannelActivation() {
+    var userId = UUID.randomUUID().toString();
+    var headers = headers(userId);
+    mockGet("/api/settings/me", headers);
+    mockUserSettingsFeignClient(StubRequest.builder()
+        .path("/api/settings/me/channels/diia/activate")
+        .method(HttpMethod.POST)
+        .requestHeaders(headers)
+        .status(200)
+        .build());
+
+    userSettingsFeignClient.performGet(headers);
+    userSettingsFeignClient.performGet(headers);
+    userSettingsFeignClient.activateDiiaChannel(headers);
+    userSettingsFeignClient.performGet(headers);
+
+    userSettingsFeignClientWireMock.verify(2,
+        getRequestedFor(urlPathEqualTo("/api/settings/me"))
+            .withHeader("X-Access-Token", WireMock.equalTo(headers.getFirst("X-Access-Token"))));
+  }
+
+  @Test
+  void shouldNotShareCachedSettingsBetweenTokensWithSameSubject() {
+    var userId = UUID.randomUUID().toString();
+    var headers = headers(userId, "signature");
+    var forgedHeaders = headers(userId, "forged");
+    mockGet("/api/settings/me", headers);
+    mockGet("/api/settings/me", forgedHeaders);
+
+    userSettingsFeignClient.performGet(headers);
+    userSettingsFeignClient.performGet(forgedHeaders);
+    userSettingsFeignClient.performGet(forgedHeaders);
+
+    userSettingsFeignClientWireMock.verify(1,
+        getRequestedFor(urlPathEqualTo("/api/settings/me"))
+            .withHeader("X-Access-Token", WireMock.equalTo(headers.getFirst("X-Access-Token"))));
+    userSettingsFeignClientWireMock.verify(1,
+        getRequestedFor(urlPathEqualTo("/api/settings/me"))
+            .withHeader("X-Access-Token",
+                WireMock.equalTo(forgedHeaders.getFirst("X-Access-Token"))));
+  }
+
+  private void mockGet(String path, HttpHeaders headers) {
+    mockUserSettingsFeignClient(StubRequest.builder()
+        .path(path)
+        .method(HttpMethod.GET)
+        .requestHeaders(headers)
+        .status(200)
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .responseBody(RESPONSE_BODY)
+        .build());
+  }
+
+  private HttpHeaders headers(String subject) {
+    return headers(subject, "signature");
+  }
+
+  private HttpHeaders headers(String subject, String signature) {
+    var encoder = Base64.getUrlEncoder().withoutPadding();
+    var header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+    var payload = encoder.encodeToString(
+        ("{\"sub\":\"" + subject + "\"}").getBytes(StandardCharsets.UTF_8));
+    var headers = new HttpHeaders();
+    headers.add("Content-Type", "application/json");
+    headers.add("X-Access-Token", header + "." + payload + "." + signature);
+    return headers;
+  }
+}
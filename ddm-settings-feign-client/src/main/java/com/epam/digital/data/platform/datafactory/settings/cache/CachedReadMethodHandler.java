@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.settings.cache;
+
+import com.epam.digital.data.platform.settings.model.dto.SettingsReadDto;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import feign.InvocationHandlerFactory.MethodHandler;
+import io.micrometer.core.instrument.Counter;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents method handler of user settings reads that returns cached settings of the
+ * user while they are fresh. Settings are cached per access token of the caller in serialized
+ * form, so each caller gets its own copy.
+ */
+class CachedReadMethodHandler implements MethodHandler {
+
+  private final MethodHandler delegate;
+  private final UserSettingsCache cache;
+  private final UserSettingsCaller caller;
+  private final Function<Object[], String> userId;
+  private final Duration ttl;
+  private final ObjectReader reader;
+  private final ObjectWriter writer;
+  private final Clock clock;
+  private final Counter hits;
+  private final Counter misses;
+
+  CachedReadMethodHandler(MethodHandler delegate, UserSettingsCache cache,
+      UserSettingsCaller caller, Function<Object[], String> userId, Duration ttl,
+      ObjectReader reader, ObjectWriter writer, Clock clock, Counter hits, Counter misses) {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.caller = caller;
+    this.userId = userId;
+    this.ttl = ttl;
+    this.reader = reader;
+    this.writer = writer;
+    this.clock = clock;
+    this.hits = hits;
+    this.misses = misses;
+  }
+
+  @Override
+  public Object invoke(Object[] argv) throws Throwable {
+    var callerId = caller.key(headers(argv));
+    var user = Objects.isNull(callerId) ? null : userId.apply(argv);
+    if (Objects.isNull(user)) {
+      return delegate.invoke(argv);
+    }
+    var cached = cache.get(user, callerId, clock.millis());
+    if (Objects.nonNull(cached)) {
+      hits.increment();
+      return reader.readValue(cached);
+    }
+    misses.increment();
+    var readStartedAt = cache.readStarted();
+    var settings = delegate.invoke(argv);
+    if (settings instanceof SettingsReadDto) {
+      var now = clock.millis();
+      cache.put(user, callerId, writer.writeValueAsBytes(settings), readStartedAt, now,
+          now + ttl.toMillis());
+    }
+    return settings;
+  }
+
+  static HttpHeaders headers(Object[] argv) {
+    for (var arg : argv) {
+      if (arg instanceof HttpHeaders) {
+        return (HttpHeaders) arg;
+      }
+    }
+    return null;
+  }
+}
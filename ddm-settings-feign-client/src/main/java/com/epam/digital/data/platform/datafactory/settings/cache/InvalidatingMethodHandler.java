@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.settings.cache;
+
+import feign.InvocationHandlerFactory.MethodHandler;
+import java.util.Objects;
+
+/**
+ * The class represents method handler of user settings changes that invalidates cached settings
+ * of the calling user both before and after the change, even if the change has failed.
+ */
+class InvalidatingMethodHandler implements MethodHandler {
+
+  private final MethodHandler delegate;
+  private final UserSettingsCache cache;
+  private final UserSettingsCaller caller;
+
+  InvalidatingMethodHandler(MethodHandler delegate, UserSettingsCache cache,
+      UserSettingsCaller caller) {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.caller = caller;
+  }
+
+  @Override
+  public Object invoke(Object[] argv) throws Throwable {
+    var user = caller.user(CachedReadMethodHandler.headers(argv));
+    if (Objects.isNull(user)) {
+      return delegate.invoke(argv);
+    }
+    cache.invalidate(user);
+    try {
+      return delegate.invoke(argv);
+    } finally {
+      cache.invalidate(user);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.settings.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The class represents a size bounded cache of serialized user settings. Entries are grouped by
+ * user, so all entries of a user are invalidated at once when the user changes settings, and
+ * least recently used users are evicted when the cache is full.
+ * <p>
+ * Each user keeps entries of a bounded number of recent callers, expired entries are removed when
+ * they are read or when settings of the user are stored, so rotated access tokens of a frequently
+ * read user don't pile up.
+ * <p>
+ * Every invalidation gets a sequence number, settings read before the last invalidation of the
+ * user aren't stored, so a read that races with a change doesn't put stale settings back.
+ */
+class UserSettingsCache {
+
+  static final int MAX_ENTRIES_PER_USER = 16;
+
+  private final int maxUsers;
+  private final AtomicLong sequence = new AtomicLong();
+  private final Map<String, UserEntries> users;
+
+  UserSettingsCache(int maxUsers) {
+    this.maxUsers = maxUsers;
+    this.users = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, UserEntries> eldest) {
+        return size() > UserSettingsCache.this.maxUsers;
+      }
+    };
+  }
+
+  /**
+   * @return sequence number that has to be passed to {@link #put} of settings read after the call
+   */
+  long readStarted() {
+    return sequence.get();
+  }
+
+  synchronized byte[] get(String userId, String caller, long now) {
+    var entries = users.get(userId);
+    if (Objects.isNull(entries)) {
+      return null;
+    }
+    var entry = entries.values.get(caller);
+    if (Objects.isNull(entry)) {
+      return null;
+    }
+    if (entry.expiresAt <= now) {
+      entries.values.remove(caller);
+      return null;
+    }
+    return entry.settings;
+  }
+
+  synchronized void put(String userId, String caller, byte[] settings, long readStartedAt,
+      long now, long expiresAt) {
+    var entries = users.computeIfAbsent(userId, id -> new UserEntries(0));
+    if (readStartedAt < entries.invalidatedAt) {
+      return;
+    }
+    entries.values.values().removeIf(entry -> entry.expiresAt <= now);
+    entries.values.put(caller, new Entry(settings, expiresAt));
+  }
+
+  synchronized int size(String userId) {
+    var entries = users.get(userId);
+    return Objects.isNull(entries) ? 0 : entries.values.size();
+  }
+
+  synchronized void invalidate(String userId) {
+    users.put(userId, new UserEntries(sequence.incrementAndGet()));
+  }
+
+  synchronized int size() {
+    return users.size();
+  }
+
+  private static class UserEntries {
+
+    private final long invalidatedAt;
+    private final Map<String, Entry> values = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > MAX_ENTRIES_PER_USER;
+      }
+    };
+
+    private UserEntries(long invalidatedAt) {
+      this.invalidatedAt = invalidatedAt;
+    }
+  }
+
+  private static class Entry {
+
+    private final byte[] settings;
+    private final long expiresAt;
+
+    private Entry(byte[] settings, long expiresAt) {
+      this.settings = settings;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
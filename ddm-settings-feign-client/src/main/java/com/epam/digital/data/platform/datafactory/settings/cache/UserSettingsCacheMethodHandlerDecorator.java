@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.settings.cache;
+
+import com.epam.digital.data.platform.datafactory.feign.http.FeignMethodHandlerDecorator;
+import com.epam.digital.data.platform.datafactory.settings.config.UserSettingsCacheProperties;
+import com.epam.digital.data.platform.settings.model.dto.SettingsReadDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.InvocationHandlerFactory.MethodHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The class represents decorator that caches settings of users read by user settings client.
+ * Settings are cached per access token of the caller, settings read with {@code performGet} are
+ * grouped by the subject of access token and settings read with {@code performGetByUserId} are
+ * grouped by the user id. Channel activation and deactivation invalidate all cached settings of the
+ * calling user.
+ */
+public class UserSettingsCacheMethodHandlerDecorator implements FeignMethodHandlerDecorator {
+
+  public static final String USER_SETTINGS_CLIENT = "user-settings-client";
+
+  static final String METRIC_REQUESTS = "datafactory.settings.cache.requests";
+  static final String METRIC_SIZE = "datafactory.settings.cache.users";
+
+  private static final Set<String> WRITE_METHODS = Set.of("activateEmailChannel",
+      "activateDiiaChannel", "deactivateChannel");
+
+  private final UserSettingsCacheProperties properties;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
+  private final UserSettingsCache cache;
+  private final UserSettingsCaller caller;
+
+  public UserSettingsCacheMethodHandlerDecorator(UserSettingsCacheProperties properties,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this(properties, objectMapper, meterRegistry, Clock.systemUTC());
+  }
+
+  UserSettingsCacheMethodHandlerDecorator(UserSettingsCacheProperties properties,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry, Clock clock) {
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+    this.cache = new UserSettingsCache(properties.getMaxUsers());
+    this.caller = new UserSettingsCaller(properties.getAuthorizationHeaders(),
+        objectMapper.reader());
+    Gauge.builder(METRIC_SIZE, cache, UserSettingsCache::size).register(meterRegistry);
+  }
+
+  @Override
+  public MethodHandler decorate(String clientName, Method method, MethodHandler handler) {
+    if (!USER_SETTINGS_CLIENT.equals(clientName)) {
+      return handler;
+    }
+    if ("performGet".equals(method.getName())) {
+      return cachedRead(handler, argv -> caller.user(CachedReadMethodHandler.headers(argv)));
+    }
+    if ("performGetByUserId".equals(method.getName())) {
+      return cachedRead(handler, argv -> String.valueOf(argv[0]));
+    }
+    if (WRITE_METHODS.contains(method.getName())) {
+      return new InvalidatingMethodHandler(handler, cache, caller);
+    }
+    return handler;
+  }
+
+  @Override
+  public int getOrder() {
+    return USER_SETTINGS_CACHE_ORDER;
+  }
+
+  private MethodHandler cachedRead(MethodHandler handler,
+      Function<Object[], String> userId) {
+    return new CachedReadMethodHandler(handler, cache, caller, userId, properties.getTtl(),
+        objectMapper.readerFor(SettingsReadDto.class), objectMapper.writer(), clock,
+        counter("hit"), counter("miss"));
+  }
+
+  private Counter counter(String result) {
+    return Counter.builder(METRIC_REQUESTS)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.settings.cache;
+
+import com.epam.digital.data.platform.datafactory.feign.cache.CacheKeys;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The class represents resolver of user that calls user settings service. Cached settings are
+ * keyed by hash of the whole access token, so a token with the same subject but another signature
+ * doesn't get settings cached for the original token. The subject of access token only groups
+ * entries of the user for invalidation, if the token isn't a jwt with subject the token hash
+ * identifies the user.
+ */
+class UserSettingsCaller {
+
+  private static final String BEARER = "Bearer ";
+
+  private final List<String> authorizationHeaders;
+  private final ObjectReader jsonReader;
+
+  UserSettingsCaller(List<String> authorizationHeaders, ObjectReader jsonReader) {
+    this.authorizationHeaders = authorizationHeaders;
+    this.jsonReader = jsonReader;
+  }
+
+  /**
+   * @param headers request headers
+   * @return hash of access token that identifies cached entries of the caller or {@code null} if
+   * there is no access token
+   */
+  String key(HttpHeaders headers) {
+    var token = token(headers);
+    return Objects.isNull(token) ? null : CacheKeys.sha256(token.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @param headers request headers
+   * @return user whose cached entries are invalidated together or {@code null} if there is no
+   * access token
+   */
+  String user(HttpHeaders headers) {
+    var token = token(headers);
+    if (Objects.isNull(token)) {
+      return null;
+    }
+    var subject = subject(token);
+    return Objects.nonNull(subject) ? subject
+        : CacheKeys.sha256(token.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String token(HttpHeaders headers) {
+    if (Objects.isNull(headers)) {
+      return null;
+    }
+    for (var name : authorizationHeaders) {
+      var token = headers.getFirst(name);
+      if (Objects.nonNull(token) && !token.isBlank()) {
+        return token.regionMatches(true, 0, BEARER, 0, BEARER.length())
+            ? token.substring(BEARER.length()) : token;
+      }
+    }
+    return null;
+  }
+
+  private String subject(String token) {
+    var parts = token.split("\\.");
+    if (parts.length != 3) {
+      return null;
+    }
+    try {
+      JsonNode claims = jsonReader.readTree(Base64.getUrlDecoder().decode(parts[1]));
+      var subject = claims.get("sub");
+      return Objects.isNull(subject) || !subject.isTextual() ? null : subject.asText();
+    } catch (IllegalArgumentException | IOException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.datafactory.settings.config;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The class represents properties of cache of user settings read by user settings client.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "data-factory.user-settings-cache")
+public class UserSettingsCacheProperties {
+
+  private boolean enabled;
+  private Duration ttl = Duration.ofMinutes(1);
+  private int maxUsers = 10000;
+  /**
+   * Headers with access token that identifies the calling user
+   */
+  private List<String> authorizationHeaders = List.of("X-Access-Token", "Authorization");
+}
@@ -16,20 +16,26 @@
 
 package com.epam.digital.data.platform.datafactory.settings.config;
 
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryFeignClientConfiguration;
+import com.epam.digital.data.platform.datafactory.feign.config.DataFactoryResponseDecoderProperties;
 import com.epam.digital.data.platform.datafactory.feign.decoder.DataFactoryErrorDecoder;
 import com.epam.digital.data.platform.starter.localization.MessageResolver;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.codec.ErrorDecoder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 
 /**
  * The class represents a configuration for feign clients that is used for response decoding.
  */
+@Import(DataFactoryFeignClientConfiguration.class)
 public class UserSettingsFeignDecoderConfiguration {
 
   @Bean
   public DataFactoryErrorDecoder dataFactoryErrorDecoder(ObjectMapper objectMapper,
-      MessageResolver messageResolver) {
-    return new DataFactoryErrorDecoder(objectMapper, messageResolver, new ErrorDecoder.Default());
+      MessageResolver messageResolver, DataFactoryResponseDecoderProperties properties) {
+    return new DataFactoryErrorDecoder(objectMapper, messageResolver, new ErrorDecoder.Default(),
+        Math.toIntExact(properties.getMaxErrorBodySize().toBytes()),
+        Math.toIntExact(properties.getMaxValidationErrorBodySize().toBytes()));
   }
 }